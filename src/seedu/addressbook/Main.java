@@ -17,15 +17,20 @@ public class Main extends Application implements Stoppable{
     public static final String VERSION = "AddressBook Level 3 - Version 1.0";
 
     private Gui gui;
+    private Logic logic;
 
     @Override
     public void start(Stage primaryStage) throws Exception{
-        gui = new Gui(new Logic(), VERSION);
+        logic = new Logic();
+        gui = new Gui(logic, VERSION);
         gui.start(primaryStage, this);
     }
 
     @Override
     public void stop() throws Exception {
+        if (logic != null) {
+            logic.flushStorage();
+        }
         super.stop();
         Platform.exit();
         System.exit(0);
@@ -13,7 +13,7 @@ import static seedu.addressbook.ui.Gui.DISPLAYED_INDEX_OFFSET;
  */
 public abstract class Command {
     protected AddressBook addressBook;
-    protected List<? extends ReadOnlyPerson> relevantPersons;
+    protected PersonCursor shownPersons;
     private int targetIndex = -1;
 
     /**
@@ -36,6 +36,21 @@ public abstract class Command {
         return String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, personsDisplayed.size());
     }
 
+    /**
+     * Constructs a feedback message to summarise an operation that displayed a page of a listing of persons.
+     *
+     * @param pageDisplayed used to generate summary
+     * @return summary message for the page displayed
+     */
+    public static String getMessageForPageShownSummary(PersonCursor pageDisplayed) {
+        if (pageDisplayed.getPage().isEmpty()) {
+            return getMessageForPersonListShownSummary(pageDisplayed.getAllPersons());
+        }
+        final int firstShown = pageDisplayed.getPageStart() + DISPLAYED_INDEX_OFFSET;
+        return String.format(Messages.MESSAGE_PERSONS_PAGE_SHOWN_OVERVIEW, firstShown,
+                firstShown + pageDisplayed.getPage().size() - 1, pageDisplayed.getAllPersons().size());
+    }
+
     /**
      * Executes the command and returns the result.
      */
@@ -46,21 +61,32 @@ public abstract class Command {
     //Note: it is better to make the execute() method abstract, by replacing the above method with the line below:
     //public abstract CommandResult execute();
 
+    /**
+     * Returns a key identifying the query this command makes, if the command does not change anything and its
+     * result only depends on the persons in the address book, or null otherwise.
+     * Commands with equal keys give equal results on the same address book, so their results can be cached.
+     */
+    public String getQueryKey() {
+        return null;
+    }
+
     /**
      * Supplies the data the command will operate on.
+     *
+     * @param shownPersons the page of the last shown list that is visible to the user
      */
-    public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons) {
+    public void setData(AddressBook addressBook, PersonCursor shownPersons) {
         this.addressBook = addressBook;
-        this.relevantPersons = relevantPersons;
+        this.shownPersons = shownPersons;
     }
 
     /**
-     * Extracts the the target person in the last shown list from the given arguments.
+     * Extracts the the target person in the visible page of the last shown list from the given arguments.
      *
-     * @throws IndexOutOfBoundsException if the target index is out of bounds of the last viewed listing
+     * @throws IndexOutOfBoundsException if the target index is out of bounds of the visible page
      */
     protected ReadOnlyPerson getTargetPerson() throws IndexOutOfBoundsException {
-        return relevantPersons.get(getTargetIndex() - DISPLAYED_INDEX_OFFSET);
+        return shownPersons.getPerson(getTargetIndex());
     }
 
     public int getTargetIndex() {
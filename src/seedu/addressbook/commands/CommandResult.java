@@ -16,14 +16,29 @@ public class CommandResult {
     /** The list of persons that was produced by the command */
     private final List<? extends ReadOnlyPerson> relevantPersons;
 
+    /** The page of {@link #relevantPersons} to show, or null if the persons have not been paged */
+    private final PersonCursor shownPersons;
+
     public CommandResult(String feedbackToUser) {
         this.feedbackToUser = feedbackToUser;
         relevantPersons = null;
+        shownPersons = null;
     }
 
     public CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons) {
         this.feedbackToUser = feedbackToUser;
         this.relevantPersons = relevantPersons;
+        shownPersons = null;
+    }
+
+    /**
+     * Constructs a result showing the given page of persons, with all the persons of the cursor as the relevant
+     * persons.
+     */
+    public CommandResult(String feedbackToUser, PersonCursor shownPersons) {
+        this.feedbackToUser = feedbackToUser;
+        this.relevantPersons = shownPersons.getAllPersons();
+        this.shownPersons = shownPersons;
     }
 
     /**
@@ -33,4 +48,11 @@ public class CommandResult {
         return Optional.ofNullable(relevantPersons);
     }
 
+    /**
+     * Returns the page of the relevant persons to show, if they have been paged.
+     */
+    public Optional<PersonCursor> getShownPersons() {
+        return Optional.ofNullable(shownPersons);
+    }
+
 }
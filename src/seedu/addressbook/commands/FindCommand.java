@@ -30,6 +30,11 @@ public class FindCommand extends Command {
         return new HashSet<>(keywords);
     }
 
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + new TreeSet<>(keywords);
+    }
+
     @Override
     public CommandResult execute() {
         final List<ReadOnlyPerson> personsFound = getPersonsWithNameContainingAnyKeyword(keywords);
@@ -43,14 +48,7 @@ public class FindCommand extends Command {
      * @return list of persons found
      */
     private List<ReadOnlyPerson> getPersonsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
-            final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedPersons.add(person);
-            }
-        }
-        return matchedPersons;
+        return addressBook.findPersonsWithNameContainingAnyWord(keywords);
     }
 
 }
@@ -0,0 +1,63 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds and lists all persons in address book with a word in their name that is within an edit distance of any of
+ * the argument keywords, so that misspelt keywords still find them. Matching is case insensitive.
+ */
+public class FindFuzzyCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String COMMAND_FLAG = "-f";
+    public static final String DISTANCE_PREFIX = "d/";
+
+    public static final int DEFAULT_MAX_DISTANCE = 1;
+    public static final int MAX_MAX_DISTANCE = 3;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG + ":\n"
+            + "Finds all persons with a word in their names that differs from any of the specified keywords "
+            + "in at most DISTANCE letters (inserted, deleted or changed; case-insensitive, default "
+            + DEFAULT_MAX_DISTANCE + ", at most " + MAX_MAX_DISTANCE + ") "
+            + "and displays them as a list with index numbers.\n\t"
+            + "Parameters: " + COMMAND_FLAG + " KEYWORD [MORE_KEYWORDS]... [" + DISTANCE_PREFIX + "DISTANCE]\n\t"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " alise bobb " + DISTANCE_PREFIX + "2";
+
+    private final Set<String> keywords;
+    private final int maxDistance;
+
+    public FindFuzzyCommand(Set<String> keywords, int maxDistance) {
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + COMMAND_FLAG + " " + DISTANCE_PREFIX + maxDistance + " "
+                + new TreeSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound =
+                addressBook.findPersonsWithNameWordWithinDistance(keywords, maxDistance);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
@@ -0,0 +1,49 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds and lists all persons in address book with a word in their name that sounds like any of the argument
+ * keywords, so that names heard rather than read still find them. Matching is case insensitive.
+ */
+public class FindPhoneticCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String COMMAND_FLAG = "-s";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG + ":\n"
+            + "Finds all persons with a word in their names that sounds like any of "
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n\t"
+            + "Parameters: " + COMMAND_FLAG + " KEYWORD [MORE_KEYWORDS]...\n\t"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " rupert smyth";
+
+    private final Set<String> keywords;
+
+    public FindPhoneticCommand(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + COMMAND_FLAG + " " + new TreeSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.findPersonsWithNameWordSoundingLikeAny(keywords);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
@@ -0,0 +1,49 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds and lists all persons in address book with a word in their name that starts with any of the argument
+ * prefixes. Prefix matching is case insensitive.
+ */
+public class FindPrefixCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String COMMAND_FLAG = "-p";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG + ":\n"
+            + "Finds all persons with a word in their names that starts with any of "
+            + "the specified prefixes (case-insensitive) and displays them as a list with index numbers.\n\t"
+            + "Parameters: " + COMMAND_FLAG + " PREFIX [MORE_PREFIXES]...\n\t"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " ali bo";
+
+    private final Set<String> prefixes;
+
+    public FindPrefixCommand(Set<String> prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns copy of prefixes in this command.
+     */
+    public Set<String> getPrefixes() {
+        return new HashSet<>(prefixes);
+    }
+
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + COMMAND_FLAG + " " + new TreeSet<>(prefixes);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.findPersonsWithNameWordStartingWithAny(prefixes);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds and lists the persons in address book whose names best match the argument keywords, best first.
+ * Matching is case insensitive.
+ */
+public class FindRankedCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String COMMAND_FLAG = "-r";
+    public static final String LIMIT_PREFIX = "k/";
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 1000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG + ":\n"
+            + "Finds the COUNT persons whose names best match the specified keywords (case-insensitive; default "
+            + DEFAULT_LIMIT + ", at most " + MAX_LIMIT + ") and displays them as a list with index numbers, best "
+            + "first: persons matching more keywords first, then persons matching more keywords as whole words, "
+            + "then persons with shorter names.\n\t"
+            + "Parameters: " + COMMAND_FLAG + " KEYWORD [MORE_KEYWORDS]... [" + LIMIT_PREFIX + "COUNT]\n\t"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " ali tan " + LIMIT_PREFIX + "5";
+
+    private final Set<String> keywords;
+    private final int limit;
+
+    public FindRankedCommand(Set<String> keywords, int limit) {
+        this.keywords = keywords;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + COMMAND_FLAG + " " + LIMIT_PREFIX + limit + " " + new TreeSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.findTopPersonsMatchingName(keywords, limit);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
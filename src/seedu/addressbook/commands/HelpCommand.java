@@ -15,7 +15,15 @@ public class HelpCommand extends Command {
             + "\n" + DeleteCommand.MESSAGE_USAGE
             + "\n" + ClearCommand.MESSAGE_USAGE
             + "\n" + FindCommand.MESSAGE_USAGE
+            + "\n" + FindPrefixCommand.MESSAGE_USAGE
+            + "\n" + FindFuzzyCommand.MESSAGE_USAGE
+            + "\n" + FindRankedCommand.MESSAGE_USAGE
+            + "\n" + FindPhoneticCommand.MESSAGE_USAGE
+            + "\n" + QueryCommand.MESSAGE_USAGE
             + "\n" + ListCommand.MESSAGE_USAGE
+            + "\n" + NextCommand.MESSAGE_USAGE
+            + "\n" + PrevCommand.MESSAGE_USAGE
+            + "\n" + PageSizeCommand.MESSAGE_USAGE
             + "\n" + ViewCommand.MESSAGE_USAGE
             + "\n" + ViewAllCommand.MESSAGE_USAGE
             + "\n" + HelpCommand.MESSAGE_USAGE
@@ -1,9 +1,5 @@
 package seedu.addressbook.commands;
 
-import seedu.addressbook.data.person.ReadOnlyPerson;
-
-import java.util.List;
-
 
 /**
  * Lists all persons in the address book to the user.
@@ -17,9 +13,15 @@ public class ListCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
 
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
-        List<ReadOnlyPerson> allPersons = addressBook.getAllPersons().immutableListView();
-        return new CommandResult(getMessageForPersonListShownSummary(allPersons), allPersons);
+        // not copied: the persons are read from the address book page by page, until it changes
+        final PersonCursor firstPage = new PersonCursor(addressBook, shownPersons.getPageSize());
+        return new CommandResult(getMessageForPersonListShownSummary(firstPage.getAllPersons()), firstPage);
     }
 }
@@ -0,0 +1,31 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.common.Messages;
+
+
+/**
+ * Shows the next page of the last shown list of persons.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Shows the next page of the last person listing.\n\t"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_NEXT_PAGE = "There are no more persons to show.";
+
+
+    @Override
+    public CommandResult execute() {
+        if (shownPersons.isOutdated()) {
+            return new CommandResult(String.format(Messages.MESSAGE_LISTING_OUTDATED, ListCommand.COMMAND_WORD));
+        }
+        if (!shownPersons.hasNext()) {
+            return new CommandResult(MESSAGE_NO_NEXT_PAGE);
+        }
+        final PersonCursor nextPage = shownPersons.next();
+        return new CommandResult(getMessageForPageShownSummary(nextPage), nextPage);
+    }
+}
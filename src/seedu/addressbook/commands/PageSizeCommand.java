@@ -0,0 +1,33 @@
+package seedu.addressbook.commands;
+
+
+/**
+ * Sets the number of persons shown per page, and shows the last shown list of persons again with pages of that
+ * size.
+ */
+public class PageSizeCommand extends Command {
+
+    public static final String COMMAND_WORD = "pagesize";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Sets the number of persons shown per page of a person listing (default "
+            + PersonCursor.DEFAULT_PAGE_SIZE + ", at most " + PersonCursor.MAX_PAGE_SIZE + ").\n\t"
+            + "Parameters: SIZE\n\t"
+            + "Example: " + COMMAND_WORD + " 20";
+
+    private final int pageSize;
+
+    public PageSizeCommand(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final PersonCursor resizedPage = shownPersons.withPageSize(pageSize);
+        return new CommandResult(getMessageForPageShownSummary(resizedPage), resizedPage);
+    }
+}
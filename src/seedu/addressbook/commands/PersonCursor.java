@@ -0,0 +1,154 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static seedu.addressbook.ui.Gui.DISPLAYED_INDEX_OFFSET;
+
+/**
+ * A page of a list of persons shown to the user, for paging through long results instead of showing them whole.
+ *
+ * The list itself is not copied, as the index numbers shown on every page are positions in the list, and must keep
+ * pointing at the same persons. So a list of all the persons in an address book is read from the address book while
+ * it has not changed: once it has, the cursor is outdated and cannot move to other pages, see {@link #isOutdated()}.
+ * Any other list must not be changed while it is paged through. Only the persons on the page are copied, when the
+ * cursor is created. Cursors are immutable; moving gives a new cursor.
+ */
+public class PersonCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final List<? extends ReadOnlyPerson> persons;
+    /** The address book whose persons are paged through, or null if the list is not read from an address book. */
+    private final AddressBook source;
+    /** The generation of the {@link #source} the persons are paged through as of. */
+    private final long sourceGeneration;
+    private final int pageStart;
+    private final int pageSize;
+    private final List<ReadOnlyPerson> page;
+
+    /**
+     * Creates a cursor at the first page of the given persons.
+     *
+     * @param persons must not be changed afterwards, e.g. the results of a search
+     */
+    public PersonCursor(List<? extends ReadOnlyPerson> persons, int pageSize) {
+        this(persons, null, 0, 0, pageSize);
+    }
+
+    /**
+     * Creates a cursor at the first page of all the persons in the given address book, without copying them.
+     */
+    public PersonCursor(AddressBook addressBook, int pageSize) {
+        this(addressBook.getAllPersonsView(), addressBook, addressBook.getGeneration(), 0, pageSize);
+    }
+
+    private PersonCursor(List<? extends ReadOnlyPerson> persons, AddressBook source, long sourceGeneration,
+            int pageStart, int pageSize) {
+        assert pageSize > 0 && pageStart >= 0;
+        this.persons = persons;
+        this.source = source;
+        this.sourceGeneration = sourceGeneration;
+        this.pageStart = pageStart;
+        this.pageSize = pageSize;
+        final int pageEnd = Math.min(pageStart + pageSize, persons.size());
+        this.page = pageStart < pageEnd
+                ? Collections.unmodifiableList(new ArrayList<>(persons.subList(pageStart, pageEnd)))
+                : Collections.emptyList();
+    }
+
+    /**
+     * Returns all the persons being paged through, not only the ones on this page.
+     */
+    public List<? extends ReadOnlyPerson> getAllPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the persons on this page.
+     */
+    public List<ReadOnlyPerson> getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the position of the first person of this page in the list of all persons, starting from 0.
+     */
+    public int getPageStart() {
+        return pageStart;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns true if the persons are read from an address book that has changed since this cursor was created, so
+     * that the other pages would no longer hold the persons with their index numbers. Only this page can be read.
+     */
+    public boolean isOutdated() {
+        return source != null && source.getGeneration() != sourceGeneration;
+    }
+
+    /**
+     * Assumption: not {@link #isOutdated()}.
+     */
+    public boolean hasNext() {
+        assert !isOutdated();
+        return pageStart + pageSize < persons.size();
+    }
+
+    public boolean hasPrevious() {
+        return pageStart > 0;
+    }
+
+    /**
+     * Returns a cursor at the page after this one.
+     * Assumption: {@link #hasNext()}, and not {@link #isOutdated()}.
+     */
+    public PersonCursor next() {
+        assert !isOutdated();
+        return new PersonCursor(persons, source, sourceGeneration, pageStart + pageSize, pageSize);
+    }
+
+    /**
+     * Returns a cursor at the page before this one.
+     * Assumption: {@link #hasPrevious()}, and not {@link #isOutdated()}.
+     */
+    public PersonCursor previous() {
+        assert !isOutdated();
+        return new PersonCursor(persons, source, sourceGeneration, Math.max(0, pageStart - pageSize), pageSize);
+    }
+
+    /**
+     * Returns a cursor over the same persons with pages of the given size, at the page with the first person of
+     * this page. If this cursor {@link #isOutdated()}, returns a cursor at the first page of the persons in the
+     * address book as it is now instead.
+     */
+    public PersonCursor withPageSize(int newPageSize) {
+        if (isOutdated()) {
+            return new PersonCursor(source, newPageSize);
+        }
+        return new PersonCursor(persons, source, sourceGeneration, pageStart / newPageSize * newPageSize,
+                newPageSize);
+    }
+
+    /**
+     * Returns the person with the given index number, as displayed on this page: the persons are numbered
+     * through all pages, so the first person on the second page is numbered one more than the page size.
+     *
+     * @throws IndexOutOfBoundsException if the person with that number is not on this page
+     */
+    public ReadOnlyPerson getPerson(int displayedIndex) throws IndexOutOfBoundsException {
+        final int positionOnPage = displayedIndex - DISPLAYED_INDEX_OFFSET - pageStart;
+        if (positionOnPage < 0) {
+            throw new IndexOutOfBoundsException("Index " + displayedIndex + " is before this page");
+        }
+        return page.get(positionOnPage);
+    }
+}
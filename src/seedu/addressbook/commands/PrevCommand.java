@@ -0,0 +1,31 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.common.Messages;
+
+
+/**
+ * Shows the previous page of the last shown list of persons.
+ */
+public class PrevCommand extends Command {
+
+    public static final String COMMAND_WORD = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Shows the previous page of the last person listing.\n\t"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_PREVIOUS_PAGE = "This is already the first page.";
+
+
+    @Override
+    public CommandResult execute() {
+        if (shownPersons.isOutdated()) {
+            return new CommandResult(String.format(Messages.MESSAGE_LISTING_OUTDATED, ListCommand.COMMAND_WORD));
+        }
+        if (!shownPersons.hasPrevious()) {
+            return new CommandResult(MESSAGE_NO_PREVIOUS_PAGE);
+        }
+        final PersonCursor previousPage = shownPersons.previous();
+        return new CommandResult(getMessageForPageShownSummary(previousPage), previousPage);
+    }
+}
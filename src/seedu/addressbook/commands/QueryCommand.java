@@ -0,0 +1,46 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.Query;
+
+import java.util.List;
+
+/**
+ * Finds and lists all persons in address book matching a query over their name, tags, email, phone and address.
+ * Matching is case insensitive.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Finds all persons matching the specified query and displays them as a list with index numbers. "
+            + "A query combines predicates with NOT, AND (also implied between predicates) and OR, and "
+            + "parentheses. name:WORD matches a whole name word and name:PREFIX* the start of one, tag:TAG a tag, "
+            + "and email:, phone: and address: any part of a non-private field (case-insensitive). "
+            + "Values with spaces go in double quotes.\n\t"
+            + "Parameters: QUERY\n\t"
+            + "Example: " + COMMAND_WORD + " tag:friends AND (name:ali* OR address:\"clementi ave\") NOT phone:9123";
+
+    private final Query query;
+
+    public QueryCommand(Query query) {
+        this.query = query;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    @Override
+    public String getQueryKey() {
+        return COMMAND_WORD + " " + query;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.findPersonsMatching(query);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
@@ -9,6 +9,10 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSON_NOT_IN_ADDRESSBOOK = "Person could not be found in address book";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PERSONS_PAGE_SHOWN_OVERVIEW = "Showing persons %1$d to %2$d of %3$d.";
+    public static final String MESSAGE_MORE_PERSONS_ON_NEXT_PAGE = "Enter %1$s to see more persons.";
+    public static final String MESSAGE_LISTING_OUTDATED =
+            "The address book has changed since this listing was shown. Enter %1$s to show it again.";
     public static final String MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE = "Launch command format: " +
             "java seedu.addressbook.Main [STORAGE_FILE_PATH]";
     public static final String MESSAGE_WELCOME = "Welcome to your Address Book!";
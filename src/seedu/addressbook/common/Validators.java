@@ -0,0 +1,118 @@
+package seedu.addressbook.common;
+
+/**
+ * Hand-written equivalents of the validation regexes of the person and tag fields, which scan the string once
+ * and allocate nothing.
+ *
+ * Each method accepts exactly the strings the regex it names fully matches (as in {@link String#matches(String)}),
+ * with the default {@link java.util.regex.Pattern} flags: {@code \d}, {@code \w} and {@code \p{Alnum}} only match
+ * ASCII characters, and {@code .} matches anything but a line terminator.
+ */
+public class Validators {
+
+    private Validators() {}
+
+    /**
+     * Returns true if the string matches {@code \d+}.
+     */
+    public static boolean isDigits(String test) {
+        final int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the string matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        final int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the string matches {@code [\p{Alnum} ]+}.
+     */
+    public static boolean isAlphanumericOrSpaces(String test) {
+        final int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the string matches {@code [\w\.]+@[\w\.]+}.
+     */
+    public static boolean isWordsAtWords(String test) {
+        final int length = test.length();
+        int atIndex = -1;
+        for (int i = 0; i < length; i++) {
+            final char c = test.charAt(i);
+            if (c == '@') {
+                if (atIndex >= 0) {
+                    return false;
+                }
+                atIndex = i;
+            } else if (!isWordCharacter(c) && c != '.') {
+                return false;
+            }
+        }
+        return atIndex > 0 && atIndex < length - 1;
+    }
+
+    /**
+     * Returns true if the string matches {@code .+}, that is, it is not empty and has no line terminators.
+     */
+    public static boolean isSingleLine(String test) {
+        final int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return isAlphanumeric(c) || c == '_';
+    }
+
+    /**
+     * Returns true for the characters that {@code .} does not match by default.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
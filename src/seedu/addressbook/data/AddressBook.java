@@ -1,10 +1,28 @@
 package seedu.addressbook.data;
 
+import seedu.addressbook.data.index.NameBkTree;
+import seedu.addressbook.data.index.NameIndex;
+import seedu.addressbook.data.index.NameMatchRanking;
+import seedu.addressbook.data.index.NameTrie;
+import seedu.addressbook.data.index.PersonIndex;
+import seedu.addressbook.data.index.PhoneticIndex;
+import seedu.addressbook.data.index.QueryPlan;
+import seedu.addressbook.data.index.QueryPlanner;
+import seedu.addressbook.data.index.TagIndex;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 /**
  * Represents the entire address book. Contains the data of the address book.
@@ -13,6 +31,25 @@ public class AddressBook {
 
     private final UniquePersonList allPersons;
 
+    // Indexes of allPersons, by the ordinals of the persons in it. Each is built on first use, so that address books
+    // that are never searched do not pay for it, and from then on is kept up to date through the indexes list.
+    private NameIndex nameIndex;
+    private NameTrie nameTrie;
+    private NameBkTree nameBkTree;
+    private PhoneticIndex phoneticIndex;
+    private TagIndex tagIndex;
+    private final List<PersonIndex> indexes = new ArrayList<>();
+
+    private ForkJoinPool scanPool = ForkJoinPool.commonPool();
+
+    /** Checked by scans for whether to stop, or null if scans are never cancelled. */
+    private volatile BooleanSupplier scanCancellation;
+
+    /** Incremented on every change made through this address book. */
+    private long generation;
+
+    private final List<AddressBookListener> listeners = new ArrayList<>();
+
     public static AddressBook empty() {
         return new AddressBook();
     }
@@ -40,6 +77,13 @@ public class AddressBook {
      */
     public void addPerson(Person toAdd) throws DuplicatePersonException {
         allPersons.add(toAdd);
+        for (PersonIndex index : indexes) {
+            index.add(toAdd);
+        }
+        generation++;
+        for (AddressBookListener listener : listeners) {
+            listener.personAdded(toAdd);
+        }
     }
 
     /**
@@ -50,12 +94,26 @@ public class AddressBook {
     }
 
     /**
-     * Removes the equivalent person from the address book.
+     * Removes the equivalent person from the address book. Once most ordinals of allPersons belong to removed
+     * persons, compacts them and renumbers the persons in the indexes.
      *
      * @throws PersonNotFoundException if no such Person could be found.
      */
     public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        for (PersonIndex index : indexes) {
+            index.remove(toRemove);
+        }
         allPersons.remove(toRemove);
+        if (allPersons.hasSparseOrdinals()) {
+            final int[] newOrdinals = allPersons.compactOrdinals();
+            for (PersonIndex index : indexes) {
+                index.renumber(newOrdinals);
+            }
+        }
+        generation++;
+        for (AddressBookListener listener : listeners) {
+            listener.personRemoved(toRemove);
+        }
     }
 
     /**
@@ -63,6 +121,36 @@ public class AddressBook {
      */
     public void clear() {
         allPersons.clear();
+        for (PersonIndex index : indexes) {
+            index.clear();
+        }
+        generation++;
+        for (AddressBookListener listener : listeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Registers a listener to be notified of every subsequent change made through this address book.
+     */
+    public void addListener(AddressBookListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying the given listener of changes.
+     */
+    public void removeListener(AddressBookListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the modification generation of this address book. The generation changes whenever persons are
+     * added, removed or cleared, so two equal generations mean no such change happened in between.
+     * Changes made directly on a {@code Person} (e.g. retagging) are not tracked.
+     */
+    public long getGeneration() {
+        return generation;
     }
 
     /**
@@ -72,6 +160,140 @@ public class AddressBook {
         return new UniquePersonList(allPersons);
     }
 
+    /**
+     * Unmodifiable view of all persons in the address book, for reading them without a defensive copy.
+     * Any changes to the address book are immediately visible in the returned list.
+     */
+    public List<ReadOnlyPerson> getAllPersonsView() {
+        return allPersons.immutableListView();
+    }
+
+    /**
+     * Sets the pool that {@link #findPersons(Predicate)} scans the persons in.
+     */
+    public void setScanPool(ForkJoinPool scanPool) {
+        this.scanPool = scanPool;
+    }
+
+    /**
+     * Makes the scans of {@link #findPersons(Predicate)} stop once the given check returns true, e.g. when their
+     * results are no longer wanted. The check must be safe to call from several threads.
+     *
+     * @param isCancelled the check, or null to never cancel scans
+     */
+    public void setScanCancellation(BooleanSupplier isCancelled) {
+        scanCancellation = isCancelled;
+    }
+
+    /**
+     * Returns the persons that satisfy the predicate, in address book order, for searches that no index can
+     * answer. Large address books are scanned in parallel, so the predicate must be safe to call from several
+     * threads.
+     *
+     * @throws CancellationException if the scan was cancelled, see {@link #setScanCancellation(BooleanSupplier)}
+     */
+    public List<ReadOnlyPerson> findPersons(Predicate<? super ReadOnlyPerson> predicate) {
+        final BooleanSupplier isCancelled = scanCancellation;
+        if (isCancelled == null) {
+            return allPersons.filter(predicate, scanPool);
+        }
+        return allPersons.filter(person -> {
+            if (isCancelled.getAsBoolean()) {
+                throw new CancellationException("Scan cancelled");
+            }
+            return predicate.test(person);
+        }, scanPool);
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words (case sensitive), in address book order.
+     * Answered from an index of the name words, in time proportional to the number of matches.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameContainingAnyWord(Collection<String> words) {
+        if (nameIndex == null) {
+            nameIndex = buildIndex(new NameIndex(allPersons));
+        }
+        return nameIndex.findPersonsWithAnyWord(words);
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of the given prefixes, ignoring case, in address
+     * book order. Answered from a trie of the name words, in time proportional to the length of the prefixes plus
+     * the number of matches.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameWordStartingWithAny(Collection<String> prefixes) {
+        if (nameTrie == null) {
+            nameTrie = buildIndex(new NameTrie(allPersons));
+        }
+        return nameTrie.findPersonsWithWordStartingWithAny(prefixes);
+    }
+
+    /**
+     * Returns the {@code limit} persons whose names best match the given keywords, best first, ranked as in
+     * {@link NameMatchRanking}. Only the persons with a name word starting with a keyword, found from the trie of
+     * the name words, are ranked.
+     */
+    public List<ReadOnlyPerson> findTopPersonsMatchingName(Collection<String> keywords, int limit) {
+        return NameMatchRanking.top(findPersonsWithNameWordStartingWithAny(keywords), keywords, limit);
+    }
+
+    /**
+     * Returns the persons with a name word within the given edit distance of any of the given words, ignoring case,
+     * in address book order. Answered from a BK-tree of the name words, which only compares the words with the
+     * words of a part of the address book.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameWordWithinDistance(Collection<String> words, int maxDistance) {
+        if (nameBkTree == null) {
+            nameBkTree = buildIndex(new NameBkTree(allPersons));
+        }
+        return nameBkTree.findPersonsWithWordWithinDistance(words, maxDistance);
+    }
+
+    /**
+     * Returns the persons with a name word that sounds like any of the given words, i.e. has the same phonetic code
+     * as in {@link PhoneticIndex#encode(String)}, in address book order. Answered from an index of the codes of the
+     * name words, so only the given words are encoded.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameWordSoundingLikeAny(Collection<String> words) {
+        if (phoneticIndex == null) {
+            phoneticIndex = buildIndex(new PhoneticIndex(allPersons));
+        }
+        return phoneticIndex.findPersonsWithWordSoundingLikeAny(words);
+    }
+
+    /**
+     * Returns the persons matching the query, in address book order, found as planned by {@link #planQuery(Query)}.
+     */
+    public List<ReadOnlyPerson> findPersonsMatching(Query query) {
+        return planQuery(query).run();
+    }
+
+    /**
+     * Returns a plan for finding the persons matching the query from the indexes of the name words and the tags,
+     * scanning all persons only for the parts of the query the indexes cannot answer. The plan must be run before
+     * the address book changes.
+     */
+    public QueryPlan planQuery(Query query) {
+        if (nameTrie == null) {
+            nameTrie = buildIndex(new NameTrie(allPersons));
+        }
+        if (tagIndex == null) {
+            tagIndex = buildIndex(new TagIndex(allPersons));
+        }
+        return new QueryPlanner(allPersons, nameTrie, tagIndex, this::findPersons).plan(query);
+    }
+
+    /**
+     * Adds all persons to the given empty index, and keeps it up to date from then on.
+     */
+    private <T extends PersonIndex> T buildIndex(T index) {
+        for (Person person : allPersons) {
+            index.add(person);
+        }
+        indexes.add(index);
+        return index;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,73 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+
+/**
+ * A change made to an {@link AddressBook}: a person added or removed, or all persons cleared.
+ * Changes are recorded by an {@link AddressBookChangeLog}, so that storage can write only what changed.
+ */
+public class AddressBookChange {
+
+    public enum Type {
+        ADDED, REMOVED, CLEARED
+    }
+
+    private final Type type;
+    private final ReadOnlyPerson person;
+
+    private AddressBookChange(Type type, ReadOnlyPerson person) {
+        this.type = type;
+        this.person = person;
+    }
+
+    public static AddressBookChange added(ReadOnlyPerson added) {
+        return new AddressBookChange(Type.ADDED, added);
+    }
+
+    public static AddressBookChange removed(ReadOnlyPerson removed) {
+        return new AddressBookChange(Type.REMOVED, removed);
+    }
+
+    public static AddressBookChange cleared() {
+        return new AddressBookChange(Type.CLEARED, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person added or removed, or null if the address book was cleared.
+     */
+    public ReadOnlyPerson getPerson() {
+        return person;
+    }
+
+    /**
+     * Makes this change to the given address book, e.g. to keep a copy of the address book up to date.
+     *
+     * @throws DuplicatePersonException if an added person is already in the address book.
+     * @throws PersonNotFoundException if a removed person is not in the address book.
+     */
+    public void applyTo(AddressBook addressBook) throws DuplicatePersonException, PersonNotFoundException {
+        switch (type) {
+        case ADDED:
+            addressBook.addPerson(new Person(person));
+            return;
+        case REMOVED:
+            addressBook.removePerson(person);
+            return;
+        default:
+            addressBook.clear();
+            return;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.CLEARED ? type.toString() : type + " " + person.getAsTextHidePrivate();
+    }
+}
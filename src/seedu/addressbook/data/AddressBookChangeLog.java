@@ -0,0 +1,43 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the changes made to the address books it listens to, in order, until they are taken, e.g. to be saved.
+ * Recording a change takes constant time, whatever the size of the address book.
+ */
+public class AddressBookChangeLog implements AddressBookListener {
+
+    private List<AddressBookChange> changes = new ArrayList<>();
+
+    @Override
+    public void personAdded(Person added) {
+        changes.add(AddressBookChange.added(added));
+    }
+
+    @Override
+    public void personRemoved(ReadOnlyPerson removed) {
+        changes.add(AddressBookChange.removed(removed));
+    }
+
+    @Override
+    public void cleared() {
+        // the changes before a clear no longer make any difference
+        changes.clear();
+        changes.add(AddressBookChange.cleared());
+    }
+
+    /**
+     * Returns the changes recorded since they were last taken, in the order they were made, and starts recording
+     * afresh.
+     */
+    public List<AddressBookChange> takeChanges() {
+        final List<AddressBookChange> taken = changes;
+        changes = new ArrayList<>();
+        return taken;
+    }
+}
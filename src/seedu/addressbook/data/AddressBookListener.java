@@ -0,0 +1,26 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Receives notifications of the changes made to an {@link AddressBook}.
+ * Notifications are only sent for changes that succeeded.
+ */
+public interface AddressBookListener {
+
+    /**
+     * Called after {@code added} has been added to the address book.
+     */
+    void personAdded(Person added);
+
+    /**
+     * Called after the person equivalent to {@code removed} has been removed from the address book.
+     */
+    void personRemoved(ReadOnlyPerson removed);
+
+    /**
+     * Called after all persons have been cleared from the address book.
+     */
+    void cleared();
+}
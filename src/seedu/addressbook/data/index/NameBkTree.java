@@ -0,0 +1,242 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * A BK-tree of the case-folded words in the persons' names, for finding the persons with a name word within a
+ * given edit (Levenshtein) distance of a query word, ignoring case.
+ *
+ * Every child of a node is filed under its distance from the node's word, so by the triangle inequality a query
+ * only needs to visit the children whose distance is within the maximum distance of the query word's distance from
+ * the node's word, instead of comparing the query word with every word.
+ *
+ * A BK-tree cannot remove a word without rebuilding the subtree below it, so the node of a word that no person has
+ * any more is kept, with an empty posting list, and the tree is rebuilt without such nodes once they outnumber the
+ * nodes in use.
+ */
+public class NameBkTree implements PersonIndex {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /** Empty nodes are only cleaned up beyond this many, so that small trees are not rebuilt too often. */
+    private static final int MIN_EMPTY_NODES_TO_REBUILD = 1024;
+
+    /**
+     * A node of the tree, for one folded name word.
+     */
+    private static final class Node {
+        final String word;
+        final PostingList postings;
+        /** The child at index {@code i} is the one at distance {@code i + 1} from this word, if any. */
+        Node[] children = NO_CHILDREN;
+
+        Node(String word, PostingList postings) {
+            this.word = word;
+            this.postings = postings;
+        }
+    }
+
+    /**
+     * Computes Levenshtein distances from one word: the least number of single character insertions, deletions and
+     * substitutions that turn it into another word. Reuses its dynamic programming rows between words.
+     */
+    static final class Distance {
+        private final String from;
+        private int[] previous;
+        private int[] current;
+
+        Distance(String from) {
+            this.from = from;
+            previous = new int[from.length() + 1];
+            current = new int[from.length() + 1];
+        }
+
+        /**
+         * Returns the distance to the given word if it is at most {@code bound}, or else some number above
+         * {@code bound}.
+         */
+        int to(String word, int bound) {
+            final int columns = from.length();
+            for (int j = 0; j <= columns; j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= word.length(); i++) {
+                final char c = word.charAt(i - 1);
+                current[0] = i;
+                int rowMinimum = i;
+                for (int j = 1; j <= columns; j++) {
+                    final int substitution = previous[j - 1] + (c == from.charAt(j - 1) ? 0 : 1);
+                    current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                    rowMinimum = Math.min(rowMinimum, current[j]);
+                }
+                if (rowMinimum > bound) {
+                    return rowMinimum; // the distance is at least the minimum of any row
+                }
+                final int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[columns];
+        }
+    }
+
+    private Node root;
+
+    /** Maps each folded word in the tree to its node, including the empty ones. */
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    private int emptyNodeCount;
+
+    private final UniquePersonList persons;
+
+    /**
+     * Creates an empty tree for the persons of the given list.
+     */
+    public NameBkTree(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        for (String word : person.getName().getWordsInName()) {
+            final String folded = fold(word);
+            Node node = nodes.get(folded);
+            if (node == null) {
+                node = new Node(folded, new PostingList());
+                insert(node);
+            } else if (node.postings.isEmpty()) {
+                emptyNodeCount--;
+            }
+            node.postings.add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        if (ordinal < 0) {
+            return;
+        }
+        final Person indexed = persons.getByOrdinal(ordinal);
+        for (String word : indexed.getName().getWordsInName()) {
+            final Node node = nodes.get(fold(word));
+            if (!node.postings.remove(ordinal)) {
+                continue; // repeated word, already removed
+            }
+            if (node.postings.isEmpty()) {
+                emptyNodeCount++;
+            }
+        }
+        if (emptyNodeCount >= MIN_EMPTY_NODES_TO_REBUILD && emptyNodeCount > nodes.size() - emptyNodeCount) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        nodes.clear();
+        emptyNodeCount = 0;
+    }
+
+    @Override
+    public void renumber(int[] newOrdinals) {
+        for (Node node : nodes.values()) {
+            node.postings.renumber(newOrdinals);
+        }
+    }
+
+    /**
+     * Returns the persons with a name word within the given edit distance of any of the given words, ignoring case,
+     * in the order they were added, each person only once.
+     */
+    public List<ReadOnlyPerson> findPersonsWithWordWithinDistance(Collection<String> words, int maxDistance) {
+        final List<PostingList> matchingPostings = new ArrayList<>();
+        if (root == null) {
+            return PostingList.union(matchingPostings).persons(persons);
+        }
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        for (String word : words) {
+            final Distance fromWord = new Distance(fold(word));
+            toVisit.push(root);
+            while (!toVisit.isEmpty()) {
+                final Node node = toVisit.pop();
+                // beyond this bound, neither the node nor any of its children can match
+                final int distance = fromWord.to(node.word, node.children.length + maxDistance);
+                if (distance <= maxDistance && !node.postings.isEmpty()) {
+                    matchingPostings.add(node.postings);
+                }
+                final int lowest = Math.max(1, distance - maxDistance);
+                final int highest = Math.min(node.children.length, distance + maxDistance);
+                for (int childDistance = lowest; childDistance <= highest; childDistance++) {
+                    final Node child = node.children[childDistance - 1];
+                    if (child != null) {
+                        toVisit.push(child);
+                    }
+                }
+            }
+        }
+        return PostingList.union(matchingPostings).persons(persons);
+    }
+
+    /**
+     * Files the node under the root, or makes it the root of an empty tree.
+     */
+    private void insert(Node toInsert) {
+        nodes.put(toInsert.word, toInsert);
+        if (root == null) {
+            root = toInsert;
+            return;
+        }
+        final Distance fromWord = new Distance(toInsert.word);
+        Node node = root;
+        while (true) {
+            final int distance = fromWord.to(node.word, Integer.MAX_VALUE);
+            if (distance > node.children.length) {
+                final Node[] children = new Node[distance];
+                System.arraycopy(node.children, 0, children, 0, node.children.length);
+                node.children = children;
+            }
+            final Node child = node.children[distance - 1];
+            if (child == null) {
+                node.children[distance - 1] = toInsert;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the nodes that are in use, keeping their posting lists.
+     */
+    private void rebuild() {
+        final List<Node> inUse = new ArrayList<>(nodes.size() - emptyNodeCount);
+        for (Node node : nodes.values()) {
+            if (!node.postings.isEmpty()) {
+                inUse.add(new Node(node.word, node.postings));
+            }
+        }
+        root = null;
+        nodes.clear();
+        emptyNodeCount = 0;
+        for (Node node : inUse) {
+            insert(node);
+        }
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * An inverted index from each word in the persons' names (as in
+ * {@link seedu.addressbook.data.person.Name#getWordsInName()}) to the persons whose names contain that word.
+ *
+ * Each posting list is a bitmap of the persons' ordinals in their {@link UniquePersonList}, which increase in list
+ * order, so a query for several words ORs the bitmaps instead of sorting the matches.
+ */
+public class NameIndex implements PersonIndex {
+
+    /** Maps each word to the persons with that word in their names. */
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final UniquePersonList persons;
+
+    /**
+     * Creates an empty index for the persons of the given list.
+     */
+    public NameIndex(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        for (String word : person.getName().getWordsInName()) {
+            postings.computeIfAbsent(word, w -> new PostingList()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        if (ordinal < 0) {
+            return;
+        }
+        final Person indexed = persons.getByOrdinal(ordinal);
+        for (String word : indexed.getName().getWordsInName()) {
+            final PostingList wordPostings = postings.get(word);
+            if (wordPostings == null) {
+                continue; // repeated word, already removed
+            }
+            wordPostings.remove(ordinal);
+            if (wordPostings.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    @Override
+    public void renumber(int[] newOrdinals) {
+        for (PostingList wordPostings : postings.values()) {
+            wordPostings.renumber(newOrdinals);
+        }
+    }
+
+    /**
+     * Returns the persons whose names contain the given word (case sensitive), in the order they were added.
+     */
+    public List<ReadOnlyPerson> findPersonsWithWord(String word) {
+        return findPersonsWithAnyWord(Collections.singleton(word));
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words (case sensitive), in the order they were
+     * added, each person only once. Takes time proportional to the number of matches, not the number of persons.
+     */
+    public List<ReadOnlyPerson> findPersonsWithAnyWord(Collection<String> words) {
+        final List<PostingList> wordPostings = new ArrayList<>(words.size());
+        for (String word : words) {
+            final PostingList postingList = postings.get(word);
+            if (postingList != null) {
+                wordPostings.add(postingList);
+            }
+        }
+        return PostingList.union(wordPostings).persons(persons);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Ranks persons by how well their names match some keywords, ignoring case, and picks the best few.
+ *
+ * A keyword matches a name exactly if it is one of the name's words, and by prefix if it starts one of them.
+ * Persons are ranked by, in turn:
+ * <ol>
+ *     <li>the number of keywords matched, most first, so persons matching all keywords come first</li>
+ *     <li>the number of keywords matched exactly, most first</li>
+ *     <li>the length of the name, shortest first</li>
+ *     <li>their order among the candidates</li>
+ * </ol>
+ */
+public class NameMatchRanking {
+
+    /**
+     * The ranking of one candidate.
+     */
+    private static final class Match {
+        static final Comparator<Match> BEST_FIRST = Comparator
+                .comparingInt((Match match) -> -match.matchedKeywords)
+                .thenComparingInt(match -> -match.exactlyMatchedKeywords)
+                .thenComparingInt(match -> match.nameLength)
+                .thenComparingInt(match -> match.position);
+
+        final ReadOnlyPerson person;
+        final int position;
+        final int matchedKeywords;
+        final int exactlyMatchedKeywords;
+        final int nameLength;
+
+        Match(ReadOnlyPerson person, int position, int matchedKeywords, int exactlyMatchedKeywords) {
+            this.person = person;
+            this.position = position;
+            this.matchedKeywords = matchedKeywords;
+            this.exactlyMatchedKeywords = exactlyMatchedKeywords;
+            this.nameLength = person.getName().fullName.length();
+        }
+    }
+
+    private NameMatchRanking() {}
+
+    /**
+     * Returns the {@code limit} best ranked of the candidates that match at least one keyword, best first.
+     * Keeps only the best {@code limit} candidates seen so far in a heap, so it takes O(n log limit) time for
+     * n candidates rather than sorting them all.
+     */
+    public static List<ReadOnlyPerson> top(List<? extends ReadOnlyPerson> candidates, Collection<String> keywords,
+                                           int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        // the worst of the best matches so far is at the head, to be replaced by any better match
+        final String[] keywordArray = keywords.toArray(new String[0]);
+        final PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, candidates.size()) + 1,
+                Match.BEST_FIRST.reversed());
+        for (int position = 0; position < candidates.size(); position++) {
+            final Match match = rank(candidates.get(position), position, keywordArray);
+            if (match == null) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (Match.BEST_FIRST.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        final List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.BEST_FIRST);
+        final List<ReadOnlyPerson> persons = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            persons.add(match.person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the ranking of the person, or null if its name matches none of the keywords.
+     * Scans the words of the name in place rather than splitting it, as most candidates are not kept.
+     */
+    private static Match rank(ReadOnlyPerson person, int position, String[] keywords) {
+        final String name = person.getName().fullName;
+        int matchedKeywords = 0;
+        int exactlyMatchedKeywords = 0;
+        for (String keyword : keywords) {
+            boolean isMatched = false;
+            boolean isExactlyMatched = false;
+            int wordStart = 0;
+            while (wordStart < name.length() && !isExactlyMatched) {
+                int wordEnd = name.indexOf(' ', wordStart);
+                if (wordEnd < 0) {
+                    wordEnd = name.length();
+                }
+                final int wordLength = wordEnd - wordStart;
+                if (wordLength >= keyword.length()
+                        && name.regionMatches(true, wordStart, keyword, 0, keyword.length())) {
+                    isMatched = true;
+                    isExactlyMatched = wordLength == keyword.length();
+                }
+                wordStart = wordEnd + 1;
+            }
+            if (isMatched) {
+                matchedKeywords++;
+            }
+            if (isExactlyMatched) {
+                exactlyMatchedKeywords++;
+            }
+        }
+        return matchedKeywords == 0 ? null : new Match(person, position, matchedKeywords, exactlyMatchedKeywords);
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * A trie of the case-folded words in the persons' names, for finding the persons with a name word that starts with
+ * a given prefix, ignoring case.
+ *
+ * Every node keeps the posting list of the persons with a name word in its subtree, so a prefix query walks down the
+ * prefix and returns the node's posting list: it takes time proportional to the length of the prefix plus the number
+ * of matches, however many words start with the prefix. The node at the end of a word also keeps the posting list of
+ * the persons with exactly that word, for whole word queries.
+ */
+public class NameTrie implements PersonIndex {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * A node of the trie, for the word prefix spelt by the path to it from the root.
+     * Children are kept in small arrays sorted by their character, as most nodes have very few.
+     */
+    private static final class Node {
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        final PostingList postings = new PostingList();
+        /** The persons with a name word ending at this node, or null if there are none yet. */
+        PostingList wordPostings;
+
+        Node getChild(char key) {
+            final int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            final int position = Arrays.binarySearch(keys, key);
+            if (position >= 0) {
+                return children[position];
+            }
+            final int insertionPoint = -position - 1;
+            final Node child = new Node();
+            keys = insert(keys, insertionPoint, key);
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            newChildren[insertionPoint] = child;
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1,
+                    children.length - insertionPoint);
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            final int position = Arrays.binarySearch(keys, key);
+            if (position < 0) {
+                return;
+            }
+            final char[] newKeys = new char[keys.length - 1];
+            final Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, newKeys.length - position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(children, position + 1, newChildren, position, newChildren.length - position);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        private static char[] insert(char[] keys, int insertionPoint, char key) {
+            final char[] newKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+            newKeys[insertionPoint] = key;
+            System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+            return newKeys;
+        }
+    }
+
+    /** The root of the trie, for the empty prefix. Its posting list is not maintained. */
+    private Node root = new Node();
+
+    private final UniquePersonList persons;
+
+    /**
+     * Creates an empty trie for the persons of the given list.
+     */
+    public NameTrie(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        for (String word : person.getName().getWordsInName()) {
+            final String folded = fold(word);
+            Node node = root;
+            for (int i = 0; i < folded.length(); i++) {
+                node = node.getOrAddChild(folded.charAt(i));
+                node.postings.add(ordinal);
+            }
+            if (node.wordPostings == null) {
+                node.wordPostings = new PostingList();
+            }
+            node.wordPostings.add(ordinal);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nodes left without any persons are removed too.
+     */
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        if (ordinal < 0) {
+            return;
+        }
+        final Person indexed = persons.getByOrdinal(ordinal);
+        for (String word : indexed.getName().getWordsInName()) {
+            final String folded = fold(word);
+            final Node[] path = new Node[folded.length() + 1];
+            path[0] = root;
+            int depth = 0;
+            while (depth < folded.length()) {
+                final Node child = path[depth].getChild(folded.charAt(depth));
+                if (child == null) {
+                    break; // pruned while removing an earlier word of the same name
+                }
+                child.postings.remove(ordinal);
+                path[++depth] = child;
+            }
+            if (depth == folded.length() && path[depth].wordPostings != null) {
+                path[depth].wordPostings.remove(ordinal);
+            }
+            // a node without persons has no persons below it either
+            for (; depth > 0 && path[depth].postings.isEmpty(); depth--) {
+                path[depth - 1].removeChild(folded.charAt(depth - 1));
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = new Node();
+    }
+
+    @Override
+    public void renumber(int[] newOrdinals) {
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            final Node node = toVisit.pop();
+            node.postings.renumber(newOrdinals);
+            if (node.wordPostings != null) {
+                node.wordPostings.renumber(newOrdinals);
+            }
+            for (Node child : node.children) {
+                toVisit.push(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of the given prefixes, ignoring case, in the order
+     * they were added, each person only once. Empty prefixes match nothing.
+     */
+    public List<ReadOnlyPerson> findPersonsWithWordStartingWithAny(Collection<String> prefixes) {
+        final List<PostingList> prefixPostings = new ArrayList<>(prefixes.size());
+        for (String prefix : prefixes) {
+            final Node node = find(fold(prefix));
+            if (node != null && node != root) {
+                prefixPostings.add(node.postings);
+            }
+        }
+        return PostingList.union(prefixPostings).persons(persons);
+    }
+
+    /**
+     * Returns the persons with a name word equal to the given word, ignoring case.
+     */
+    PostingList getPostingsForWord(String word) {
+        final Node node = find(fold(word));
+        return node == null || node.wordPostings == null ? new PostingList() : node.wordPostings;
+    }
+
+    /**
+     * Returns the persons with a name word that starts with the given prefix, ignoring case. An empty prefix
+     * matches nothing.
+     */
+    PostingList getPostingsForPrefix(String prefix) {
+        final Node node = find(fold(prefix));
+        return node == null || node == root ? new PostingList() : node.postings;
+    }
+
+    private Node find(String foldedPrefix) {
+        Node node = root;
+        for (int i = 0; i < foldedPrefix.length() && node != null; i++) {
+            node = node.getChild(foldedPrefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
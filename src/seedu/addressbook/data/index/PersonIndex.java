@@ -0,0 +1,36 @@
+package seedu.addressbook.data.index;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * An index of the persons in a {@link UniquePersonList}, kept up to date by the owner of the list as persons are
+ * added and removed. The index identifies persons by their ordinals in the list, which increase in list order, so
+ * it gives persons in the order of the list.
+ */
+public interface PersonIndex {
+
+    /**
+     * Adds a person to the index.
+     * Assumption: no equivalent person is in the index, and the person was just added to the list.
+     */
+    void add(ReadOnlyPerson person);
+
+    /**
+     * Removes the person equivalent to the given person from the index, if there is one.
+     * Assumption: the person has not been removed from the list yet.
+     */
+    void remove(ReadOnlyPerson person);
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+
+    /**
+     * Renumbers the persons in the index after the ordinals of the list were compacted.
+     *
+     * @param newOrdinals the new ordinal of each old ordinal, as returned by {@link UniquePersonList#compactOrdinals()}
+     */
+    void renumber(int[] newOrdinals);
+}
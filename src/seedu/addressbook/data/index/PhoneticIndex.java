@@ -0,0 +1,136 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * An inverted index from the phonetic code of each word in the persons' names (as in
+ * {@link seedu.addressbook.data.person.Name#getWordsInName()}) to the persons whose names contain a word with that
+ * code, for finding names that sound like a word heard rather than read.
+ *
+ * Words are encoded with American Soundex (see {@link #encode(String)}), so names are encoded once when they are
+ * added, and a query only encodes its own words.
+ */
+public class PhoneticIndex implements PersonIndex {
+
+    /**
+     * The Soundex digit of each letter from A to Z: '0' for the vowels (and Y), which separate letters with the same
+     * digit, and '-' for H and W, which are skipped without separating them.
+     */
+    private static final String LETTER_DIGITS = "0123012-022455012623010-02";
+
+    private static final int CODE_LENGTH = 4;
+
+    /** Maps each phonetic code to the persons with a name word with that code. */
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final UniquePersonList persons;
+
+    /**
+     * Creates an empty index for the persons of the given list.
+     */
+    public PhoneticIndex(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the American Soundex code of the word: its first letter in upper case followed by the digits of the
+     * sounds of the letters after it, e.g. "R163" for both "Robert" and "Rupert". Letters other than A to Z (in
+     * either case) and digits are ignored; a word without any letter has no code.
+     *
+     * @return the code, or null if the word has no letters
+     */
+    public static String encode(String word) {
+        final StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < CODE_LENGTH; i++) {
+            final char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            final char digit = LETTER_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit == '-') {
+                continue;
+            } else if (digit != '0' && digit != lastDigit) {
+                code.append(digit);
+            }
+            lastDigit = digit;
+        }
+        if (code.length() == 0) {
+            return null;
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        for (String word : person.getName().getWordsInName()) {
+            final String code = encode(word);
+            if (code != null) {
+                postings.computeIfAbsent(code, c -> new PostingList()).add(ordinal);
+            }
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        if (ordinal < 0) {
+            return;
+        }
+        final Person indexed = persons.getByOrdinal(ordinal);
+        for (String word : indexed.getName().getWordsInName()) {
+            final String code = encode(word);
+            final PostingList codePostings = code == null ? null : postings.get(code);
+            if (codePostings == null) {
+                continue; // no letters, or a word sounding like another, already removed
+            }
+            codePostings.remove(ordinal);
+            if (codePostings.isEmpty()) {
+                postings.remove(code);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    @Override
+    public void renumber(int[] newOrdinals) {
+        for (PostingList codePostings : postings.values()) {
+            codePostings.renumber(newOrdinals);
+        }
+    }
+
+    /**
+     * Returns the persons whose names contain a word with the same phonetic code as any of the given words, in the
+     * order they were added, each person only once. Takes time proportional to the number of matches, not the
+     * number of persons.
+     */
+    public List<ReadOnlyPerson> findPersonsWithWordSoundingLikeAny(Collection<String> words) {
+        final List<PostingList> codePostings = new ArrayList<>(words.size());
+        for (String word : words) {
+            final String code = encode(word);
+            final PostingList postingList = code == null ? null : postings.get(code);
+            if (postingList != null) {
+                codePostings.add(postingList);
+            }
+        }
+        return PostingList.union(codePostings).persons(persons);
+    }
+}
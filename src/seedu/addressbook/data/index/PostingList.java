@@ -0,0 +1,577 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * The persons filed under one key of an index, as a compressed bitmap of their ordinals in the
+ * {@link UniquePersonList} they are in. Ordinals increase in list order, so the persons are read in list order.
+ *
+ * The bitmap is split into chunks of 2^16 ordinals, in the style of Roaring bitmaps. A chunk with at most
+ * {@link #MAX_ARRAY_CARDINALITY} ordinals keeps their low 16 bits in a sorted array, and a fuller chunk keeps a plain
+ * bitmap, so no chunk takes more than 8 KB or more than 2 bytes per ordinal. The set operations (AND, OR and ANDNOT)
+ * work chunk by chunk, on whole 64-bit words where both chunks are bitmaps.
+ *
+ * The set operations return new posting lists, which may share chunks with the given lists or be one of them, so
+ * their results must only be read.
+ */
+class PostingList {
+
+    /** Chunks with more ordinals than this keep a bitmap instead of an array. */
+    static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int BITMAP_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+    /**
+     * An array below this many times shorter than the other is intersected by merging rather than by searching.
+     */
+    private static final int SEARCH_RATIO = 32;
+
+    private static final Chunk[] NO_CHUNKS = new Chunk[0];
+
+    /**
+     * The low 16 bits of the ordinals in one chunk. Never empty while in a posting list.
+     */
+    private abstract static class Chunk {
+        /** The high 16 bits of the ordinals in the chunk. */
+        final char key;
+        int cardinality;
+
+        Chunk(char key) {
+            this.key = key;
+        }
+
+        /**
+         * Adds the value, returning the chunk that then holds the values: this one, or a bitmap that replaces it.
+         */
+        abstract Chunk add(char value);
+
+        /**
+         * Removes the value, returning the chunk that then holds the values: this one, or an array that replaces it.
+         */
+        abstract Chunk remove(char value);
+
+        abstract boolean contains(char value);
+
+        /**
+         * Performs the action for each ordinal in the chunk, in increasing order.
+         */
+        abstract void forEach(IntConsumer action);
+    }
+
+    private static final class ArrayChunk extends Chunk {
+        char[] values;
+
+        ArrayChunk(char key, char[] values, int cardinality) {
+            super(key);
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Chunk add(char value) {
+            final int position = cardinality > 0 && value > values[cardinality - 1]
+                    ? -cardinality - 1 // appending, as when persons are added
+                    : Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                return toBitmap().add(value);
+            }
+            final int insertionPoint = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_CARDINALITY, Math.max(1, cardinality * 2)));
+            }
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, cardinality - insertionPoint);
+            values[insertionPoint] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            final int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            final int high = key << CHUNK_BITS;
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        BitmapChunk toBitmap() {
+            final BitmapChunk bitmap = new BitmapChunk(key, new long[BITMAP_WORDS]);
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapChunk extends Chunk {
+        final long[] words;
+
+        /**
+         * Creates a chunk of the given words. Its cardinality must be set by the caller.
+         */
+        BitmapChunk(char key, long[] words) {
+            super(key);
+            this.words = words;
+        }
+
+        @Override
+        Chunk add(char value) {
+            final long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            final long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                cardinality--;
+            }
+            return cardinality > MAX_ARRAY_CARDINALITY ? this : toArray();
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            final int high = key << CHUNK_BITS;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        ArrayChunk toArray() {
+            final char[] values = new char[cardinality];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayChunk(key, values, count);
+        }
+
+        /**
+         * Returns a chunk of the given words, as an array if there are few enough values, or null if there are none.
+         */
+        static Chunk of(char key, long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            final BitmapChunk bitmap = new BitmapChunk(key, words);
+            bitmap.cardinality = cardinality;
+            return cardinality > MAX_ARRAY_CARDINALITY ? bitmap : bitmap.toArray();
+        }
+    }
+
+    /** The chunks in increasing order of their keys. Most lists have a single chunk, so this starts small. */
+    private Chunk[] chunks = NO_CHUNKS;
+    private int chunkCount;
+    private int size;
+
+    /**
+     * Creates an empty posting list.
+     */
+    PostingList() {
+    }
+
+    /**
+     * Returns the posting list of the given persons.
+     * Assumption: the persons are all in the list of all persons.
+     */
+    static PostingList of(List<? extends ReadOnlyPerson> persons, UniquePersonList allPersons) {
+        final PostingList postings = new PostingList();
+        for (ReadOnlyPerson person : persons) {
+            postings.add(allPersons.getOrdinal(person));
+        }
+        return postings;
+    }
+
+    /**
+     * Adds the person with the given ordinal, if it is not in the list already.
+     */
+    void add(int ordinal) {
+        final char key = (char) (ordinal >>> CHUNK_BITS);
+        final int position = chunkCount > 0 && key > chunks[chunkCount - 1].key
+                ? -chunkCount - 1 // appending, as when persons are added
+                : search(key);
+        if (position >= 0) {
+            final int oldCardinality = chunks[position].cardinality;
+            chunks[position] = chunks[position].add((char) ordinal);
+            size += chunks[position].cardinality - oldCardinality;
+            return;
+        }
+        insertChunk(-position - 1, new ArrayChunk(key, new char[1], 0).add((char) ordinal));
+        size++;
+    }
+
+    /**
+     * Removes the person with the given ordinal, returning false if it was not in the list.
+     */
+    boolean remove(int ordinal) {
+        final int position = search((char) (ordinal >>> CHUNK_BITS));
+        if (position < 0) {
+            return false;
+        }
+        final Chunk chunk = chunks[position];
+        final int oldCardinality = chunk.cardinality;
+        final Chunk updated = chunk.remove((char) ordinal);
+        if (updated.cardinality == oldCardinality) {
+            return false;
+        }
+        size--;
+        if (updated.cardinality == 0) {
+            System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+            chunks[--chunkCount] = null;
+        } else {
+            chunks[position] = updated;
+        }
+        return true;
+    }
+
+    boolean contains(int ordinal) {
+        final int position = search((char) (ordinal >>> CHUNK_BITS));
+        return position >= 0 && chunks[position].contains((char) ordinal);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Performs the action for each ordinal in the list, in increasing order.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(action);
+        }
+    }
+
+    /**
+     * Returns the persons in this list, in list order.
+     *
+     * @param allPersons the list the ordinals are from
+     */
+    List<ReadOnlyPerson> persons(UniquePersonList allPersons) {
+        final List<ReadOnlyPerson> persons = new ArrayList<>(size);
+        forEach(ordinal -> persons.add(allPersons.getByOrdinal(ordinal)));
+        return persons;
+    }
+
+    /**
+     * Returns the persons of this list that satisfy the predicate.
+     *
+     * @param allPersons the list the ordinals are from
+     */
+    PostingList filter(Predicate<? super ReadOnlyPerson> predicate, UniquePersonList allPersons) {
+        final PostingList matches = new PostingList();
+        forEach(ordinal -> {
+            if (predicate.test(allPersons.getByOrdinal(ordinal))) {
+                matches.add(ordinal);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Replaces the ordinals in this list with new ones.
+     *
+     * @param newOrdinals the new ordinal of each ordinal in this list, increasing with the old ordinal, or -1 for the
+     *                    ordinals of removed persons, which are dropped
+     */
+    void renumber(int[] newOrdinals) {
+        final PostingList renumbered = new PostingList();
+        forEach(ordinal -> {
+            if (newOrdinals[ordinal] >= 0) {
+                renumbered.add(newOrdinals[ordinal]);
+            }
+        });
+        chunks = renumbered.chunks;
+        chunkCount = renumbered.chunkCount;
+        size = renumbered.size;
+    }
+
+    /**
+     * Returns the persons in both lists (AND). Chunks present in only one list are skipped without being read.
+     */
+    static PostingList intersection(PostingList first, PostingList second) {
+        final PostingList result = new PostingList();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunkCount && j < second.chunkCount) {
+            if (first.chunks[i].key < second.chunks[j].key) {
+                i++;
+            } else if (first.chunks[i].key > second.chunks[j].key) {
+                j++;
+            } else {
+                result.appendChunk(and(first.chunks[i], second.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons of the first list that are not in the second (ANDNOT). Chunks of the first list that the
+     * second does not have are shared with the result.
+     */
+    static PostingList difference(PostingList first, PostingList second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return first;
+        }
+        final PostingList result = new PostingList();
+        int j = 0;
+        for (int i = 0; i < first.chunkCount; i++) {
+            final char key = first.chunks[i].key;
+            while (j < second.chunkCount && second.chunks[j].key < key) {
+                j++;
+            }
+            final boolean isShared = j < second.chunkCount && second.chunks[j].key == key;
+            result.appendChunk(isShared ? andNot(first.chunks[i], second.chunks[j]) : first.chunks[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons in any of the given posting lists (OR). Chunks present in only one list are shared with
+     * the result.
+     */
+    static PostingList union(Collection<PostingList> postingLists) {
+        PostingList result = null;
+        for (PostingList postingList : postingLists) {
+            if (postingList.isEmpty()) {
+                continue;
+            }
+            result = result == null ? postingList : union(result, postingList);
+        }
+        return result == null ? new PostingList() : result;
+    }
+
+    private static PostingList union(PostingList first, PostingList second) {
+        final PostingList result = new PostingList();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunkCount || j < second.chunkCount) {
+            if (j == second.chunkCount || (i < first.chunkCount && first.chunks[i].key < second.chunks[j].key)) {
+                result.appendChunk(first.chunks[i]);
+                i++;
+            } else if (i == first.chunkCount || first.chunks[i].key > second.chunks[j].key) {
+                result.appendChunk(second.chunks[j]);
+                j++;
+            } else {
+                result.appendChunk(or(first.chunks[i], second.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the chunk with the given key, or {@code -(insertion point) - 1} if there is none.
+     */
+    private int search(char key) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (chunks[middle].key < key) {
+                low = middle + 1;
+            } else if (chunks[middle].key > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Appends the chunk, unless it is null or empty.
+     * Assumption: its key is greater than the keys of all chunks in this list.
+     */
+    private void appendChunk(Chunk chunk) {
+        if (chunk != null && chunk.cardinality > 0) {
+            insertChunk(chunkCount, chunk);
+            size += chunk.cardinality;
+        }
+    }
+
+    private void insertChunk(int position, Chunk chunk) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(1, chunkCount * 2));
+        }
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private static Chunk and(Chunk first, Chunk second) {
+        if (first instanceof BitmapChunk && second instanceof BitmapChunk) {
+            final long[] firstWords = ((BitmapChunk) first).words;
+            final long[] secondWords = ((BitmapChunk) second).words;
+            final long[] words = new long[BITMAP_WORDS];
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] = firstWords[w] & secondWords[w];
+            }
+            return BitmapChunk.of(first.key, words);
+        }
+        if (first instanceof ArrayChunk && second instanceof ArrayChunk) {
+            return intersectArrays((ArrayChunk) first, (ArrayChunk) second);
+        }
+        final ArrayChunk array = (ArrayChunk) (first instanceof ArrayChunk ? first : second);
+        return filterArray(array, first instanceof ArrayChunk ? second : first, true);
+    }
+
+    private static Chunk andNot(Chunk first, Chunk second) {
+        if (first instanceof ArrayChunk) {
+            return filterArray((ArrayChunk) first, second, false);
+        }
+        final long[] words = ((BitmapChunk) first).words.clone();
+        if (second instanceof BitmapChunk) {
+            final long[] secondWords = ((BitmapChunk) second).words;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] &= ~secondWords[w];
+            }
+        } else {
+            final ArrayChunk array = (ArrayChunk) second;
+            for (int k = 0; k < array.cardinality; k++) {
+                words[array.values[k] >>> 6] &= ~(1L << array.values[k]);
+            }
+        }
+        return BitmapChunk.of(first.key, words);
+    }
+
+    private static Chunk or(Chunk first, Chunk second) {
+        if (first instanceof ArrayChunk && second instanceof ArrayChunk
+                && first.cardinality + second.cardinality <= MAX_ARRAY_CARDINALITY) {
+            return mergeArrays((ArrayChunk) first, (ArrayChunk) second);
+        }
+        final long[] words = first instanceof BitmapChunk
+                ? ((BitmapChunk) first).words.clone()
+                : ((ArrayChunk) first).toBitmap().words;
+        if (second instanceof BitmapChunk) {
+            final long[] secondWords = ((BitmapChunk) second).words;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] |= secondWords[w];
+            }
+        } else {
+            final ArrayChunk array = (ArrayChunk) second;
+            for (int k = 0; k < array.cardinality; k++) {
+                words[array.values[k] >>> 6] |= 1L << array.values[k];
+            }
+        }
+        return BitmapChunk.of(first.key, words);
+    }
+
+    /**
+     * Returns the values of the array that are ({@code keep} true) or are not ({@code keep} false) in the other
+     * chunk.
+     */
+    private static ArrayChunk filterArray(ArrayChunk array, Chunk other, boolean keep) {
+        final char[] values = new char[array.cardinality];
+        int count = 0;
+        for (int k = 0; k < array.cardinality; k++) {
+            if (other.contains(array.values[k]) == keep) {
+                values[count++] = array.values[k];
+            }
+        }
+        return new ArrayChunk(array.key, values, count);
+    }
+
+    /**
+     * Returns the values in both arrays, looking up the values of the shorter array in the longer one if it is much
+     * longer, or else merging them.
+     */
+    private static ArrayChunk intersectArrays(ArrayChunk first, ArrayChunk second) {
+        final ArrayChunk shorter = first.cardinality <= second.cardinality ? first : second;
+        final ArrayChunk longer = shorter == first ? second : first;
+        if (shorter.cardinality * SEARCH_RATIO < longer.cardinality) {
+            return filterArray(shorter, longer, true);
+        }
+        final char[] values = new char[shorter.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.cardinality && j < second.cardinality) {
+            if (first.values[i] < second.values[j]) {
+                i++;
+            } else if (first.values[i] > second.values[j]) {
+                j++;
+            } else {
+                values[count++] = first.values[i];
+                i++;
+                j++;
+            }
+        }
+        return new ArrayChunk(first.key, values, count);
+    }
+
+    private static ArrayChunk mergeArrays(ArrayChunk first, ArrayChunk second) {
+        final char[] values = new char[first.cardinality + second.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.cardinality || j < second.cardinality) {
+            if (j == second.cardinality || (i < first.cardinality && first.values[i] < second.values[j])) {
+                values[count++] = first.values[i++];
+            } else if (i == first.cardinality || first.values[i] > second.values[j]) {
+                values[count++] = second.values[j++];
+            } else {
+                values[count++] = first.values[i];
+                i++;
+                j++;
+            }
+        }
+        return new ArrayChunk(first.key, values, count);
+    }
+}
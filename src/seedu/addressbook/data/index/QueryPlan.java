@@ -0,0 +1,211 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.query.Query;
+
+/**
+ * A plan for finding the persons matching a {@link Query}, made by a {@link QueryPlanner}. Each step of the plan
+ * finds the posting list of the persons matching a part of the query, from an index or by scanning all persons.
+ */
+public abstract class QueryPlan {
+
+    /** The part of the query this step finds the persons of. */
+    final Query query;
+
+    /** All the persons to query, in the list the indexes were built on. */
+    final UniquePersonList persons;
+
+    QueryPlan(Query query, UniquePersonList persons) {
+        this.query = query;
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the number of persons this step finds, or an upper bound of it.
+     */
+    abstract int getEstimatedSize();
+
+    /**
+     * Returns true if this step finds its persons without testing every person.
+     */
+    boolean isIndexed() {
+        return true;
+    }
+
+    abstract PostingList execute();
+
+    /**
+     * Returns the persons matching the query, in address book order.
+     */
+    public List<ReadOnlyPerson> run() {
+        return execute().persons(persons);
+    }
+
+    /**
+     * Describes the steps of the plan.
+     */
+    @Override
+    public abstract String toString();
+
+    /**
+     * Takes the posting list of a field predicate from an index.
+     */
+    static final class Lookup extends QueryPlan {
+        private final PostingList postings;
+
+        Lookup(Query query, UniquePersonList persons, PostingList postings) {
+            super(query, persons);
+            this.postings = postings;
+        }
+
+        @Override
+        int getEstimatedSize() {
+            return postings.size();
+        }
+
+        @Override
+        PostingList execute() {
+            return postings;
+        }
+
+        @Override
+        public String toString() {
+            return "lookup " + query + " (" + postings.size() + ")";
+        }
+    }
+
+    /**
+     * Tests every person, for the parts of a query that no index answers.
+     */
+    static final class Scan extends QueryPlan {
+        private final Function<Predicate<? super ReadOnlyPerson>, List<ReadOnlyPerson>> scanner;
+
+        Scan(Query query, UniquePersonList persons,
+             Function<Predicate<? super ReadOnlyPerson>, List<ReadOnlyPerson>> scanner) {
+            super(query, persons);
+            this.scanner = scanner;
+        }
+
+        @Override
+        int getEstimatedSize() {
+            return persons.size();
+        }
+
+        @Override
+        boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        PostingList execute() {
+            return PostingList.of(scanner.apply(query), persons);
+        }
+
+        @Override
+        public String toString() {
+            return "scan " + query;
+        }
+    }
+
+    /**
+     * Finds the persons of an AND: takes the persons of its most selective operand, intersects them with the
+     * posting lists of the other operands looked up from an index, smallest first, subtracts the posting lists of
+     * the NOT operands looked up from an index, and tests the remaining persons against the other operands.
+     */
+    static final class Intersection extends QueryPlan {
+        private final QueryPlan first;
+        private final List<Lookup> intersected;
+        private final List<Lookup> subtracted;
+        private final List<Query> filters;
+
+        Intersection(Query query, UniquePersonList persons, QueryPlan first, List<Lookup> intersected,
+                     List<Lookup> subtracted, List<Query> filters) {
+            super(query, persons);
+            this.first = first;
+            this.intersected = intersected;
+            this.subtracted = subtracted;
+            this.filters = filters;
+        }
+
+        @Override
+        int getEstimatedSize() {
+            return first.getEstimatedSize();
+        }
+
+        @Override
+        PostingList execute() {
+            PostingList result = first.execute();
+            for (Lookup lookup : intersected) {
+                result = PostingList.intersection(result, lookup.execute());
+            }
+            for (Lookup lookup : subtracted) {
+                result = PostingList.difference(result, lookup.execute());
+            }
+            if (!filters.isEmpty() && !result.isEmpty()) {
+                result = result.filter(person -> filters.stream().allMatch(filter -> filter.test(person)), persons);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder description = new StringBuilder();
+            if (intersected.isEmpty()) {
+                description.append(first);
+            } else {
+                final List<QueryPlan> steps = new ArrayList<>();
+                steps.add(first);
+                steps.addAll(intersected);
+                description.append("intersect").append(steps);
+            }
+            if (!subtracted.isEmpty()) {
+                description.append(" minus").append(subtracted);
+            }
+            if (!filters.isEmpty()) {
+                description.append(" filter").append(filters);
+            }
+            return description.toString();
+        }
+    }
+
+    /**
+     * Finds the persons of an OR whose operands are all answered without a scan, by merging their posting lists.
+     */
+    static final class Union extends QueryPlan {
+        private final List<QueryPlan> operands;
+
+        Union(Query query, UniquePersonList persons, List<QueryPlan> operands) {
+            super(query, persons);
+            this.operands = operands;
+        }
+
+        @Override
+        int getEstimatedSize() {
+            long size = 0;
+            for (QueryPlan operand : operands) {
+                size += operand.getEstimatedSize();
+            }
+            return (int) Math.min(size, persons.size());
+        }
+
+        @Override
+        PostingList execute() {
+            final List<PostingList> operandPostings = new ArrayList<>(operands.size());
+            for (QueryPlan operand : operands) {
+                operandPostings.add(operand.execute());
+            }
+            return PostingList.union(operandPostings);
+        }
+
+        @Override
+        public String toString() {
+            return "union" + operands;
+        }
+    }
+}
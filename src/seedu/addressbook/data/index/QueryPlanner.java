@@ -0,0 +1,131 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.index.QueryPlan.Lookup;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.query.AndQuery;
+import seedu.addressbook.data.query.FieldQuery;
+import seedu.addressbook.data.query.NotQuery;
+import seedu.addressbook.data.query.OrQuery;
+import seedu.addressbook.data.query.Query;
+
+/**
+ * Plans how to find the persons matching a {@link Query} from the indexes of an address book.
+ *
+ * Name and tag predicates are looked up from the name trie and the tag index, which give their exact number of
+ * matches. An AND starts from its operand with the fewest matches, so that the other operands only need to be
+ * checked for those persons; an OR merges the posting lists of its operands. The parts of a query that no index
+ * answers (the other fields, an OR with such an operand, or a NOT on its own) scan all persons once.
+ */
+public class QueryPlanner {
+
+    private static final Comparator<QueryPlan> SMALLEST_FIRST = Comparator.comparingInt(QueryPlan::getEstimatedSize);
+
+    private final UniquePersonList persons;
+    private final NameTrie nameTrie;
+    private final TagIndex tagIndex;
+    private final Function<Predicate<? super ReadOnlyPerson>, List<ReadOnlyPerson>> scanner;
+
+    /**
+     * @param persons the list the indexes were built on, holding all the persons to query
+     * @param scanner returns the persons in the list that satisfy a predicate, in list order
+     */
+    public QueryPlanner(UniquePersonList persons, NameTrie nameTrie, TagIndex tagIndex,
+                        Function<Predicate<? super ReadOnlyPerson>, List<ReadOnlyPerson>> scanner) {
+        this.persons = persons;
+        this.nameTrie = nameTrie;
+        this.tagIndex = tagIndex;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Returns a plan for finding the persons matching the query. The plan reads the indexes as they are now, so it
+     * must be run before the persons change.
+     */
+    public QueryPlan plan(Query query) {
+        if (query instanceof FieldQuery) {
+            return planField((FieldQuery) query);
+        }
+        if (query instanceof AndQuery) {
+            return planAnd((AndQuery) query);
+        }
+        if (query instanceof OrQuery) {
+            return planOr((OrQuery) query);
+        }
+        return scan(query);
+    }
+
+    private QueryPlan planField(FieldQuery query) {
+        switch (query.getField()) {
+        case NAME:
+            return new Lookup(query, persons, query.isPrefix()
+                    ? nameTrie.getPostingsForPrefix(query.getValue())
+                    : nameTrie.getPostingsForWord(query.getValue()));
+        case TAG:
+            return new Lookup(query, persons, tagIndex.getPostingsForTag(query.getValue()));
+        default:
+            return scan(query);
+        }
+    }
+
+    private QueryPlan planAnd(AndQuery query) {
+        final List<QueryPlan> indexed = new ArrayList<>();
+        final List<Lookup> subtracted = new ArrayList<>();
+        final List<Query> filters = new ArrayList<>();
+        for (Query operand : query.getOperands()) {
+            if (operand instanceof NotQuery) {
+                final QueryPlan negated = plan(((NotQuery) operand).getOperand());
+                if (negated instanceof Lookup) {
+                    subtracted.add((Lookup) negated);
+                } else {
+                    filters.add(operand);
+                }
+                continue;
+            }
+            final QueryPlan operandPlan = plan(operand);
+            if (operandPlan.isIndexed()) {
+                indexed.add(operandPlan);
+            } else {
+                filters.add(operand);
+            }
+        }
+        if (indexed.isEmpty()) {
+            return scan(query);
+        }
+
+        indexed.sort(SMALLEST_FIRST);
+        final List<Lookup> intersected = new ArrayList<>();
+        for (QueryPlan operandPlan : indexed.subList(1, indexed.size())) {
+            // a looked up posting list is at hand, while any other step would cost more than testing the persons
+            if (operandPlan instanceof Lookup) {
+                intersected.add((Lookup) operandPlan);
+            } else {
+                filters.add(operandPlan.query);
+            }
+        }
+        return new QueryPlan.Intersection(query, persons, indexed.get(0), intersected, subtracted, filters);
+    }
+
+    private QueryPlan planOr(OrQuery query) {
+        final List<QueryPlan> operandPlans = new ArrayList<>();
+        for (Query operand : query.getOperands()) {
+            final QueryPlan operandPlan = plan(operand);
+            if (!operandPlan.isIndexed()) {
+                return scan(query); // one scan for all the operands
+            }
+            operandPlans.add(operandPlan);
+        }
+        operandPlans.sort(SMALLEST_FIRST);
+        return new QueryPlan.Union(query, persons, operandPlans);
+    }
+
+    private QueryPlan scan(Query query) {
+        return new QueryPlan.Scan(query, persons, scanner);
+    }
+}
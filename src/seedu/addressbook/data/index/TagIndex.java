@@ -0,0 +1,108 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * An inverted index from each case-folded tag name to the persons with that tag.
+ *
+ * Persons are indexed by the tags they have when they are added. Retagging a person already in the index is not
+ * tracked, like any other change made directly on a person, but the tags each person was indexed by are kept, so
+ * that removing a retagged person still removes it from all the postings it is in.
+ */
+public class TagIndex implements PersonIndex {
+
+    /** Maps each folded tag name to the persons with that tag. */
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    /** The folded tag names each person was indexed by, by ordinal, or null for ordinals not in the index. */
+    private final List<String[]> indexedTags = new ArrayList<>();
+
+    private final UniquePersonList persons;
+
+    /**
+     * Creates an empty index for the persons of the given list.
+     */
+    public TagIndex(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        final Set<String> folded = new LinkedHashSet<>(); // tags differing only in case are indexed once
+        for (Tag tag : person.getTags()) {
+            folded.add(fold(tag.tagName));
+        }
+        for (String tagName : folded) {
+            postings.computeIfAbsent(tagName, t -> new PostingList()).add(ordinal);
+        }
+        while (indexedTags.size() <= ordinal) {
+            indexedTags.add(null);
+        }
+        indexedTags.set(ordinal, folded.toArray(new String[0]));
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = persons.getOrdinal(person);
+        if (ordinal < 0 || ordinal >= indexedTags.size() || indexedTags.get(ordinal) == null) {
+            return;
+        }
+        for (String tagName : indexedTags.get(ordinal)) {
+            final PostingList tagPostings = postings.get(tagName);
+            tagPostings.remove(ordinal);
+            if (tagPostings.isEmpty()) {
+                postings.remove(tagName);
+            }
+        }
+        indexedTags.set(ordinal, null);
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        indexedTags.clear();
+    }
+
+    @Override
+    public void renumber(int[] newOrdinals) {
+        for (PostingList tagPostings : postings.values()) {
+            tagPostings.renumber(newOrdinals);
+        }
+        final List<String[]> renumbered = new ArrayList<>();
+        for (int ordinal = 0; ordinal < indexedTags.size(); ordinal++) {
+            final String[] tagNames = indexedTags.get(ordinal);
+            if (tagNames == null || newOrdinals[ordinal] < 0) {
+                continue;
+            }
+            while (renumbered.size() < newOrdinals[ordinal]) {
+                renumbered.add(null);
+            }
+            renumbered.add(tagNames);
+        }
+        indexedTags.clear();
+        indexedTags.addAll(renumbered);
+    }
+
+    /**
+     * Returns the persons with a tag named by the given name, ignoring case.
+     */
+    PostingList getPostingsForTag(String tagName) {
+        final PostingList tagPostings = postings.get(fold(tagName));
+        return tagPostings == null ? new PostingList() : tagPostings;
+    }
+
+    private static String fold(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.addressbook.data.person;
 
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.addressbook.data.tag.Tag;
@@ -12,10 +11,11 @@ import seedu.addressbook.data.tag.Tag;
  */
 public class Person implements ReadOnlyPerson {
 
-    private Name name;
-    private Phone phone;
-    private Email email;
-    private Address address;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final PersonKey key;
 
     private final Set<Tag> tags = new HashSet<>();
     /**
@@ -26,6 +26,7 @@ public class Person implements ReadOnlyPerson {
         this.phone = phone;
         this.email = email;
         this.address = address;
+        this.key = new PersonKey(name, phone, email, address);
         this.tags.addAll(tags);
     }
 
@@ -56,6 +57,11 @@ public class Person implements ReadOnlyPerson {
         return address;
     }
 
+    @Override
+    public PersonKey getKey() {
+        return key;
+    }
+
     @Override
     public Set<Tag> getTags() {
         return new HashSet<>(tags);
@@ -78,8 +84,8 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        // must agree with equals, which ignores tags
+        return key.hashCode();
     }
 
     @Override
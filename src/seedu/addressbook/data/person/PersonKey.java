@@ -0,0 +1,61 @@
+package seedu.addressbook.data.person;
+
+import java.util.Objects;
+
+/**
+ * Identifies a person by the details compared in {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)}.
+ * Tags are not part of a person's identity, so retagging a person does not change its key.
+ * Guarantees: immutable; details are present and not null; hash code is computed once.
+ */
+public final class PersonKey {
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final int hash;
+
+    /**
+     * Assumption: Every field must be present and not null.
+     */
+    public PersonKey(Name name, Phone phone, Email email, Address address) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.hash = Objects.hash(name, phone, email, address);
+    }
+
+    /**
+     * Creates the key of the given person.
+     */
+    public PersonKey(ReadOnlyPerson source) {
+        this(source.getName(), source.getPhone(), source.getEmail(), source.getAddress());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof PersonKey)) { // instanceof handles nulls
+            return false;
+        }
+        final PersonKey otherKey = (PersonKey) other;
+        return hash == otherKey.hash // cheap rejection before the state checks
+                && name.equals(otherKey.name)
+                && phone.equals(otherKey.phone)
+                && email.equals(otherKey.email)
+                && address.equals(otherKey.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + " Phone: " + phone + " Email: " + email + " Address: " + address;
+    }
+}
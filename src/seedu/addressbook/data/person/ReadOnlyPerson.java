@@ -21,6 +21,13 @@ public interface ReadOnlyPerson {
      */
     Set<Tag> getTags();
 
+    /**
+     * Returns the key identifying this person, consistent with {@link #isSameStateAs(ReadOnlyPerson)}.
+     */
+    default PersonKey getKey() {
+        return new PersonKey(this);
+    }
+
     /**
      * Returns true if the values inside this object is same as those of the other (Note: interfaces cannot override .equals)
      */
@@ -4,10 +4,29 @@ import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
 
 /**
  * A list of persons. Does not allow null elements or duplicates.
  *
+ * Persons are kept in insertion order, and are also indexed by their {@link PersonKey} so that membership
+ * checks do not scan the list.
+ *
+ * Each person also has an ordinal: a small number for indexes of the list to identify the person by, such as the
+ * position of a bit in a bitmap. Ordinals increase in list order, so ordering persons by ordinal gives list order.
+ * A removed person's ordinal is not given out again, so ordinals become sparse as persons are removed, until
+ * {@link #compactOrdinals()} renumbers the persons.
+ *
+ * Removing a person takes constant expected time: it only leaves a tombstone at the person's ordinal, and the list
+ * of persons in order is rebuilt from the ordinals when it is next read.
+ *
+ * As reads may rebuild that list, the list is not safe to read while it is being written, nor to read from several
+ * threads while persons removed since the last read are pending. Iterators, including those of
+ * {@link #immutableListView()}, throw {@link ConcurrentModificationException} if the list is changed while they
+ * iterate.
+ *
  * @see Person#equals(Object)
  * @see Utils#elementsAreUnique(Collection)
  */
@@ -28,22 +47,49 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public static class PersonNotFoundException extends Exception {}
 
-    private final List<Person> internalList = new ArrayList<>();
+    /** Lists shorter than this are filtered on the calling thread, as splitting them costs more than it saves. */
+    static final int MIN_PARALLEL_FILTER_SIZE = 8192;
+
+    /** Parts of a list being filtered are not split any further below this size. */
+    private static final int MIN_FILTER_SPLIT_SIZE = 1024;
+
+    /**
+     * The persons in list order, unless {@link #isListStale}: then it is rebuilt from {@link #personsByOrdinal}
+     * when next read, see {@link #list()}.
+     */
+    private ArrayList<Person> internalList = new ArrayList<>();
+
+    /** Whether persons have been removed since {@link #internalList} was last rebuilt. */
+    private boolean isListStale;
+
+    /** The number of times persons have been added, removed or cleared, for iterators to detect changes. */
+    private int modCount;
+
+    /**
+     * Maps the key of each person in {@link #internalList} to the ordinal of that person.
+     * Built on first use in copies, so that defensive copies only cost an array copy.
+     */
+    private Map<PersonKey, Integer> identityIndex;
+
+    /**
+     * The person with each ordinal given out, or null (a tombstone) for the ordinals of removed persons.
+     * Built along with the {@link #identityIndex}.
+     */
+    private ArrayList<Person> personsByOrdinal;
 
     /**
      * Constructs empty person list.
      */
-    public UniquePersonList() {}
+    public UniquePersonList() {
+        identityIndex = new HashMap<>();
+        personsByOrdinal = new ArrayList<>();
+    }
 
     /**
      * Constructs a person list with the given persons.
      */
     public UniquePersonList(Person... persons) throws DuplicatePersonException {
-        final List<Person> initialTags = Arrays.asList(persons);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicatePersonException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(persons));
     }
 
     /**
@@ -52,17 +98,50 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the {@code persons} contains duplicate persons
      */
     public UniquePersonList(Collection<Person> persons) throws DuplicatePersonException {
-        if (!Utils.elementsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        this();
+        for (Person person : persons) {
+            add(person);
         }
-        internalList.addAll(persons);
     }
 
     /**
      * Constructs a shallow copy of the list.
      */
     public UniquePersonList(UniquePersonList source) {
-        internalList.addAll(source.internalList);
+        internalList.addAll(source.list());
+    }
+
+    /**
+     * Returns the identity index, building it and numbering the persons in list order if this list is a copy that
+     * has not needed it yet.
+     */
+    private Map<PersonKey, Integer> identityIndex() {
+        if (identityIndex == null) {
+            identityIndex = new HashMap<>();
+            for (int i = 0; i < internalList.size(); i++) {
+                identityIndex.put(internalList.get(i).getKey(), i);
+            }
+            personsByOrdinal = new ArrayList<>(internalList);
+        }
+        return identityIndex;
+    }
+
+    /**
+     * Returns the persons in list order, first dropping the tombstones of the persons removed since it was last
+     * read. Rebuilding takes time proportional to the number of ordinals given out, once for any number of removals.
+     */
+    private List<Person> list() {
+        if (isListStale) {
+            final ArrayList<Person> rebuilt = new ArrayList<>(identityIndex.size());
+            for (Person person : personsByOrdinal) {
+                if (person != null) {
+                    rebuilt.add(person);
+                }
+            }
+            internalList = rebuilt;
+            isListStale = false;
+        }
+        return internalList;
     }
 
     /**
@@ -71,7 +150,114 @@ public class UniquePersonList implements Iterable<Person> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyPerson> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new ListView();
+    }
+
+    /**
+     * A view of {@link #list()}, which reads it afresh on every access as removals replace it.
+     */
+    private class ListView extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public int size() {
+            return UniquePersonList.this.size();
+        }
+
+        @Override
+        public Iterator<ReadOnlyPerson> iterator() {
+            return new ListViewIterator(0);
+        }
+
+        @Override
+        public ListIterator<ReadOnlyPerson> listIterator(int index) {
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            return new ListViewIterator(index);
+        }
+    }
+
+    /**
+     * A read-only iterator of the {@link ListView}, which fails if the list is changed while it iterates. The view
+     * itself cannot count the changes, as they are made to this list rather than through the view.
+     */
+    private class ListViewIterator implements ListIterator<ReadOnlyPerson> {
+        private final int expectedModCount = modCount;
+        private int cursor;
+
+        ListViewIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public ReadOnlyPerson next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return list().get(cursor++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public ReadOnlyPerson previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return list().get(--cursor);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(ReadOnlyPerson person) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(ReadOnlyPerson person) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        return identityIndex == null ? internalList.size() : identityIndex.size();
     }
 
 
@@ -79,7 +265,7 @@ public class UniquePersonList implements Iterable<Person> {
      * Checks if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
-        return internalList.contains(toCheck);
+        return identityIndex().containsKey(toCheck.getKey());
     }
 
     /**
@@ -88,47 +274,202 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
     public void add(Person toAdd) throws DuplicatePersonException {
-        if (contains(toAdd)) {
+        final PersonKey key = toAdd.getKey();
+        if (identityIndex().containsKey(key)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        identityIndex.put(key, personsByOrdinal.size());
+        personsByOrdinal.add(toAdd);
+        if (!isListStale) {
+            internalList.add(toAdd);
+        }
+        modCount++;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list, in constant expected time.
      *
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
     public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer ordinal = identityIndex().remove(toRemove.getKey());
+        if (ordinal == null) {
             throw new PersonNotFoundException();
         }
+        personsByOrdinal.set(ordinal, null);
+        isListStale = true;
+        modCount++;
     }
 
     /**
      * Clears all persons in list.
      */
     public void clear() {
-        internalList.clear();
+        internalList = new ArrayList<>();
+        isListStale = false;
+        identityIndex = new HashMap<>();
+        personsByOrdinal = new ArrayList<>();
+        modCount++;
+    }
+
+    /**
+     * Returns the ordinal of the equivalent person in the list, or -1 if there is none.
+     */
+    public int getOrdinal(ReadOnlyPerson person) {
+        final Integer ordinal = identityIndex().get(person.getKey());
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the person with the given ordinal, or null if that person has been removed.
+     */
+    public Person getByOrdinal(int ordinal) {
+        identityIndex();
+        return personsByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Returns the number of ordinals given out, including those of removed persons: all ordinals are below it.
+     */
+    public int getOrdinalBound() {
+        identityIndex();
+        return personsByOrdinal.size();
+    }
+
+    /**
+     * Returns true if the ordinals of removed persons outnumber the persons in the list, so that compacting the
+     * ordinals takes less time than was spent adding the persons whose ordinals it frees.
+     */
+    public boolean hasSparseOrdinals() {
+        return getOrdinalBound() - size() > size();
+    }
+
+    /**
+     * Renumbers the persons from 0 in list order, so that the ordinals are dense again.
+     *
+     * @return the new ordinal of each old ordinal, or -1 for the ordinals of removed persons
+     */
+    public int[] compactOrdinals() {
+        final int[] newOrdinals = new int[getOrdinalBound()];
+        int nextOrdinal = 0;
+        for (int ordinal = 0; ordinal < newOrdinals.length; ordinal++) {
+            final Person person = personsByOrdinal.get(ordinal);
+            if (person == null) {
+                newOrdinals[ordinal] = -1;
+                continue;
+            }
+            identityIndex.put(person.getKey(), nextOrdinal);
+            newOrdinals[ordinal] = nextOrdinal++;
+        }
+        personsByOrdinal = new ArrayList<>(list());
+        return newOrdinals;
+    }
+
+    /**
+     * Returns the persons in the list that satisfy the predicate, in list order. Long lists are split into parts
+     * that are filtered in parallel in the given pool, without copying the list.
+     * The predicate must be safe to call from several threads, and the list must not change meanwhile.
+     */
+    public List<ReadOnlyPerson> filter(Predicate<? super ReadOnlyPerson> predicate, ForkJoinPool pool) {
+        final List<Person> persons = list();
+        if (persons.size() < MIN_PARALLEL_FILTER_SIZE || pool.getParallelism() == 1) {
+            final List<ReadOnlyPerson> matches = new ArrayList<>();
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    matches.add(person);
+                }
+            }
+            return matches;
+        }
+        final long splitSize = Math.max(MIN_FILTER_SPLIT_SIZE, persons.size() / (pool.getParallelism() * 4L));
+        final List<List<ReadOnlyPerson>> parts =
+                pool.invoke(new FilterTask(persons.spliterator(), predicate, splitSize));
+        int matchCount = 0;
+        for (List<ReadOnlyPerson> part : parts) {
+            matchCount += part.size();
+        }
+        final List<ReadOnlyPerson> matches = new ArrayList<>(matchCount);
+        for (List<ReadOnlyPerson> part : parts) {
+            matches.addAll(part);
+        }
+        return matches;
+    }
+
+    /**
+     * Filters the persons of a spliterator over {@link #internalList}, splitting it in two until it is small
+     * enough. Returns the matches of each part separately, in order, so that joining parts only concatenates
+     * short lists of parts and the matches themselves are copied once, at the end.
+     */
+    private static class FilterTask extends RecursiveTask<List<List<ReadOnlyPerson>>> {
+        private final Spliterator<Person> persons;
+        private final Predicate<? super ReadOnlyPerson> predicate;
+        private final long splitSize;
+
+        FilterTask(Spliterator<Person> persons, Predicate<? super ReadOnlyPerson> predicate, long splitSize) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.splitSize = splitSize;
+        }
+
+        @Override
+        protected List<List<ReadOnlyPerson>> compute() {
+            if (persons.estimateSize() > splitSize) {
+                // the ArrayList spliterator splits off the first half of its range of the backing array,
+                // and this task goes on with the second half
+                final Spliterator<Person> firstHalf = persons.trySplit();
+                if (firstHalf != null) {
+                    final FilterTask first = new FilterTask(firstHalf, predicate, splitSize);
+                    first.fork();
+                    final List<List<ReadOnlyPerson>> secondParts = compute();
+                    final List<List<ReadOnlyPerson>> parts = first.join();
+                    parts.addAll(secondParts);
+                    return parts;
+                }
+            }
+            final List<ReadOnlyPerson> matches = new ArrayList<>();
+            persons.forEachRemaining(person -> {
+                if (predicate.test(person)) {
+                    matches.add(person);
+                }
+            });
+            final List<List<ReadOnlyPerson>> parts = new ArrayList<>();
+            parts.add(matches);
+            return parts;
+        }
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        final Iterator<Person> persons = list().iterator();
+        final int expectedModCount = modCount;
+        // removal through the iterator would bypass the identity index, so it is not supported
+        return new Iterator<Person>() {
+            @Override
+            public boolean hasNext() {
+                return persons.hasNext();
+            }
+
+            @Override
+            public Person next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return persons.next();
+            }
+        };
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
-                && this.internalList.equals(
-                        ((UniquePersonList) other).internalList));
+                && this.list().equals(
+                        ((UniquePersonList) other).list()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return list().hashCode();
     }
 
 }
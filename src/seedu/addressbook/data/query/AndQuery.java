@@ -0,0 +1,46 @@
+package seedu.addressbook.data.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Matches a person that matches all of its operands.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * @param operands at least two queries
+     */
+    public AndQuery(List<Query> operands) {
+        assert operands.size() >= 2;
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        for (Query operand : operands) {
+            if (!operand.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final List<String> operandStrings = new ArrayList<>();
+        for (Query operand : operands) {
+            operandStrings.add(operand.toString());
+        }
+        return '(' + String.join(" AND ", operandStrings) + ')';
+    }
+}
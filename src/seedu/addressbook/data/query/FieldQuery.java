@@ -0,0 +1,116 @@
+package seedu.addressbook.data.query;
+
+import java.util.Locale;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * A predicate on one field of a person, ignoring case:
+ * <ul>
+ *     <li>{@code name:WORD} matches a person with a name word equal to the value, and {@code name:PREFIX*} one with
+ *     a name word starting with it.</li>
+ *     <li>{@code tag:TAG} matches a person with a tag of that name.</li>
+ *     <li>{@code email:}, {@code phone:} and {@code address:} match a person whose field contains the value.
+ *     Private fields never match, so that a query cannot reveal them.</li>
+ * </ul>
+ */
+public class FieldQuery extends Query {
+
+    /**
+     * A field of a person that can be queried.
+     */
+    public enum Field {
+        NAME("name"), TAG("tag"), EMAIL("email"), PHONE("phone"), ADDRESS("address");
+
+        public final String keyword;
+
+        Field(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * Returns the field with the given keyword, or null if there is none.
+         */
+        public static Field fromKeyword(String keyword) {
+            for (Field field : values()) {
+                if (field.keyword.equals(keyword)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    private final Field field;
+    private final String value;
+    private final boolean isPrefix;
+
+    /**
+     * @param value the value to match, not empty
+     * @param isPrefix whether the value is a name word prefix; only allowed for {@link Field#NAME}
+     */
+    public FieldQuery(Field field, String value, boolean isPrefix) {
+        assert !value.isEmpty();
+        assert !isPrefix || field == Field.NAME;
+        this.field = field;
+        this.value = fold(value);
+        this.isPrefix = isPrefix;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the value to match, folded to lower case.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isPrefix() {
+        return isPrefix;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        switch (field) {
+        case NAME:
+            for (String word : person.getName().getWordsInName()) {
+                final String folded = fold(word);
+                if (isPrefix ? folded.startsWith(value) : folded.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        case TAG:
+            for (Tag tag : person.getTags()) {
+                if (fold(tag.tagName).equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        case EMAIL:
+            return !person.getEmail().isPrivate() && fold(person.getEmail().value).contains(value);
+        case PHONE:
+            return !person.getPhone().isPrivate() && fold(person.getPhone().value).contains(value);
+        case ADDRESS:
+            return !person.getAddress().isPrivate() && fold(person.getAddress().value).contains(value);
+        default:
+            throw new AssertionError(field);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final boolean needsQuotes = value.matches(".*[\\s()\"].*");
+        return field.keyword + ':' + (needsQuotes ? '"' + value + '"' : value) + (isPrefix ? PREFIX_WILDCARD : "");
+    }
+
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.addressbook.data.query;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Matches a person that does not match its operand.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    public NotQuery(Query operand) {
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.addressbook.data.query;
+
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * A condition on the fields of a person, built from {@link FieldQuery field predicates} combined with
+ * {@link AndQuery AND}, {@link OrQuery OR} and {@link NotQuery NOT}.
+ *
+ * Testing every person with {@link #test(ReadOnlyPerson)} finds the persons matching the query by brute force; the
+ * address book plans faster ways to find the same persons from its indexes.
+ * Queries are immutable, so they can be tested from several threads at once.
+ */
+public abstract class Query implements Predicate<ReadOnlyPerson> {
+
+    /**
+     * Returns the query in the query syntax, with the values folded to lower case and every AND and OR in
+     * parentheses, so that equivalent queries typed differently read the same.
+     */
+    @Override
+    public abstract String toString();
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Query // instanceof handles nulls
+                && this.toString().equals(other.toString())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+}
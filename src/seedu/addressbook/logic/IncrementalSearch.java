@@ -0,0 +1,114 @@
+package seedu.addressbook.logic;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import seedu.addressbook.commands.CommandResult;
+
+/**
+ * Runs the query typed so far in the background, for showing its results while the user types, e.g. a
+ * {@code find} command.
+ *
+ * Each change of the input supersedes the previous ones: input changed again within the debounce delay is not
+ * searched, a search of superseded input is cancelled even in the middle of scanning the address book, and only
+ * the result of the latest input is delivered. Input that is not a query is not searched.
+ * Searches run one at a time on a background thread, through {@link Logic#search(String, BooleanSupplier)}.
+ */
+public class IncrementalSearch {
+
+    /**
+     * Longer than the time between the keystrokes of fast typing, so that a burst of keystrokes is searched once, but
+     * short enough for the results to follow the typing without a noticeable pause.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 50;
+
+    private final Logic logic;
+    private final long debounceMillis;
+    private final Executor resultExecutor;
+    private final Consumer<CommandResult> resultHandler;
+    private final ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "incremental-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The version of the latest input, increased on every change. */
+    private final AtomicLong latestVersion = new AtomicLong();
+
+    private ScheduledFuture<?> pendingSearch;
+
+    /**
+     * @param resultExecutor runs the handling of results, e.g. on the UI thread
+     * @param resultHandler handles the result of the latest input, if it is still the latest when handled
+     */
+    public IncrementalSearch(Logic logic, long debounceMillis, Executor resultExecutor,
+                             Consumer<CommandResult> resultHandler) {
+        this.logic = logic;
+        this.debounceMillis = debounceMillis;
+        this.resultExecutor = resultExecutor;
+        this.resultHandler = resultHandler;
+    }
+
+    /**
+     * Searches the given input after the debounce delay, unless it is changed again before then, superseding the
+     * searches of all earlier input. Returns immediately.
+     */
+    public synchronized void update(String input) {
+        final long version = latestVersion.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        pendingSearch = searchExecutor.schedule(() -> search(input, version), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Supersedes the searches of all earlier input without searching anything new, e.g. when the input is
+     * executed as a command, so that their results are not delivered afterwards.
+     */
+    public synchronized void cancel() {
+        latestVersion.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Stops the background thread. No more results are delivered.
+     */
+    public void shutdown() {
+        cancel();
+        searchExecutor.shutdownNow();
+    }
+
+    private boolean isLatest(long version) {
+        return latestVersion.get() == version;
+    }
+
+    private void search(String input, long version) {
+        final CommandResult result;
+        try {
+            result = logic.search(input, () -> !isLatest(version));
+        } catch (CancellationException ce) {
+            return;
+        } catch (Exception e) {
+            // incomplete input is expected to fail while typing; it is reported when executed as a command
+            return;
+        }
+        if (result == null || !isLatest(version)) {
+            return;
+        }
+        resultExecutor.execute(() -> {
+            if (isLatest(version)) {
+                resultHandler.accept(result);
+            }
+        });
+    }
+}
@@ -2,32 +2,71 @@ package seedu.addressbook.logic;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.PersonCursor;
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeLog;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.JournaledStorageFile;
+import seedu.addressbook.storage.ShardedStorageFile;
 import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.WriteBehindStorage;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 
 /**
  * Represents the main Logic of the AddressBook.
+ * Commands may be executed from several threads, e.g. for {@link IncrementalSearch}, one at a time.
  */
 public class Logic {
 
+    /**
+     * The system property that selects how the address book is stored: {@value #STORAGE_MODE_PLAIN} (the default)
+     * rewrites the whole file on every save, {@value #STORAGE_MODE_JOURNALED} appends the changes to a journal,
+     * {@value #STORAGE_MODE_SHARDED} splits the persons across segment files and rewrites the segments that changed.
+     */
+    public static final String STORAGE_MODE_PROPERTY = "addressbook.storage";
+    public static final String STORAGE_MODE_PLAIN = "plain";
+    public static final String STORAGE_MODE_JOURNALED = "journaled";
+    public static final String STORAGE_MODE_SHARDED = "sharded";
 
     private StorageFile storage;
     private AddressBook addressBook;
 
-    /** The list of person shown to the user most recently.  */
-    private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
+    /** Saves to {@link #storage} in the background, if write-behind saving is enabled. */
+    private WriteBehindStorage writeBehindStorage;
+
+    /**
+     * The generation of {@link #addressBook} that was last written to {@link #storage}, when not saving through
+     * the {@link #writeBehindStorage}, which keeps track of its own.
+     */
+    private long savedGeneration;
+
+    /** The changes made to {@link #addressBook} that have not been handed to storage yet. */
+    private AddressBookChangeLog unsavedChanges = new AddressBookChangeLog();
+
+    /** Results of the read-only queries made on {@link #addressBook}. */
+    private final QueryCache queryCache = new QueryCache();
+
+    /** The list of person shown to the user most recently, at the page visible to the user. */
+    private PersonCursor shownPersons = new PersonCursor(Collections.emptyList(), PersonCursor.DEFAULT_PAGE_SIZE);
 
     public Logic() throws Exception{
         setStorage(initializeStorage());
+        storage.setDurableSaveEnabled(true);
         setAddressBook(storage.load());
+        enableWriteBehind(WriteBehindStorage.DEFAULT_MAX_DELAY_MILLIS);
     }
 
+    /**
+     * Creates a Logic operating on the given address book, which is assumed to be already in sync with the storage
+     * file.
+     */
     Logic(StorageFile storageFile, AddressBook addressBook){
         setStorage(storageFile);
         setAddressBook(addressBook);
@@ -37,16 +76,67 @@ public class Logic {
         this.storage = storage;
     }
 
+    /**
+     * Sets the address book to operate on. It is assumed to be already in sync with the storage file.
+     */
     void setAddressBook(AddressBook addressBook){
+        if (this.addressBook != null) {
+            this.addressBook.removeListener(unsavedChanges);
+        }
         this.addressBook = addressBook;
+        this.savedGeneration = addressBook.getGeneration();
+        unsavedChanges = new AddressBookChangeLog();
+        addressBook.addListener(unsavedChanges);
+        queryCache.clear();
+    }
+
+    /**
+     * Makes subsequent saves happen on a background thread instead of during command execution.
+     * Changes made within {@code maxDelayMillis} of each other are saved together.
+     */
+    public void enableWriteBehind(long maxDelayMillis) throws StorageFile.StorageOperationException {
+        saveIfModified();
+        if (writeBehindStorage != null) {
+            writeBehindStorage.close();
+        }
+        writeBehindStorage = new WriteBehindStorage(storage, addressBook, maxDelayMillis);
+    }
+
+    /**
+     * Waits until all changes made so far have been saved to storage.
+     * @throws StorageFile.StorageOperationException if saving failed.
+     */
+    public void flushStorage() throws StorageFile.StorageOperationException {
+        if (writeBehindStorage != null) {
+            writeBehindStorage.flush();
+        }
     }
 
     /**
-     * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
+     * Creates the StorageFile object based on the user specified path (if any) or the default storage path, of the
+     * kind selected by the {@link #STORAGE_MODE_PROPERTY} system property.
      * @throws StorageFile.InvalidStorageFilePathException if the target file path is incorrect.
+     * @throws IllegalArgumentException if the storage mode is not one of the known modes.
      */
     private StorageFile initializeStorage() throws StorageFile.InvalidStorageFilePathException {
-        return new StorageFile();
+        return createStorage(System.getProperty(STORAGE_MODE_PROPERTY, STORAGE_MODE_PLAIN));
+    }
+
+    /**
+     * Creates a storage file at the default storage path for the given storage mode.
+     * @throws IllegalArgumentException if the storage mode is not one of the known modes.
+     */
+    static StorageFile createStorage(String storageMode) throws StorageFile.InvalidStorageFilePathException {
+        switch (storageMode) {
+        case STORAGE_MODE_PLAIN:
+            return new StorageFile();
+        case STORAGE_MODE_JOURNALED:
+            return new JournaledStorageFile();
+        case STORAGE_MODE_SHARDED:
+            return new ShardedStorageFile();
+        default:
+            throw new IllegalArgumentException("Unknown storage mode: " + storageMode);
+        }
     }
 
     public String getStorageFilePath() {
@@ -54,46 +144,134 @@ public class Logic {
     }
 
     /**
-     * Unmodifiable view of the current last shown list.
+     * Unmodifiable view of the page of the last shown list that is visible to the user.
      */
     public List<ReadOnlyPerson> getLastShownList() {
-        return Collections.unmodifiableList(lastShownList);
+        return shownPersons.getPage();
     }
 
+    /**
+     * Shows the first page of the given list, with the current page size.
+     */
     protected void setLastShownList(List<? extends ReadOnlyPerson> newList) {
-        lastShownList = newList;
+        shownPersons = new PersonCursor(newList, shownPersons.getPageSize());
     }
 
     /**
-     * Parses the user command, executes it, and returns the result.
+     * Returns the cache of query results, e.g. to read its hit and miss counts.
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Parses the user command, executes it, and returns the result. A result with a list of persons is returned
+     * with the page of the list to show.
      * @throws Exception if there was any problem during command execution.
      */
-    public CommandResult execute(String userCommandText) throws Exception {
+    public synchronized CommandResult execute(String userCommandText) throws Exception {
         Command command = new Parser().parseCommand(userCommandText);
         CommandResult result = execute(command);
-        recordResult(result);
-        return result;
+        return recordResult(result);
+    }
+
+    /**
+     * Parses the user command and, if it is a read-only query (see {@link Command#getQueryKey()}), executes it and
+     * returns the result with its first page, without changing the last shown list: for showing the results of a
+     * command while it is being typed.
+     *
+     * @param isCancelled checked while scanning the address book for whether the result is still wanted
+     * @return the result, or null if the command is not a query
+     * @throws CancellationException if {@code isCancelled} returned true before the query finished
+     * @throws Exception if there was any problem during command execution.
+     */
+    public synchronized CommandResult search(String userCommandText, BooleanSupplier isCancelled) throws Exception {
+        Command command = new Parser().parseCommand(userCommandText);
+        if (command.getQueryKey() == null) {
+            return null;
+        }
+        if (isCancelled.getAsBoolean()) {
+            throw new CancellationException("Search cancelled");
+        }
+        addressBook.setScanCancellation(isCancelled);
+        try {
+            return pageResult(execute(command));
+        } finally {
+            addressBook.setScanCancellation(null);
+        }
     }
 
     /**
-     * Executes the command, updates storage, and returns the result.
+     * Executes the command, updates storage if the address book was changed, and returns the result.
+     * Queries already made on the address book in its current state are answered from the {@link #queryCache}.
      *
      * @param command user command
      * @return result of the command
      * @throws Exception if there was any problem during command execution.
      */
     private CommandResult execute(Command command) throws Exception {
-        command.setData(addressBook, lastShownList);
+        final String queryKey = command.getQueryKey();
+        if (queryKey != null) {
+            final CommandResult cachedResult = queryCache.get(queryKey, addressBook);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+        }
+        command.setData(addressBook, shownPersons);
         CommandResult result = command.execute();
-        storage.save(addressBook);
+        if (queryKey != null) {
+            queryCache.put(queryKey, addressBook, result);
+        }
+        saveIfModified();
+        if (command instanceof ExitCommand) {
+            flushStorage();
+        }
         return result;
     }
 
-    /** Updates the {@link #lastShownList} if the result contains a list of Persons. */
-    private void recordResult(CommandResult result) {
+    /**
+     * Saves the changes made to the address book since it was last saved, if any. With write-behind, the changes
+     * are handed to the background writer, and a failed background write is retried even if nothing changed.
+     */
+    private void saveIfModified() throws StorageFile.StorageOperationException {
+        final long currentGeneration = addressBook.getGeneration();
+        if (writeBehindStorage != null) {
+            if (currentGeneration != writeBehindStorage.getSavedGeneration()) {
+                writeBehindStorage.submit(unsavedChanges.takeChanges(), currentGeneration);
+            }
+            return;
+        }
+        if (currentGeneration == savedGeneration) {
+            return;
+        }
+        storage.saveChanges(addressBook, unsavedChanges.takeChanges());
+        savedGeneration = currentGeneration;
+    }
+
+    /**
+     * Updates the {@link #shownPersons} if the result contains a list of Persons, showing the first page of the list
+     * if the command did not choose a page.
+     *
+     * @return the result, with the page shown if it contains a list of Persons
+     */
+    private CommandResult recordResult(CommandResult result) {
+        result = pageResult(result);
+        final Optional<PersonCursor> resultPage = result.getShownPersons();
+        if (resultPage.isPresent()) {
+            shownPersons = resultPage.get();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the result with the first page of its list of Persons to show, with the current page size, if it
+     * contains a list of Persons that the command did not page.
+     */
+    private CommandResult pageResult(CommandResult result) {
         final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
-        if (personList.isPresent()) {
-            lastShownList = personList.get();
+        if (!personList.isPresent() || result.getShownPersons().isPresent()) {
+            return result;
         }
+        return new CommandResult(result.feedbackToUser, new PersonCursor(personList.get(), shownPersons.getPageSize()));
     }
 }
@@ -0,0 +1,105 @@
+package seedu.addressbook.logic;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.AddressBook;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the results of read-only queries, keyed by the query key of the command
+ * (see {@link seedu.addressbook.commands.Command#getQueryKey()}) and the generation of the address book it ran on.
+ * The least recently used result is evicted when the cache is full.
+ *
+ * As the generation of an address book only increases, results cached for an earlier generation can never be
+ * used again, so they are all dropped as soon as the address book changes.
+ */
+public class QueryCache {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Map<String, CommandResult> results;
+
+    /** The address book and generation that the results in {@link #results} are for. */
+    private AddressBook addressBook;
+    private long generation;
+
+    private long hitCount;
+    private long missCount;
+
+    public QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the most results to keep
+     */
+    public QueryCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        results = new LinkedHashMap<String, CommandResult>(16, 0.75f, true) { // iterates in access order
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CommandResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of the query on the address book in its current state, or null if there is none.
+     * Counts as a hit or a miss.
+     */
+    public CommandResult get(String queryKey, AddressBook addressBook) {
+        dropIfStale(addressBook);
+        final CommandResult result = results.get(queryKey);
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    /**
+     * Caches the result of the query on the address book in its current state.
+     */
+    public void put(String queryKey, AddressBook addressBook, CommandResult result) {
+        dropIfStale(addressBook);
+        results.put(queryKey, result);
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        results.clear();
+        addressBook = null;
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Drops the cached results if they are for another address book, or an earlier generation of this one.
+     */
+    private void dropIfStale(AddressBook addressBook) {
+        if (addressBook != this.addressBook || addressBook.getGeneration() != generation) {
+            results.clear();
+            this.addressBook = addressBook;
+            this.generation = addressBook.getGeneration();
+        }
+    }
+}
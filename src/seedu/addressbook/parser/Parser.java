@@ -69,9 +69,21 @@ public class Parser {
             case FindCommand.COMMAND_WORD:
                 return prepareFind(arguments);
 
+            case QueryCommand.COMMAND_WORD:
+                return prepareQuery(arguments);
+
             case ListCommand.COMMAND_WORD:
                 return new ListCommand();
 
+            case NextCommand.COMMAND_WORD:
+                return new NextCommand();
+
+            case PrevCommand.COMMAND_WORD:
+                return new PrevCommand();
+
+            case PageSizeCommand.COMMAND_WORD:
+                return preparePageSize(arguments);
+
             case ViewCommand.COMMAND_WORD:
                 return prepareView(arguments);
 
@@ -190,6 +202,24 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses arguments in the context of the page size command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command preparePageSize(String args) {
+        try {
+            final int pageSize = Integer.parseInt(args.trim());
+            if (pageSize > 0 && pageSize <= PersonCursor.MAX_PAGE_SIZE) {
+                return new PageSizeCommand(pageSize);
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageSizeCommand.MESSAGE_USAGE));
+    }
+
     /**
      * Parses the given arguments string as a single index number.
      *
@@ -222,9 +252,136 @@ public class Parser {
 
         // keywords delimited by whitespace
         final String[] keywords = matcher.group("keywords").split("\\s+");
+        if (keywords[0].equals(FindPrefixCommand.COMMAND_FLAG)) {
+            return prepareFindPrefix(keywords);
+        }
+        if (keywords[0].equals(FindFuzzyCommand.COMMAND_FLAG)) {
+            return prepareFindFuzzy(keywords);
+        }
+        if (keywords[0].equals(FindRankedCommand.COMMAND_FLAG)) {
+            return prepareFindRanked(keywords);
+        }
+        if (keywords[0].equals(FindPhoneticCommand.COMMAND_FLAG)) {
+            return prepareFindPhonetic(keywords);
+        }
         final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
         return new FindCommand(keywordSet);
     }
 
+    /**
+     * Parses the words of the arguments of the find command, after its {@link FindPrefixCommand#COMMAND_FLAG},
+     * as the arguments of the find by prefix command.
+     *
+     * @param words the words of the find command args string, starting with the flag
+     * @return the prepared command
+     */
+    private Command prepareFindPrefix(String[] words) {
+        if (words.length < 2) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindPrefixCommand.MESSAGE_USAGE));
+        }
+        final Set<String> prefixSet = new HashSet<>(Arrays.asList(words).subList(1, words.length));
+        return new FindPrefixCommand(prefixSet);
+    }
+
+    /**
+     * Parses the words of the arguments of the find command, after its {@link FindFuzzyCommand#COMMAND_FLAG},
+     * as the keywords and optional maximum distance of the fuzzy find command.
+     *
+     * @param words the words of the find command args string, starting with the flag
+     * @return the prepared command
+     */
+    private Command prepareFindFuzzy(String[] words) {
+        final Set<String> keywordSet = new HashSet<>();
+        try {
+            final int maxDistance = parseKeywordsAndOption(words, FindFuzzyCommand.DISTANCE_PREFIX,
+                    FindFuzzyCommand.DEFAULT_MAX_DISTANCE, keywordSet);
+            if (!keywordSet.isEmpty() && maxDistance >= 0 && maxDistance <= FindFuzzyCommand.MAX_MAX_DISTANCE) {
+                return new FindFuzzyCommand(keywordSet, maxDistance);
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses the words of the arguments of the find command, after its {@link FindRankedCommand#COMMAND_FLAG},
+     * as the keywords and optional limit of the ranked find command.
+     *
+     * @param words the words of the find command args string, starting with the flag
+     * @return the prepared command
+     */
+    private Command prepareFindRanked(String[] words) {
+        final Set<String> keywordSet = new HashSet<>();
+        try {
+            final int limit = parseKeywordsAndOption(words, FindRankedCommand.LIMIT_PREFIX,
+                    FindRankedCommand.DEFAULT_LIMIT, keywordSet);
+            if (!keywordSet.isEmpty() && limit > 0 && limit <= FindRankedCommand.MAX_LIMIT) {
+                return new FindRankedCommand(keywordSet, limit);
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRankedCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses the words of the arguments of the find command, after its {@link FindPhoneticCommand#COMMAND_FLAG},
+     * as the keywords of the phonetic find command.
+     *
+     * @param words the words of the find command args string, starting with the flag
+     * @return the prepared command
+     */
+    private Command prepareFindPhonetic(String[] words) {
+        if (words.length < 2) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindPhoneticCommand.MESSAGE_USAGE));
+        }
+        final Set<String> keywordSet = new HashSet<>(Arrays.asList(words).subList(1, words.length));
+        return new FindPhoneticCommand(keywordSet);
+    }
+
+    /**
+     * Parses arguments in the context of the query command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareQuery(String args) {
+        if (args.trim().isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new QueryCommand(QueryParser.parse(args));
+        } catch (ParseException pe) {
+            return new IncorrectCommand(pe.getMessage() + "\n" + QueryCommand.MESSAGE_USAGE);
+        }
+    }
+
+    /**
+     * Sorts the words of the arguments of the find command after its flag into keywords and the value of a numeric
+     * option, given as the option prefix followed by the value.
+     *
+     * @param words the words of the find command args string, starting with the flag
+     * @param optionPrefix the prefix of the option
+     * @param defaultValue the value of the option if it is not given
+     * @param keywords receives the keywords
+     * @return the value of the option
+     * @throws NumberFormatException if the option value is not a number
+     */
+    private static int parseKeywordsAndOption(String[] words, String optionPrefix, int defaultValue,
+                                              Set<String> keywords) throws NumberFormatException {
+        int value = defaultValue;
+        for (String word : Arrays.asList(words).subList(1, words.length)) {
+            if (word.startsWith(optionPrefix)) {
+                value = Integer.parseInt(word.substring(optionPrefix.length()));
+            } else {
+                keywords.add(word);
+            }
+        }
+        return value;
+    }
+
 
 }
\ No newline at end of file
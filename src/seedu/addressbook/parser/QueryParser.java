@@ -0,0 +1,176 @@
+package seedu.addressbook.parser;
+
+import seedu.addressbook.data.query.AndQuery;
+import seedu.addressbook.data.query.FieldQuery;
+import seedu.addressbook.data.query.FieldQuery.Field;
+import seedu.addressbook.data.query.NotQuery;
+import seedu.addressbook.data.query.OrQuery;
+import seedu.addressbook.data.query.Query;
+import seedu.addressbook.parser.Parser.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses the arguments of the query command into a {@link Query}.
+ *
+ * A query is made of {@code FIELD:VALUE} predicates combined with {@code NOT}, {@code AND} and {@code OR}, in that
+ * order of precedence, and grouped with parentheses. Predicates next to each other without an operator are ANDed.
+ * Values with spaces or parentheses are written in double quotes, and a name value ending with {@code *} is a
+ * prefix. The operators are not case sensitive.
+ */
+class QueryParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses the query.
+     *
+     * @throws ParseException if the query is not valid, with a message saying why
+     */
+    static Query parse(String query) throws ParseException {
+        final QueryParser parser = new QueryParser(tokenize(query));
+        final Query parsed = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new ParseException("Unexpected " + parser.tokens.get(parser.position) + " in query");
+        }
+        return parsed;
+    }
+
+    /**
+     * Splits the query into parentheses and words, keeping quoted values whole.
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        final List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                final int start = i;
+                boolean isQuoted = false;
+                while (i < query.length() && (isQuoted || !isDelimiter(query.charAt(i)))) {
+                    if (query.charAt(i) == '"') {
+                        isQuoted = !isQuoted;
+                    }
+                    i++;
+                }
+                if (isQuoted) {
+                    throw new ParseException("Missing closing quote in query");
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private Query parseOr() throws ParseException {
+        final List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNextOperator(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(flatten(operands, OrQuery.class));
+    }
+
+    private Query parseAnd() throws ParseException {
+        final List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !isNextOperator(OR) && !tokens.get(position).equals(CLOSE)) {
+            if (isNextOperator(AND)) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(flatten(operands, AndQuery.class));
+    }
+
+    private Query parseNot() throws ParseException {
+        if (position == tokens.size()) {
+            throw new ParseException("Expected a predicate, NOT or ( but the query ended");
+        }
+        final String token = tokens.get(position++);
+        if (token.equalsIgnoreCase(NOT)) {
+            return new NotQuery(parseNot());
+        }
+        if (token.equals(OPEN)) {
+            final Query grouped = parseOr();
+            if (position == tokens.size() || !tokens.get(position).equals(CLOSE)) {
+                throw new ParseException("Missing closing parenthesis in query");
+            }
+            position++;
+            return grouped;
+        }
+        if (token.indexOf(':') < 0) {
+            throw new ParseException("Expected a predicate, NOT or ( but found " + token);
+        }
+        return parsePredicate(token);
+    }
+
+    private static Query parsePredicate(String token) throws ParseException {
+        final int colon = token.indexOf(':');
+        final Field field = Field.fromKeyword(token.substring(0, colon).toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new ParseException("Unknown query field in " + token);
+        }
+        String value = token.substring(colon + 1);
+        final boolean isPrefix = value.endsWith(FieldQuery.PREFIX_WILDCARD);
+        if (isPrefix) {
+            value = value.substring(0, value.length() - FieldQuery.PREFIX_WILDCARD.length());
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        value = value.trim();
+        if (value.isEmpty() || value.contains("\"")) {
+            throw new ParseException("Missing or invalid value in " + token);
+        }
+        if (isPrefix && field != Field.NAME) {
+            throw new ParseException("Only name values can end with " + FieldQuery.PREFIX_WILDCARD + ", in " + token);
+        }
+        return new FieldQuery(field, value, isPrefix);
+    }
+
+    private boolean isNextOperator(String operator) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(operator);
+    }
+
+    /**
+     * Replaces the operands of the same kind as their parent by their own operands, so that a chain of ANDs or ORs
+     * becomes one query.
+     */
+    private static List<Query> flatten(List<Query> operands, Class<? extends Query> kind) {
+        final List<Query> flattened = new ArrayList<>();
+        for (Query operand : operands) {
+            if (kind == AndQuery.class && operand instanceof AndQuery) {
+                flattened.addAll(((AndQuery) operand).getOperands());
+            } else if (kind == OrQuery.class && operand instanceof OrQuery) {
+                flattened.addAll(((OrQuery) operand).getOperands());
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return flattened;
+    }
+}
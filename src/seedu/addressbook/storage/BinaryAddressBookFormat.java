@@ -0,0 +1,526 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes address books in the compact binary storage format.
+ *
+ * Layout (version 2), with all integers big-endian:
+ * <pre>
+ *   magic           4 bytes: 0x89 'A' 'B' 'K'
+ *   version         int
+ *   person count    int
+ *   tag count       varint, followed by that many strings (the tag dictionary)
+ *   chunks          the persons, split into runs of consecutive persons. Each person is:
+ *                       name, phone, email, address    strings
+ *                       privacy flags                  byte (bit 0 phone, bit 1 email, bit 2 address)
+ *                       tags                           varint count, followed by that many varint indices
+ *                                                      into the tag dictionary
+ *   footer          chunk count int, followed by, for each chunk in file order:
+ *                       offset long, length int, person count int, CRC32 of the chunk int
+ *   footer offset   long
+ *   checksum        int, CRC32 of all the bytes that are not in a chunk, up to the checksum
+ * </pre>
+ * A string is its UTF-8 byte count as a varint, followed by the bytes. A varint stores 7 bits per byte, least
+ * significant group first, with the high bit set on all but the last byte.
+ *
+ * The footer lets the chunks of a file be decoded independently, in parallel. Version 1 files, which have the
+ * persons straight after the tag dictionary and a CRC32 of the whole file instead of the footer, can still be read.
+ */
+public class BinaryAddressBookFormat {
+
+    /** The first bytes of every file in this format. Never the start of a text file. */
+    static final byte[] MAGIC = {(byte) 0x89, 'A', 'B', 'K'};
+
+    /** The version written by {@link #write}. */
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_CHUNK_INDEX = 1;
+
+    /** The number of persons in each chunk written, except the last. */
+    static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final int PHONE_PRIVATE_FLAG = 1;
+    private static final int EMAIL_PRIVATE_FLAG = 1 << 1;
+    private static final int ADDRESS_PRIVATE_FLAG = 1 << 2;
+
+    /** The magic, version and person count. */
+    private static final int HEADER_BYTES = MAGIC.length + 2 * Integer.BYTES;
+    /** The footer offset and checksum. */
+    private static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int CHUNK_ENTRY_BYTES = Long.BYTES + 3 * Integer.BYTES;
+
+    /** Counts and string lengths larger than this can only be the result of corrupted data. */
+    private static final int MAX_COUNT = 1 << 24;
+
+    /**
+     * Signals that the data is not in this format, or has been corrupted.
+     */
+    public static class CorruptDataException extends IOException {
+        CorruptDataException(String message) {
+            super(message);
+        }
+    }
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns true if the given leading bytes of a file mark it as being in this format.
+     *
+     * @param header at least the first {@code MAGIC.length} bytes of the file, if it has that many
+     */
+    static boolean hasMagic(byte[] header, int headerLength) {
+        if (headerLength < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given address book to the given stream. The stream is flushed but not closed.
+     */
+    public static void write(AddressBook addressBook, OutputStream out) throws IOException {
+        write(addressBook, out, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the given address book to the given stream, with at most {@code chunkSize} persons in each chunk.
+     */
+    static void write(AddressBook addressBook, OutputStream out, int chunkSize) throws IOException {
+        final List<ReadOnlyPerson> persons = addressBook.getAllPersonsView();
+        final Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (ReadOnlyPerson person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        final CRC32 checksum = new CRC32();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(buffer);
+        data.write(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(persons.size());
+        writeVarint(data, tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(data, tag.tagName);
+        }
+        long offset = writeBuffer(buffer, out, checksum);
+
+        final ByteArrayOutputStream footer = new ByteArrayOutputStream();
+        final DataOutputStream footerData = new DataOutputStream(footer);
+        footerData.writeInt((persons.size() + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < persons.size(); start += chunkSize) {
+            final List<ReadOnlyPerson> chunk = persons.subList(start, Math.min(start + chunkSize, persons.size()));
+            for (ReadOnlyPerson person : chunk) {
+                writePerson(data, person, tagIndices);
+            }
+            final CRC32 chunkChecksum = new CRC32();
+            final int chunkLength = (int) writeBuffer(buffer, out, chunkChecksum);
+            footerData.writeLong(offset);
+            footerData.writeInt(chunkLength);
+            footerData.writeInt(chunk.size());
+            footerData.writeInt((int) chunkChecksum.getValue());
+            offset += chunkLength;
+        }
+        footerData.writeLong(offset);
+        writeBuffer(footer, out, checksum);
+
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    /**
+     * Writes the contents of the buffer to the stream, adds them to the checksum and empties the buffer.
+     *
+     * @return the number of bytes written
+     */
+    private static long writeBuffer(ByteArrayOutputStream buffer, OutputStream out, CRC32 checksum)
+            throws IOException {
+        final byte[] bytes = buffer.toByteArray();
+        out.write(bytes);
+        checksum.update(bytes);
+        buffer.reset();
+        return bytes.length;
+    }
+
+    private static void writePerson(DataOutputStream data, ReadOnlyPerson person, Map<Tag, Integer> tagIndices)
+            throws IOException {
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getAddress().value);
+        int privacyFlags = 0;
+        if (person.getPhone().isPrivate()) {
+            privacyFlags |= PHONE_PRIVATE_FLAG;
+        }
+        if (person.getEmail().isPrivate()) {
+            privacyFlags |= EMAIL_PRIVATE_FLAG;
+        }
+        if (person.getAddress().isPrivate()) {
+            privacyFlags |= ADDRESS_PRIVATE_FLAG;
+        }
+        data.writeByte(privacyFlags);
+        final Set<Tag> tags = person.getTags();
+        writeVarint(data, tags.size());
+        for (Tag tag : tags) {
+            writeVarint(data, tagIndices.get(tag));
+        }
+    }
+
+    /**
+     * Reads an address book from the given stream, which must be positioned at the start of the magic.
+     * The rest of the stream is read into memory and decoded on the calling thread.
+     *
+     * @throws CorruptDataException if the data is not in this format, is of an unsupported version, or is corrupted.
+     * @throws IllegalValueException if any data constraints are violated, including duplicate persons.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        final ByteBuffer file = ByteBuffer.wrap(in.readAllBytes());
+        return read(file.limit(), (offset, length) -> file.duplicate().position((int) offset).limit(
+                (int) offset + length).slice(), null);
+    }
+
+    /**
+     * Reads an address book from the given file, which is mapped into memory rather than read. The chunks of the
+     * file are decoded in parallel in the given pool, and the persons are added to the address book in file order,
+     * so problems are reported as if the file had been decoded from start to end.
+     *
+     * @throws CorruptDataException if the file is not in this format, is of an unsupported version, or is corrupted.
+     * @throws IllegalValueException if any data constraints are violated, including duplicate persons.
+     */
+    public static AddressBook read(Path file, ForkJoinPool pool) throws IOException, IllegalValueException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.size(), (offset, length) -> channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                    length), pool);
+        }
+    }
+
+    /**
+     * Gives access to the bytes of a file.
+     */
+    private interface FileRegions {
+        /**
+         * Returns a buffer of the bytes in the given region of the file, from position 0 to its limit. The buffer
+         * is not shared with any other caller.
+         */
+        ByteBuffer get(long offset, int length) throws IOException;
+    }
+
+    /**
+     * @param pool the pool to decode the chunks in, or null to decode them on the calling thread
+     */
+    private static AddressBook read(long fileSize, FileRegions file, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        try {
+            if (fileSize < HEADER_BYTES) {
+                throw new CorruptDataException("Not an address book file");
+            }
+            final ByteBuffer header = file.get(0, HEADER_BYTES);
+            final byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!hasMagic(magic, magic.length)) {
+                throw new CorruptDataException("Not an address book file");
+            }
+            final int version = header.getInt();
+            final int personCount = header.getInt();
+            if (personCount < 0) {
+                throw new CorruptDataException("Negative person count: " + personCount);
+            }
+            if (version == VERSION_WITHOUT_CHUNK_INDEX) {
+                return readWithoutChunkIndex(file.get(0, toRegionLength(fileSize)), personCount);
+            }
+            if (version != VERSION) {
+                throw new CorruptDataException("Unsupported address book file version: " + version);
+            }
+            return readWithChunkIndex(fileSize, file, personCount, pool);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new CorruptDataException("Address book file is truncated or has inconsistent offsets");
+        }
+    }
+
+    private static AddressBook readWithChunkIndex(long fileSize, FileRegions file, int personCount,
+                                                  ForkJoinPool pool) throws IOException, IllegalValueException {
+        if (fileSize < HEADER_BYTES + TRAILER_BYTES) {
+            throw new CorruptDataException("Address book file is truncated");
+        }
+        final ByteBuffer trailer = file.get(fileSize - TRAILER_BYTES, TRAILER_BYTES);
+        final long footerOffset = trailer.getLong();
+        final int expectedChecksum = trailer.getInt();
+        if (footerOffset < HEADER_BYTES || footerOffset > fileSize - TRAILER_BYTES) {
+            throw new CorruptDataException("Footer offset out of range: " + footerOffset);
+        }
+        // the footer region includes the footer offset, as the checksum covers it
+        final ByteBuffer footer = file.get(footerOffset, toRegionLength(fileSize - Integer.BYTES - footerOffset));
+        final Chunk[] chunks = readChunkIndex(footer, footerOffset, personCount);
+        final long dictionaryEnd = chunks.length == 0 ? footerOffset : chunks[0].offset;
+        final ByteBuffer headerAndDictionary = file.get(0, toRegionLength(dictionaryEnd));
+
+        final CRC32 checksum = new CRC32();
+        checksum.update(headerAndDictionary.duplicate());
+        footer.rewind();
+        checksum.update(footer);
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw new CorruptDataException("Address book file checksum mismatch");
+        }
+
+        headerAndDictionary.position(HEADER_BYTES);
+        final Tag[] tagDictionary = readTagDictionary(headerAndDictionary);
+        if (headerAndDictionary.hasRemaining()) {
+            throw new CorruptDataException("Unexpected data after the tag dictionary");
+        }
+
+        final List<ForkJoinTask<ChunkResult>> decodings = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            final ForkJoinTask<ChunkResult> decoding =
+                    ForkJoinTask.adapt(() -> decodeChunk(file, chunk, tagDictionary));
+            if (pool == null) {
+                decoding.invoke();
+            } else {
+                pool.execute(decoding);
+            }
+            decodings.add(decoding);
+        }
+        final UniquePersonList persons = new UniquePersonList();
+        try {
+            for (ForkJoinTask<ChunkResult> decoding : decodings) {
+                for (Person person : decoding.join().getPersons()) {
+                    persons.add(person);
+                }
+            }
+        } finally {
+            for (ForkJoinTask<ChunkResult> decoding : decodings) {
+                decoding.cancel(false);
+            }
+        }
+        return new AddressBook(persons);
+    }
+
+    /**
+     * Reads the chunk index in the footer, and checks that the chunks are consecutive, end at the footer and hold
+     * {@code personCount} persons between them.
+     */
+    private static Chunk[] readChunkIndex(ByteBuffer footer, long footerOffset, int personCount)
+            throws CorruptDataException {
+        final int chunkCount = footer.getInt();
+        if (chunkCount < 0 || (long) chunkCount * CHUNK_ENTRY_BYTES != footer.remaining() - Long.BYTES) {
+            throw new CorruptDataException("Chunk count does not match the footer: " + chunkCount);
+        }
+        final Chunk[] chunks = new Chunk[chunkCount];
+        long totalPersonCount = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = new Chunk(footer.getLong(), footer.getInt(), footer.getInt(), footer.getInt());
+            if (chunks[i].offset < HEADER_BYTES || chunks[i].length < 0 || chunks[i].personCount < 0
+                    || i > 0 && chunks[i].offset != chunks[i - 1].offset + chunks[i - 1].length) {
+                throw new CorruptDataException("Chunk " + i + " is out of place");
+            }
+            totalPersonCount += chunks[i].personCount;
+        }
+        final long chunksEnd = chunkCount == 0 ? footerOffset : chunks[chunkCount - 1].end();
+        if (chunksEnd != footerOffset || totalPersonCount != personCount) {
+            throw new CorruptDataException("Chunks do not match the file");
+        }
+        return chunks;
+    }
+
+    /**
+     * Decodes the persons in the given chunk. Never throws, so that problems are only reported by
+     * {@link ChunkResult#getPersons()} in file order.
+     */
+    private static ChunkResult decodeChunk(FileRegions file, Chunk chunk, Tag[] tagDictionary) {
+        try {
+            final ByteBuffer data = file.get(chunk.offset, chunk.length);
+            final CRC32 checksum = new CRC32();
+            checksum.update(data);
+            if ((int) checksum.getValue() != chunk.checksum) {
+                throw new CorruptDataException("Chunk checksum mismatch at offset " + chunk.offset);
+            }
+            data.rewind();
+            final List<Person> persons = new ArrayList<>(chunk.personCount);
+            for (int i = 0; i < chunk.personCount; i++) {
+                persons.add(readPerson(data, tagDictionary));
+            }
+            if (data.hasRemaining()) {
+                throw new CorruptDataException("Unexpected data at the end of chunk at offset " + chunk.offset);
+            }
+            return new ChunkResult(persons, null);
+        } catch (BufferUnderflowException bue) {
+            return new ChunkResult(null, new CorruptDataException("Truncated chunk at offset " + chunk.offset));
+        } catch (IOException | IllegalValueException e) {
+            return new ChunkResult(null, e);
+        }
+    }
+
+    private static AddressBook readWithoutChunkIndex(ByteBuffer file, int personCount)
+            throws IOException, IllegalValueException {
+        final int checksumOffset = file.limit() - Integer.BYTES;
+        if (checksumOffset < HEADER_BYTES) {
+            throw new CorruptDataException("Address book file is truncated");
+        }
+        final CRC32 checksum = new CRC32();
+        checksum.update(file.duplicate().limit(checksumOffset));
+        if ((int) checksum.getValue() != file.getInt(checksumOffset)) {
+            throw new CorruptDataException("Address book file checksum mismatch");
+        }
+
+        file.position(HEADER_BYTES).limit(checksumOffset);
+        final Tag[] tagDictionary = readTagDictionary(file);
+        final UniquePersonList persons = new UniquePersonList();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(file, tagDictionary));
+        }
+        if (file.hasRemaining()) {
+            throw new CorruptDataException("Unexpected data after the last person");
+        }
+        return new AddressBook(persons);
+    }
+
+    private static Tag[] readTagDictionary(ByteBuffer data) throws IOException, IllegalValueException {
+        final Tag[] tagDictionary = new Tag[readCount(data)];
+        for (int i = 0; i < tagDictionary.length; i++) {
+            tagDictionary[i] = new Tag(readString(data));
+        }
+        return tagDictionary;
+    }
+
+    private static Person readPerson(ByteBuffer data, Tag[] tagDictionary)
+            throws IOException, IllegalValueException {
+        final String name = readString(data);
+        final String phone = readString(data);
+        final String email = readString(data);
+        final String address = readString(data);
+        final int privacyFlags = data.get() & 0xFF;
+        final Set<Tag> tags = new HashSet<>();
+        for (int tagCount = readCount(data); tagCount > 0; tagCount--) {
+            final int tagIndex = readVarint(data);
+            if (tagIndex < 0 || tagIndex >= tagDictionary.length) {
+                throw new CorruptDataException("Tag index out of range: " + tagIndex);
+            }
+            tags.add(tagDictionary[tagIndex]);
+        }
+        return new Person(new Name(name),
+                          new Phone(phone, (privacyFlags & PHONE_PRIVATE_FLAG) != 0),
+                          new Email(email, (privacyFlags & EMAIL_PRIVATE_FLAG) != 0),
+                          new Address(address, (privacyFlags & ADDRESS_PRIVATE_FLAG) != 0),
+                          tags);
+    }
+
+    private static int toRegionLength(long length) throws CorruptDataException {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new CorruptDataException("Region length out of range: " + length);
+        }
+        return (int) length;
+    }
+
+    static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarint(ByteBuffer in) throws CorruptDataException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int b = in.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptDataException("Malformed varint");
+    }
+
+    /**
+     * Reads a varint that counts the items that follow it.
+     */
+    private static int readCount(ByteBuffer in) throws CorruptDataException {
+        final int count = readVarint(in);
+        if (count < 0 || count > MAX_COUNT) {
+            throw new CorruptDataException("Count out of range: " + count);
+        }
+        return count;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) throws CorruptDataException {
+        final byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An entry of the chunk index.
+     */
+    private static class Chunk {
+        final long offset;
+        final int length;
+        final int personCount;
+        final int checksum;
+
+        Chunk(long offset, int length, int personCount, int checksum) {
+            this.offset = offset;
+            this.length = length;
+            this.personCount = personCount;
+            this.checksum = checksum;
+        }
+
+        long end() {
+            return offset + length;
+        }
+    }
+
+    /**
+     * The persons decoded from a chunk, or the problem that stopped them being decoded.
+     */
+    private static class ChunkResult {
+        private final List<Person> persons;
+        private final Exception problem;
+
+        ChunkResult(List<Person> persons, Exception problem) {
+            this.persons = persons;
+            this.problem = problem;
+        }
+
+        List<Person> getPersons() throws IOException, IllegalValueException {
+            if (problem instanceof IOException) {
+                throw (IOException) problem;
+            }
+            if (problem instanceof IllegalValueException) {
+                throw (IllegalValueException) problem;
+            }
+            return persons;
+        }
+    }
+}
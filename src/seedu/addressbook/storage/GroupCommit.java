@@ -0,0 +1,98 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Batches concurrent durable saves, so that a burst of saves from several threads costs one durable write instead
+ * of one each, e.g. of whole address books, or of forces of a journal that changes have been appended to.
+ *
+ * Saves requested while a write is in progress join the next batch, and each batch writes only the latest value
+ * in it, as that supersedes the others. A save returns once a write that started after it was requested has
+ * completed, so it is never reported as saved before its changes, or later ones, are.
+ *
+ * @param <T> the type of the values saved
+ */
+class GroupCommit<T> {
+
+    /**
+     * Durably writes a value, e.g. a whole address book.
+     */
+    interface Writer<T> {
+        void write(T value) throws StorageOperationException;
+    }
+
+    /**
+     * The saves that are written together.
+     */
+    private static class Batch<T> {
+        T latest;
+        boolean isDone;
+        StorageOperationException failure;
+    }
+
+    private final Writer<T> writer;
+
+    /** The batch that new saves join, if any. Not yet being written. */
+    private Batch<T> openBatch;
+    private boolean isWriting;
+
+    GroupCommit(Writer<T> writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Saves the given value, possibly together with others being saved concurrently, and returns when it has been
+     * written.
+     *
+     * @throws StorageOperationException if the write it was part of failed, or the thread was interrupted while
+     *         waiting for another thread to write it.
+     */
+    void save(T value) throws StorageOperationException {
+        final Batch<T> batch;
+        synchronized (this) {
+            if (openBatch == null) {
+                openBatch = new Batch<>();
+            }
+            batch = openBatch;
+            batch.latest = value;
+            while (isWriting && !batch.isDone) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new StorageOperationException("Interrupted while saving");
+                }
+            }
+            if (batch.isDone) {
+                throwIfFailed(batch);
+                return;
+            }
+            // nothing is being written and this save's batch is still open, so this thread writes it
+            openBatch = null;
+            isWriting = true;
+        }
+
+        StorageOperationException failure = new StorageOperationException("Error saving");
+        try {
+            writer.write(batch.latest);
+            failure = null;
+        } catch (StorageOperationException soe) {
+            failure = soe;
+        } finally {
+            synchronized (this) {
+                batch.failure = failure;
+                batch.isDone = true;
+                batch.latest = null;
+                isWriting = false;
+                notifyAll();
+            }
+        }
+        throwIfFailed(batch);
+    }
+
+    private static void throwIfFailed(Batch<?> batch) throws StorageOperationException {
+        if (batch.failure != null) {
+            throw batch.failure;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A storage file that saves changes by appending them to a journal file next to the storage file, instead of
+ * rewriting the whole storage file on every save.
+ *
+ * The storage file holds a snapshot of the address book, and the journal holds the add, delete and clear
+ * records made since that snapshot. Loading replays the journal over the snapshot. Once the journal has grown
+ * larger than the snapshot, the next save compacts both into a fresh snapshot and an empty journal.
+ *
+ * The changes to append are the ones given to {@link #saveChanges(AddressBook, List)}, which must be the changes
+ * made since the address book was last saved to or loaded from this storage file. {@link #save(AddressBook)}
+ * always writes a full snapshot. Saves and loads are made one at a time, so that the changes are appended in the
+ * order they were made. With durable saving enabled, the journal is forced to the disk after the changes are
+ * appended, together with the changes appended by concurrent saves.
+ */
+public class JournaledStorageFile extends StorageFile {
+
+    /** Appended to the storage file name to get the journal file name. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** The journal is never compacted while it is smaller than this, however small the snapshot is. */
+    public static final long MIN_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+
+    private static final int JOURNAL_MAGIC = 0x41424A31; // "ABJ1"
+    private static final int JOURNAL_HEADER_BYTES = Integer.BYTES + 2 * Long.BYTES;
+
+    private static final byte RECORD_ADD = 'A';
+    private static final byte RECORD_DELETE = 'D';
+    private static final byte RECORD_CLEAR = 'C';
+
+    /** Records longer than this can only be the result of a torn or corrupted length field. */
+    private static final int MAX_RECORD_BYTES = 1 << 24;
+
+    public final Path journalPath;
+
+    /**
+     * Whether the snapshot and journal hold the address book as last saved or loaded, so that the changes made
+     * since can be appended. False until the first save or load, and after a failed save.
+     */
+    private boolean isInSync;
+
+    /** Size of the journal file in bytes, as last written or read. */
+    private long journalSize;
+    /** Size of the snapshot in bytes, as last written or read. */
+    private long snapshotSize;
+
+    /** Batches the forces of the journal after changes are appended to it, if durable saving is enabled. */
+    private GroupCommit<Path> journalForces;
+
+    /**
+     * @throws InvalidStorageFilePathException if the default path is invalid
+     */
+    public JournaledStorageFile() throws InvalidStorageFilePathException {
+        this(DEFAULT_STORAGE_FILEPATH);
+    }
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournaledStorageFile(String filePath) throws InvalidStorageFilePathException {
+        super(filePath);
+        journalPath = path.resolveSibling(path.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Also sets whether {@link #saveChanges(AddressBook, List)} forces the journal to the disk after appending the
+     * changes to it.
+     */
+    @Override
+    public void setDurableSaveEnabled(boolean isDurableSaveEnabled) {
+        super.setDurableSaveEnabled(isDurableSaveEnabled);
+        journalForces = isDurableSaveEnabled ? new GroupCommit<>(this::forceJournal) : null;
+    }
+
+    /**
+     * Writes a full snapshot of the address book and empties the journal.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public synchronized void save(AddressBook addressBook) throws StorageOperationException {
+        if (addressBook == null) {
+            throw new NullPointerException();
+        }
+        compact(addressBook);
+    }
+
+    /**
+     * Saves the given changes by appending them to the journal, in time and space proportional to the changes.
+     * Writes a full snapshot instead if the journal has grown too large, or if this storage file does not hold the
+     * address book the changes were made to, e.g. because it was never loaded or the last save failed.
+     * With durable saving enabled, returns once the appended changes have been forced to the disk.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public void saveChanges(AddressBook addressBook, List<AddressBookChange> changes)
+            throws StorageOperationException {
+        if (addressBook == null) {
+            throw new NullPointerException();
+        }
+        final GroupCommit<Path> forces;
+        synchronized (this) {
+            if (!isInSync) {
+                compact(addressBook);
+                return;
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            appendRecords(changes);
+            if (journalSize > Math.max(MIN_COMPACTION_THRESHOLD_BYTES, snapshotSize)) {
+                compact(addressBook);
+                return;
+            }
+            forces = journalForces;
+        }
+        if (forces == null) {
+            return;
+        }
+        // forced without holding the lock, so that the changes appended by concurrent saves meanwhile are forced
+        // by the same write
+        try {
+            forces.save(journalPath);
+        } catch (StorageOperationException soe) {
+            synchronized (this) {
+                isInSync = false; // the appended changes may not be on the disk, so the next save compacts
+            }
+            throw soe;
+        }
+    }
+
+    /**
+     * Loads the snapshot from the storage file and replays the journal over it.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    @Override
+    public synchronized AddressBook load() throws StorageOperationException {
+        if (!Files.exists(path)) {
+            return super.load(); // writes an empty snapshot and journal
+        }
+        isInSync = false;
+        final AddressBook loaded = super.load();
+        snapshotSize = path.toFile().length();
+        journalSize = 0;
+        if (isJournalForCurrentSnapshot()) {
+            replayJournal(loaded);
+        } else {
+            // either there is no journal yet, or the last compaction was interrupted after the snapshot was
+            // written; in both cases the snapshot is up to date and the journal must be discarded
+            resetJournal();
+        }
+        isInSync = true;
+        return loaded;
+    }
+
+    /**
+     * Writes a full snapshot of the given address book and empties the journal.
+     */
+    private void compact(AddressBook addressBook) throws StorageOperationException {
+        isInSync = false;
+        super.save(addressBook);
+        snapshotSize = path.toFile().length();
+        resetJournal();
+        isInSync = true;
+    }
+
+    /**
+     * Replaces the journal with an empty one that applies to the current snapshot.
+     */
+    private void resetJournal() throws StorageOperationException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(journalPath.toFile())))) {
+            out.writeInt(JOURNAL_MAGIC);
+            out.writeLong(snapshotSize);
+            out.writeLong(getSnapshotLastModified());
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journalPath + " error: "
+                    + ioe.getMessage());
+        }
+        journalSize = JOURNAL_HEADER_BYTES;
+    }
+
+    /**
+     * Appends a record of each change to the journal. If that fails, the journal may end in a torn record, so the
+     * next save writes a full snapshot.
+     */
+    private void appendRecords(List<AddressBookChange> changes) throws StorageOperationException {
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (AddressBookChange change : changes) {
+            writeRecord(records, change);
+        }
+        isInSync = false;
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journalPath + " error: "
+                    + ioe.getMessage());
+        }
+        journalSize += records.size();
+        isInSync = true;
+    }
+
+    /**
+     * Forces the given journal, with all the records appended to it so far, to the disk.
+     */
+    void forceJournal(Path journal) throws StorageOperationException {
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journal + " error: "
+                    + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the journal exists and was started for the snapshot currently in the storage file.
+     */
+    private boolean isJournalForCurrentSnapshot() throws StorageOperationException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(journalPath.toFile()))) {
+            return in.readInt() == JOURNAL_MAGIC
+                    && in.readLong() == snapshotSize
+                    && in.readLong() == getSnapshotLastModified();
+        } catch (EOFException eofe) {
+            return false;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + journalPath);
+        }
+    }
+
+    private long getSnapshotLastModified() throws StorageOperationException {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        }
+    }
+
+    /**
+     * Applies the records in the journal to the given address book, in order.
+     * A torn record at the end of the journal (e.g. from a crash while appending) is ignored.
+     */
+    private void replayJournal(AddressBook addressBook) throws StorageOperationException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(journalPath.toFile())))) {
+            in.skipBytes(JOURNAL_HEADER_BYTES);
+            long replayedSize = JOURNAL_HEADER_BYTES;
+            byte[] record;
+            while ((record = readRecord(in)) != null) {
+                applyRecord(new DataInputStream(new ByteArrayInputStream(record)), addressBook);
+                replayedSize += Integer.BYTES + record.length + Integer.BYTES;
+            }
+            journalSize = replayedSize;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + journalPath);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new StorageOperationException("Journal does not match the storage file: " + journalPath);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException(MESSAGE_ILLEGAL_VALUES);
+        }
+        if (journalSize != journalPath.toFile().length()) {
+            truncateJournal(journalSize);
+        }
+    }
+
+    /**
+     * Drops the torn tail of the journal, so that later records are not appended after it.
+     */
+    private void truncateJournal(long size) throws StorageOperationException {
+        try (RandomAccessFile journal = new RandomAccessFile(journalPath.toFile(), "rw")) {
+            journal.setLength(size);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journalPath);
+        }
+    }
+
+    /**
+     * Reads the payload of the next record, or returns null if there is no complete and intact record left.
+     */
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            final int length = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES) {
+                return null;
+            }
+            final byte[] payload = new byte[length];
+            in.readFully(payload);
+            final int checksum = in.readInt();
+            return checksum == checksumOf(payload, payload.length) ? payload : null;
+        } catch (EOFException eofe) {
+            return null;
+        }
+    }
+
+    private static void applyRecord(DataInputStream record, AddressBook addressBook)
+            throws IOException, IllegalValueException, PersonNotFoundException {
+        final byte type = record.readByte();
+        switch (type) {
+        case RECORD_ADD:
+            final Name name = new Name(readString(record));
+            final Phone phone = new Phone(readString(record), record.readBoolean());
+            final Email email = new Email(readString(record), record.readBoolean());
+            final Address address = new Address(readString(record), record.readBoolean());
+            final Set<Tag> tags = new HashSet<>();
+            for (int tagCount = record.readInt(); tagCount > 0; tagCount--) {
+                tags.add(new Tag(readString(record)));
+            }
+            addressBook.addPerson(new Person(name, phone, email, address, tags));
+            return;
+        case RECORD_DELETE:
+            addressBook.removePerson(new Person(new Name(readString(record)),
+                                                new Phone(readString(record), false),
+                                                new Email(readString(record), false),
+                                                new Address(readString(record), false),
+                                                new HashSet<>()));
+            return;
+        case RECORD_CLEAR:
+            addressBook.clear();
+            return;
+        default:
+            throw new IOException("Unknown journal record type: " + type);
+        }
+    }
+
+    /**
+     * Encodes the change as a journal record: its payload length, the payload, and a checksum of the payload.
+     */
+    private static void writeRecord(ByteArrayOutputStream records, AddressBookChange change) {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            final ReadOnlyPerson person = change.getPerson();
+            switch (change.getType()) {
+            case ADDED:
+                out.writeByte(RECORD_ADD);
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                out.writeBoolean(person.getPhone().isPrivate());
+                writeString(out, person.getEmail().value);
+                out.writeBoolean(person.getEmail().isPrivate());
+                writeString(out, person.getAddress().value);
+                out.writeBoolean(person.getAddress().isPrivate());
+                final Set<Tag> tags = person.getTags();
+                out.writeInt(tags.size());
+                for (Tag tag : tags) {
+                    writeString(out, tag.tagName);
+                }
+                break;
+            case REMOVED:
+                out.writeByte(RECORD_DELETE);
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                break;
+            default:
+                out.writeByte(RECORD_CLEAR);
+                break;
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("writing to memory cannot fail", ioe);
+        }
+        final byte[] bytes = payload.toByteArray();
+        try (DataOutputStream out = new DataOutputStream(records)) { // closing is a no-op in memory
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeInt(checksumOf(bytes, bytes.length));
+        } catch (IOException ioe) {
+            throw new AssertionError("writing to memory cannot fail", ioe);
+        }
+    }
+
+    private static int checksumOf(byte[] bytes, int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Writes the string as its UTF-8 byte count followed by its UTF-8 bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,464 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonKey;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * A storage file that splits the address book across segment files next to it, so that a save only rewrites the
+ * segments holding persons that were added or deleted since the last save.
+ *
+ * Each person belongs to the segment given by the hash of its identity ({@link PersonKey}), which is the same in
+ * every run as it only depends on the person's details. The storage file itself is a small manifest holding the
+ * number of segments. Each person is stored with a sequence number, so the persons are loaded in the order they
+ * were added even though they are spread across segments. Segments are loaded in parallel.
+ *
+ * The persons of each segment are kept in memory, in the order they were added, so that
+ * {@link #saveChanges(AddressBook, List)} applies the changes to them and rewrites only the segments they touch,
+ * without reading the address book. {@link #save(AddressBook)} rewrites every segment. Saves and loads are made one
+ * at a time.
+ *
+ * Each segment is replaced atomically, but a save that rewrites several segments is not atomic as a whole: a crash
+ * part way through a save loses the changes in the segments that were not rewritten yet. The manifest is written
+ * after the segments, so a new storage file only exists once all its segments have been written.
+ */
+public class ShardedStorageFile extends StorageFile {
+
+    /** Appended to the storage file name, followed by the segment index, to get a segment file name. */
+    public static final String SEGMENT_FILE_SUFFIX = ".segment";
+
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    private static final String MANIFEST_HEADER = "sharded address book, version 1";
+    private static final String MANIFEST_SEGMENT_COUNT = "segments: ";
+
+    private static final int SEGMENT_MAGIC = 0x41425331; // "ABS1"
+
+    private int segmentCount;
+
+    /**
+     * The persons in each segment, with their sequence numbers, in the order they were added. Only valid if
+     * {@link #isInSync}.
+     */
+    private List<Map<PersonKey, SequencedPerson>> segments = new ArrayList<>();
+    private long nextSequenceNumber;
+
+    /** The segments whose persons changed since they were last written. */
+    private final BitSet dirtySegments = new BitSet();
+
+    /**
+     * Whether {@link #segments} hold the address book as last saved or loaded, with the changes made since then in
+     * the {@link #dirtySegments}. False until the first save or load.
+     */
+    private boolean isInSync;
+
+    private ForkJoinPool loadPool = ForkJoinPool.commonPool();
+
+    /**
+     * @throws InvalidStorageFilePathException if the default path is invalid
+     */
+    public ShardedStorageFile() throws InvalidStorageFilePathException {
+        this(DEFAULT_STORAGE_FILEPATH, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * @param segmentCount the number of segments to split a new storage file into. An existing storage file keeps
+     *                     the number it was created with.
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public ShardedStorageFile(String filePath, int segmentCount) throws InvalidStorageFilePathException {
+        super(filePath);
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("Segment count must be positive: " + segmentCount);
+        }
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Sets the pool that {@link #load()} reads the segments in.
+     */
+    public void setLoadPool(ForkJoinPool loadPool) {
+        this.loadPool = loadPool;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public Path getSegmentPath(int segment) {
+        return path.resolveSibling(path.getFileName() + SEGMENT_FILE_SUFFIX + segment);
+    }
+
+    /**
+     * Rewrites every segment with the persons of the given address book, then the manifest. An existing storage file
+     * keeps its number of segments.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public synchronized void save(AddressBook addressBook) throws StorageOperationException {
+        if (addressBook == null) {
+            throw new NullPointerException();
+        }
+        isInSync = false;
+        if (Files.exists(path)) {
+            try {
+                segmentCount = readManifest();
+            } catch (StorageOperationException soe) {
+                // an unreadable manifest is replaced, along with its segments
+            }
+        }
+        segments = new ArrayList<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(new LinkedHashMap<>());
+        }
+        nextSequenceNumber = 0;
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            segmentPersons(person.getKey()).put(person.getKey(), new SequencedPerson(nextSequenceNumber++, person));
+        }
+        dirtySegments.set(0, segmentCount);
+        writeDirtySegments();
+        writeManifest();
+        isInSync = true;
+        deleteSegmentsFrom(segmentCount);
+    }
+
+    /**
+     * Applies the changes to the persons of their segments, and rewrites the segments they changed, along with any
+     * segments a failed save did not rewrite. Takes time proportional to the number of changes and the size of the
+     * rewritten segments, not the size of the address book.
+     * Rewrites every segment if this storage file does not hold the address book yet, e.g. as it was never loaded.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public synchronized void saveChanges(AddressBook addressBook, List<AddressBookChange> changes)
+            throws StorageOperationException {
+        if (addressBook == null) {
+            throw new NullPointerException();
+        }
+        if (!isInSync) {
+            save(addressBook);
+            return;
+        }
+        for (AddressBookChange change : changes) {
+            apply(change);
+        }
+        writeDirtySegments();
+    }
+
+    /**
+     * Applies the change to the persons of the segments, marking the segments it changes as dirty. Added persons
+     * are numbered after all the others.
+     */
+    private void apply(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            final PersonKey addedKey = change.getPerson().getKey();
+            segmentPersons(addedKey).put(addedKey, new SequencedPerson(nextSequenceNumber++, change.getPerson()));
+            dirtySegments.set(segmentOf(addedKey));
+            return;
+        case REMOVED:
+            final PersonKey removedKey = change.getPerson().getKey();
+            if (segmentPersons(removedKey).remove(removedKey) != null) {
+                dirtySegments.set(segmentOf(removedKey));
+            }
+            return;
+        default:
+            for (Map<PersonKey, SequencedPerson> segmentPersons : segments) {
+                segmentPersons.clear();
+            }
+            dirtySegments.set(0, segmentCount);
+            return;
+        }
+    }
+
+    /**
+     * Rewrites the dirty segments, each of which stays dirty until it has been rewritten.
+     */
+    private void writeDirtySegments() throws StorageOperationException {
+        for (int segment = dirtySegments.nextSetBit(0); segment >= 0; segment = dirtySegments.nextSetBit(segment + 1)) {
+            writeSegment(segment, segments.get(segment).values());
+            dirtySegments.clear(segment);
+        }
+    }
+
+    private Map<PersonKey, SequencedPerson> segmentPersons(PersonKey key) {
+        return segments.get(segmentOf(key));
+    }
+
+    /**
+     * Reads all the segments in parallel and merges them into one address book, in the order the persons were
+     * added.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    @Override
+    public synchronized AddressBook load() throws StorageOperationException {
+        if (!Files.exists(path)) {
+            final AddressBook empty = new AddressBook();
+            save(empty);
+            return empty;
+        }
+        isInSync = false;
+        segmentCount = readManifest();
+
+        final List<Future<List<SequencedPerson>>> segmentReads = new ArrayList<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            final int toRead = segment;
+            segmentReads.add(loadPool.submit(() -> readSegment(toRead)));
+        }
+        final List<Map<PersonKey, SequencedPerson>> loadedSegments = new ArrayList<>();
+        final List<SequencedPerson> loaded = new ArrayList<>();
+        try {
+            for (Future<List<SequencedPerson>> segmentRead : segmentReads) {
+                final List<SequencedPerson> segmentPersons = getSegment(segmentRead);
+                loadedSegments.add(toSegment(segmentPersons));
+                loaded.addAll(segmentPersons);
+            }
+        } finally {
+            for (Future<List<SequencedPerson>> segmentRead : segmentReads) {
+                segmentRead.cancel(false);
+            }
+        }
+        loaded.sort(Comparator.comparingLong(sequencedPerson -> sequencedPerson.sequenceNumber));
+
+        final UniquePersonList persons = new UniquePersonList();
+        try {
+            for (SequencedPerson sequencedPerson : loaded) {
+                persons.add(new Person(sequencedPerson.person));
+            }
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException(MESSAGE_ILLEGAL_VALUES);
+        }
+        segments = loadedSegments;
+        nextSequenceNumber = loaded.isEmpty() ? 0 : loaded.get(loaded.size() - 1).sequenceNumber + 1;
+        dirtySegments.clear();
+        isInSync = true;
+        return new AddressBook(persons);
+    }
+
+    /**
+     * Returns the persons of a segment by their keys, in the order they were added.
+     * Assumption: the persons are in order of sequence number, as written by {@link #writeSegment(int, Collection)}.
+     */
+    private static Map<PersonKey, SequencedPerson> toSegment(List<SequencedPerson> segmentPersons) {
+        final Map<PersonKey, SequencedPerson> segment = new LinkedHashMap<>();
+        for (SequencedPerson sequencedPerson : segmentPersons) {
+            segment.put(sequencedPerson.person.getKey(), sequencedPerson);
+        }
+        return segment;
+    }
+
+    private List<SequencedPerson> getSegment(Future<List<SequencedPerson>> segmentRead)
+            throws StorageOperationException {
+        try {
+            return segmentRead.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new StorageOperationException("Interrupted while reading from file: " + path);
+        } catch (ExecutionException ee) {
+            // the pool may wrap the exception thrown by the segment read
+            for (Throwable cause = ee.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof StorageOperationException) {
+                    throw (StorageOperationException) cause;
+                }
+            }
+            throw new StorageOperationException("Error reading from file: " + path);
+        }
+    }
+
+    private int segmentOf(PersonKey key) {
+        return Math.floorMod(key.hashCode(), segmentCount);
+    }
+
+    private void writeManifest() throws StorageOperationException {
+        final String manifest = MANIFEST_HEADER + "\n" + MANIFEST_SEGMENT_COUNT + segmentCount + "\n";
+        writeAtomically(path, manifest.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the number of segments in the manifest.
+     */
+    private int readManifest() throws StorageOperationException {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        }
+        if (lines.size() < 2 || !lines.get(0).equals(MANIFEST_HEADER)
+                || !lines.get(1).startsWith(MANIFEST_SEGMENT_COUNT)) {
+            throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+        }
+        try {
+            final int count = Integer.parseInt(lines.get(1).substring(MANIFEST_SEGMENT_COUNT.length()));
+            if (count <= 0) {
+                throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+            }
+            return count;
+        } catch (NumberFormatException nfe) {
+            throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * Deletes the segment files from the given index on, left over from a storage file with more segments.
+     */
+    private void deleteSegmentsFrom(int firstSegment) throws StorageOperationException {
+        for (int segment = firstSegment; Files.exists(getSegmentPath(segment)); segment++) {
+            try {
+                Files.delete(getSegmentPath(segment));
+            } catch (IOException ioe) {
+                throw new StorageOperationException("Error deleting file: " + getSegmentPath(segment));
+            }
+        }
+    }
+
+    /**
+     * Replaces the given segment file with one holding the given persons, which must be in the order they were added.
+     */
+    private void writeSegment(int segment, Collection<SequencedPerson> persons) throws StorageOperationException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SEGMENT_MAGIC);
+            out.writeInt(segment);
+            out.writeInt(segmentCount);
+            out.writeInt(persons.size());
+            for (SequencedPerson sequencedPerson : persons) {
+                final ReadOnlyPerson person = sequencedPerson.person;
+                out.writeLong(sequencedPerson.sequenceNumber);
+                BinaryAddressBookFormat.writeString(out, person.getName().fullName);
+                BinaryAddressBookFormat.writeString(out, person.getPhone().value);
+                out.writeBoolean(person.getPhone().isPrivate());
+                BinaryAddressBookFormat.writeString(out, person.getEmail().value);
+                out.writeBoolean(person.getEmail().isPrivate());
+                BinaryAddressBookFormat.writeString(out, person.getAddress().value);
+                out.writeBoolean(person.getAddress().isPrivate());
+                BinaryAddressBookFormat.writeVarint(out, person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    BinaryAddressBookFormat.writeString(out, tag.tagName);
+                }
+            }
+            out.writeInt(checksumOf(bytes.toByteArray(), bytes.size()));
+        } catch (IOException ioe) {
+            throw new AssertionError("writing to memory cannot fail", ioe);
+        }
+        writeAtomically(getSegmentPath(segment), bytes.toByteArray());
+    }
+
+    /**
+     * Reads the persons in the given segment file. A missing segment file is an empty segment.
+     */
+    private List<SequencedPerson> readSegment(int segment) throws StorageOperationException {
+        final Path segmentPath = getSegmentPath(segment);
+        if (!Files.exists(segmentPath)) {
+            return Collections.emptyList();
+        }
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(segmentPath);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + segmentPath);
+        }
+        try {
+            final ByteBuffer in = ByteBuffer.wrap(bytes, 0, bytes.length - Integer.BYTES);
+            if (in.getInt() != SEGMENT_MAGIC || in.getInt() != segment || in.getInt() != segmentCount
+                    || checksumOf(bytes, in.limit()) != ByteBuffer.wrap(bytes).getInt(in.limit())) {
+                throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+            }
+            final int personCount = in.getInt();
+            final List<SequencedPerson> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readSequencedPerson(in));
+            }
+            if (in.hasRemaining()) {
+                throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+            }
+            return persons;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | BinaryAddressBookFormat.CorruptDataException e) {
+            throw new StorageOperationException(MESSAGE_PARSE_ERROR);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException(MESSAGE_ILLEGAL_VALUES);
+        }
+    }
+
+    private static SequencedPerson readSequencedPerson(ByteBuffer in)
+            throws BinaryAddressBookFormat.CorruptDataException, IllegalValueException {
+        final long sequenceNumber = in.getLong();
+        final Name name = new Name(BinaryAddressBookFormat.readString(in));
+        final Phone phone = new Phone(BinaryAddressBookFormat.readString(in), in.get() != 0);
+        final Email email = new Email(BinaryAddressBookFormat.readString(in), in.get() != 0);
+        final Address address = new Address(BinaryAddressBookFormat.readString(in), in.get() != 0);
+        final Set<Tag> tags = new HashSet<>();
+        for (int tagCount = BinaryAddressBookFormat.readVarint(in); tagCount > 0; tagCount--) {
+            tags.add(new Tag(BinaryAddressBookFormat.readString(in)));
+        }
+        return new SequencedPerson(sequenceNumber, new Person(name, phone, email, address, tags));
+    }
+
+    /**
+     * Replaces the given file with one holding the given bytes, by writing them to a new temporary file next to it,
+     * forcing that to the disk, renaming it over the file and forcing the rename to the disk.
+     */
+    private static void writeAtomically(Path file, byte[] content) throws StorageOperationException {
+        final Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                out.write(content);
+                out.getChannel().force(true);
+            }
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tempFile = null;
+            forceDirectory(directory);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + file + " error: " + ioe.getMessage());
+        } finally {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    private static int checksumOf(byte[] bytes, int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A person and the sequence number it is stored with.
+     */
+    private static class SequencedPerson {
+        final long sequenceNumber;
+        final ReadOnlyPerson person;
+
+        SequencedPerson(long sequenceNumber, ReadOnlyPerson person) {
+            this.sequenceNumber = sequenceNumber;
+            this.person = person;
+        }
+    }
+}
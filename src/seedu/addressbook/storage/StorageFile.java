@@ -1,6 +1,7 @@
 package seedu.addressbook.storage;
 
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
 
@@ -8,9 +9,16 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents the file used to store address book data.
@@ -20,6 +28,10 @@ public class StorageFile {
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "addressbook.txt";
 
+    static final String MESSAGE_PARSE_ERROR = "Error parsing file data format";
+    static final String MESSAGE_MISSING_ELEMENTS = "File data missing some elements";
+    static final String MESSAGE_ILLEGAL_VALUES = "File contains illegal data values; data type constraints not met";
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
@@ -43,10 +55,72 @@ public class StorageFile {
         }
     }
 
-    private final JAXBContext jaxbContext;
+    /**
+     * The formats a storage file can be in.
+     */
+    public enum Format {
+        /** The original, human-readable format. */
+        XML,
+        /** The compact format written by {@link BinaryAddressBookFormat}. */
+        BINARY
+    }
+
+    /**
+     * Holds the JAXB context, which is expensive to create, so that it is only created the first time a storage
+     * file is marshalled or unmarshalled with JAXB, and is then shared by all storage files.
+     */
+    private static class Jaxb {
+        /** Thread-safe, unlike the marshallers and unmarshallers created from it. */
+        static final JAXBContext CONTEXT = createContext();
+
+        /** Each thread reuses its own, as they are not thread-safe. */
+        static final ThreadLocal<Marshaller> MARSHALLER = ThreadLocal.withInitial(Jaxb::createMarshaller);
+        static final ThreadLocal<Unmarshaller> UNMARSHALLER = ThreadLocal.withInitial(Jaxb::createUnmarshaller);
+
+        private static JAXBContext createContext() {
+            try {
+                return JAXBContext.newInstance(AdaptedAddressBook.class);
+            } catch (JAXBException jaxbe) {
+                throw new RuntimeException("jaxb initialisation error");
+            }
+        }
+
+        private static Marshaller createMarshaller() {
+            try {
+                final Marshaller marshaller = CONTEXT.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                return marshaller;
+            } catch (JAXBException jaxbe) {
+                throw new RuntimeException("jaxb initialisation error");
+            }
+        }
+
+        private static Unmarshaller createUnmarshaller() {
+            try {
+                return CONTEXT.createUnmarshaller();
+            } catch (JAXBException jaxbe) {
+                throw new RuntimeException("jaxb initialisation error");
+            }
+        }
+    }
 
     public final Path path;
 
+    /** The format that {@link #save(AddressBook)} writes. Set to the format of the file by {@link #load()}. */
+    private Format format = Format.XML;
+
+    /** The pool that {@link #load()} decodes the chunks of a binary file in. */
+    private ForkJoinPool binaryLoadPool = ForkJoinPool.commonPool();
+
+    /** Batches the saves of {@link #save(AddressBook)}, if durable saving is enabled. */
+    private GroupCommit<AddressBook> durableSaves;
+
+    /** Whether {@link #load()} streams the file with StAX instead of unmarshalling it with JAXB. */
+    private boolean isStreamingLoadEnabled;
+
+    /** Whether {@link #save(AddressBook)} streams the file with StAX instead of marshalling it with JAXB. */
+    private boolean isStreamingSaveEnabled;
+
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
      */
@@ -58,18 +132,57 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
-        try {
-            jaxbContext = JAXBContext.newInstance(AdaptedAddressBook.class);
-        } catch (JAXBException jaxbe) {
-            throw new RuntimeException("jaxb initialisation error");
-        }
-
         path = Paths.get(filePath);
         if (!isValidPath(path)) {
             throw new InvalidStorageFilePathException("Storage file should end with '.txt'");
         }
     }
 
+    /**
+     * Sets the format that subsequent saves write the file in.
+     * Loading a file sets this to the format of that file, so that saving keeps the file in its format.
+     */
+    public void setFormat(Format format) {
+        this.format = format;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Sets the pool that {@link #load()} decodes the chunks of a binary file in, in parallel.
+     */
+    public void setBinaryLoadPool(ForkJoinPool binaryLoadPool) {
+        this.binaryLoadPool = binaryLoadPool;
+    }
+
+    /**
+     * Sets whether {@link #save(AddressBook)} replaces this file atomically with a copy that has been forced to
+     * the disk, so that a crash while saving cannot corrupt it. Saves made concurrently while another is being
+     * written are written together, with a single force.
+     */
+    public void setDurableSaveEnabled(boolean isDurableSaveEnabled) {
+        durableSaves = isDurableSaveEnabled ? new GroupCommit<>(this::saveDurably) : null;
+    }
+
+    /**
+     * Sets whether {@link #load()} reads the file one person at a time with {@link XmlAddressBookReader},
+     * instead of unmarshalling the whole file with JAXB before converting it. Both accept the same files.
+     */
+    public void setStreamingLoadEnabled(boolean isStreamingLoadEnabled) {
+        this.isStreamingLoadEnabled = isStreamingLoadEnabled;
+    }
+
+    /**
+     * Sets whether {@link #save(AddressBook)} writes the file one person at a time with
+     * {@link XmlAddressBookWriter}, instead of copying the whole address book into JAXB objects before
+     * marshalling them. Both write the same file content.
+     */
+    public void setStreamingSaveEnabled(boolean isStreamingSaveEnabled) {
+        this.isStreamingSaveEnabled = isStreamingSaveEnabled;
+    }
+
     /**
      * Returns true if the given path is acceptable as a storage file.
      * The file path is considered acceptable if it ends with '.txt'
@@ -84,39 +197,125 @@ public class StorageFile {
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
      */
     public void save(AddressBook addressBook) throws StorageOperationException {
+        if (durableSaves != null) {
+            durableSaves.save(addressBook);
+            return;
+        }
 
         /* Note: Note the 'try with resource' statement below.
          * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
          */
-        try (final Writer fileWriter =
-                     new BufferedWriter(new FileWriter(path.toFile()))) {
+        try (final OutputStream fileStream = new FileOutputStream(path.toFile())) {
+            write(addressBook, fileStream);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path + " error: " + ioe.getMessage());
+        } catch (JAXBException | XMLStreamException e) {
+            throw new StorageOperationException("Error converting address book into storage format");
+        }
+    }
 
-            final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
-            final Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(toSave, fileWriter);
+    /**
+     * Saves the address book, given the changes made to it since it was last saved to or loaded from this storage
+     * file, so that storage files that can write only what changed do so. This storage file writes it in full.
+     *
+     * If a save fails, the next save writes whatever the failed one did not, so the changes given to a failed save
+     * are not to be given again.
+     *
+     * @param changes the changes since the last save or load, in the order they were made
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    public void saveChanges(AddressBook addressBook, List<AddressBookChange> changes)
+            throws StorageOperationException {
+        save(addressBook);
+    }
 
+    /**
+     * Saves to a temporary file next to this file, forces it to the disk and then renames it over this file, so
+     * that this file holds either the old or the new address book in full even if the program or system crashes.
+     */
+    private void saveDurably(AddressBook addressBook) throws StorageOperationException {
+        final Path directory = path.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (final FileOutputStream fileStream = new FileOutputStream(tempFile.toFile())) {
+                write(addressBook, fileStream);
+                fileStream.getChannel().force(true);
+            }
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tempFile = null;
+            forceDirectory(directory);
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path + " error: " + ioe.getMessage());
-        } catch (JAXBException jaxbe) {
+        } catch (JAXBException | XMLStreamException e) {
             throw new StorageOperationException("Error converting address book into storage format");
+        } finally {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the address book to the stream in {@link #format}. The stream is flushed but not closed.
+     */
+    private void write(AddressBook addressBook, OutputStream fileStream)
+            throws IOException, JAXBException, XMLStreamException {
+        if (format == Format.BINARY) {
+            BinaryAddressBookFormat.write(addressBook, new BufferedOutputStream(fileStream));
+            return;
+        }
+        final Writer fileWriter = new BufferedWriter(new OutputStreamWriter(fileStream));
+        if (isStreamingSaveEnabled) {
+            XmlAddressBookWriter.write(addressBook, fileWriter);
+            return;
+        }
+        final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
+        Jaxb.MARSHALLER.get().marshal(toSave, fileWriter);
+        fileWriter.flush();
+    }
+
+    /**
+     * Forces the entries of the given directory, such as a renamed file, to the disk. Not all platforms can open
+     * a directory for this, in which case the entries are as durable as the platform makes them.
+     */
+    static void forceDirectory(Path directory) {
+        try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // not supported on this platform
+        }
+    }
+
+    static void deleteIfExists(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            // only a leftover temporary file
         }
     }
 
     /**
-     * Loads data from this storage file.
+     * Loads data from this storage file, in whichever format it is in.
      *
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
     public AddressBook load() throws StorageOperationException {
-        try (final Reader fileReader =
-                     new BufferedReader(new FileReader(path.toFile()))) {
+        try (final InputStream fileStream = new BufferedInputStream(new FileInputStream(path.toFile()))) {
 
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            final AdaptedAddressBook loaded = (AdaptedAddressBook) unmarshaller.unmarshal(fileReader);
+            format = isBinaryFormat(fileStream) ? Format.BINARY : Format.XML;
+            if (format == Format.BINARY) {
+                return BinaryAddressBookFormat.read(path, binaryLoadPool);
+            }
+            final Reader fileReader = new InputStreamReader(fileStream);
+            if (isStreamingLoadEnabled) {
+                return XmlAddressBookReader.read(fileReader);
+            }
+            final AdaptedAddressBook loaded = (AdaptedAddressBook) Jaxb.UNMARSHALLER.get().unmarshal(fileReader);
             // manual check for missing elements
             if (loaded.isAnyRequiredFieldMissing()) {
-                throw new StorageOperationException("File data missing some elements");
+                throw new StorageOperationException(MESSAGE_MISSING_ELEMENTS);
             }
             return loaded.toModelType();
 
@@ -132,13 +331,31 @@ public class StorageFile {
             return empty;
 
         // other errors
+        } catch (EOFException | BinaryAddressBookFormat.CorruptDataException e) {
+            throw new StorageOperationException(MESSAGE_PARSE_ERROR);
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path);
-        } catch (JAXBException jaxbe) {
-            throw new StorageOperationException("Error parsing file data format");
+        } catch (JAXBException | XMLStreamException e) {
+            throw new StorageOperationException(MESSAGE_PARSE_ERROR);
         } catch (IllegalValueException ive) {
-            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+            throw new StorageOperationException(MESSAGE_ILLEGAL_VALUES);
+        }
+    }
+
+    /**
+     * Returns true if the stream starts with the magic of the binary format. Does not consume any of the stream.
+     */
+    private static boolean isBinaryFormat(InputStream fileStream) throws IOException {
+        final byte[] header = new byte[BinaryAddressBookFormat.MAGIC.length];
+        fileStream.mark(header.length);
+        int headerLength = 0;
+        int bytesRead;
+        while (headerLength < header.length
+                && (bytesRead = fileStream.read(header, headerLength, header.length - headerLength)) > 0) {
+            headerLength += bytesRead;
         }
+        fileStream.reset();
+        return BinaryAddressBookFormat.hasMagic(header, headerLength);
     }
 
     public String getPath() {
@@ -0,0 +1,55 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.Format;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Converts a storage file to the given format. The source file may be in either format.
+ *
+ * Usage: {@code java seedu.addressbook.storage.StorageFileConverter SOURCE_FILE TARGET_FILE xml|binary}
+ */
+public class StorageFileConverter {
+
+    private static final String MESSAGE_USAGE =
+            "Usage: java seedu.addressbook.storage.StorageFileConverter SOURCE_FILE TARGET_FILE xml|binary";
+
+    private StorageFileConverter() {}
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(args[0], args[1], Format.valueOf(args[2].toUpperCase()));
+        } catch (IllegalArgumentException iae) {
+            System.err.println("Unknown format: " + args[2] + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the source storage file and saves its address book to the target storage file in the given format.
+     *
+     * @throws StorageOperationException if the source file does not exist or cannot be loaded, or the target file
+     *         cannot be saved.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath, Format targetFormat)
+            throws InvalidStorageFilePathException, StorageOperationException {
+        if (!Files.isRegularFile(Paths.get(sourceFilePath))) {
+            throw new StorageOperationException("File not found: " + sourceFilePath);
+        }
+        final AddressBook addressBook = new StorageFile(sourceFilePath).load();
+        final StorageFile target = new StorageFile(targetFilePath);
+        target.setFormat(targetFormat);
+        target.save(addressBook);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves the changes made to an address book to a {@link StorageFile} on a background thread, so that callers do
+ * not wait for disk I/O, nor copy the address book for every save.
+ *
+ * The writer keeps its own copy of the address book, which only its thread reads or changes: submitted changes
+ * are applied to the copy, which is then saved with {@link StorageFile#saveChanges(AddressBook, List)}. So the
+ * cost of a submit is proportional to the changes, and storage files that write only what changed still can.
+ *
+ * Changes are written at most {@code maxDelayMillis} after they were submitted. Changes submitted while earlier
+ * ones are still waiting are written together with them, so a burst of changes results in a single write.
+ * A failed write is retried by the next submit or flush.
+ */
+public class WriteBehindStorage {
+
+    /** Default maximum time a submitted change may wait before it is written. */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 200;
+
+    private final StorageFile storage;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    /** The writer's copy of the address book, as of the changes written so far. Only read on the writer thread. */
+    private final AddressBook savedCopy;
+
+    /** The changes submitted that have not been applied to {@link #savedCopy} yet, in order. */
+    private List<AddressBookChange> pendingChanges = new ArrayList<>();
+    /** The generation of the address book after the latest submitted changes. */
+    private long submittedGeneration;
+    /** The generation of the address book whose changes have all been written. */
+    private volatile long savedGeneration;
+    /** Whether a write of the pending changes has been scheduled. */
+    private boolean isWriteScheduled;
+    /** The failure of the last background write, if it has not been reported yet. */
+    private StorageOperationException unreportedFailure;
+
+    /**
+     * @param saved the address book as last saved to or loaded from the storage; it is copied, so it may be changed
+     *              afterwards
+     * @param maxDelayMillis the maximum time a submitted change may wait before it is written
+     */
+    public WriteBehindStorage(StorageFile storage, AddressBook saved, long maxDelayMillis) {
+        this.storage = storage;
+        this.maxDelayMillis = maxDelayMillis;
+        this.savedCopy = new AddressBook(saved.getAllPersons());
+        this.submittedGeneration = saved.getGeneration();
+        this.savedGeneration = saved.getGeneration();
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the given changes to be written. Submitting no changes retries a failed write, if any.
+     *
+     * @param changes the changes made to the address book since the last submit, in order
+     * @param generation the generation of the address book after the changes, see {@link AddressBook#getGeneration()}
+     * @throws StorageOperationException if a previous background write failed.
+     */
+    public synchronized void submit(List<AddressBookChange> changes, long generation)
+            throws StorageOperationException {
+        pendingChanges.addAll(changes);
+        submittedGeneration = generation;
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingChanges, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        reportFailure();
+    }
+
+    /**
+     * Returns the generation of the address book up to which all submitted changes have been written. It is behind
+     * the generation last submitted while changes wait to be written, or after a write failed.
+     */
+    public long getSavedGeneration() {
+        return savedGeneration;
+    }
+
+    /**
+     * Writes any pending changes immediately, retrying a failed write, and waits until they have been written.
+     *
+     * @throws StorageOperationException if the write, or a previous background write, failed.
+     */
+    public void flush() throws StorageOperationException {
+        try {
+            writer.submit(this::writePendingChanges).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new StorageOperationException("Interrupted while saving to file: " + storage.getPath());
+        } catch (ExecutionException ee) {
+            throw new StorageOperationException("Error writing to file: " + storage.getPath());
+        }
+        synchronized (this) {
+            reportFailure();
+        }
+    }
+
+    /**
+     * Flushes any pending changes and stops the background writer.
+     *
+     * @throws StorageOperationException if the final write failed.
+     */
+    public void close() throws StorageOperationException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Runs on the writer thread. Writes are never concurrent, as the writer is single-threaded.
+     * The changes are applied to the copy before it is saved, so a failed save is retried without them: the storage
+     * file writes what the failed save did not.
+     */
+    private void writePendingChanges() {
+        final List<AddressBookChange> changes;
+        final long generation;
+        synchronized (this) {
+            changes = pendingChanges;
+            pendingChanges = new ArrayList<>();
+            generation = submittedGeneration;
+            isWriteScheduled = false;
+        }
+        if (generation == savedGeneration && changes.isEmpty()) {
+            return;
+        }
+        try {
+            for (AddressBookChange change : changes) {
+                change.applyTo(savedCopy);
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new AssertionError("the copy is changed in the same way as the address book it copies", e);
+        }
+        try {
+            storage.saveChanges(savedCopy, changes);
+            savedGeneration = generation;
+        } catch (StorageOperationException soe) {
+            synchronized (this) {
+                unreportedFailure = soe;
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of the last background write, if it has not been reported yet.
+     */
+    private void reportFailure() throws StorageOperationException {
+        if (unreportedFailure != null) {
+            final StorageOperationException failure = unreportedFailure;
+            unreportedFailure = null;
+            throw failure;
+        }
+    }
+}
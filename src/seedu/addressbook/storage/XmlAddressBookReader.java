@@ -0,0 +1,197 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads an address book from the XML storage format with StAX, converting one {@code <persons>} element at a
+ * time straight into the address book instead of first building the whole JAXB object graph.
+ *
+ * Accepts the same documents as JAXB unmarshalling of {@code AdaptedAddressBook}: unknown elements are ignored,
+ * a missing {@code isPrivate} attribute means not private, and problems are reported with the same precedence
+ * (unparsable document, then missing elements, then illegal values).
+ */
+class XmlAddressBookReader {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final XMLStreamReader xml;
+    private final UniquePersonList persons = new UniquePersonList();
+
+    private boolean isAnyRequiredFieldMissing = false;
+    private IllegalValueException firstIllegalValue;
+
+    private XmlAddressBookReader(XMLStreamReader xml) {
+        this.xml = xml;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads the address book in the given XML document.
+     *
+     * @throws XMLStreamException if the document is not well-formed, or its root is not an address book.
+     * @throws StorageOperationException if any person in the document is missing a required element.
+     * @throws IllegalValueException if any data constraints are violated, including duplicate persons.
+     */
+    static AddressBook read(Reader reader)
+            throws XMLStreamException, StorageOperationException, IllegalValueException {
+        final XMLStreamReader xml = INPUT_FACTORY.createXMLStreamReader(reader);
+        try {
+            return new XmlAddressBookReader(xml).readAddressBook();
+        } finally {
+            xml.close();
+        }
+    }
+
+    private AddressBook readAddressBook()
+            throws XMLStreamException, StorageOperationException, IllegalValueException {
+        xml.nextTag();
+        if (!"AddressBook".equals(xml.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element: " + xml.getLocalName());
+        }
+        while (nextChildElement()) {
+            if ("persons".equals(xml.getLocalName())) {
+                readPerson();
+            } else {
+                skipElement();
+            }
+        }
+        // like JAXB, only report the data problems once the whole document is known to be parsable
+        if (isAnyRequiredFieldMissing) {
+            throw new StorageOperationException(StorageFile.MESSAGE_MISSING_ELEMENTS);
+        }
+        if (firstIllegalValue != null) {
+            throw firstIllegalValue;
+        }
+        return new AddressBook(persons);
+    }
+
+    /**
+     * Reads the current {@code <persons>} element and adds it to {@link #persons}. Once any problem has been
+     * found, later persons are only checked for missing elements.
+     */
+    private void readPerson() throws XMLStreamException {
+        String name = null;
+        ContactDetail phone = null;
+        ContactDetail email = null;
+        ContactDetail address = null;
+        final List<String> tagNames = new ArrayList<>();
+
+        while (nextChildElement()) {
+            switch (xml.getLocalName()) {
+            case "name":
+                name = xml.getElementText();
+                break;
+            case "phone":
+                phone = readContactDetail();
+                break;
+            case "email":
+                email = readContactDetail();
+                break;
+            case "address":
+                address = readContactDetail();
+                break;
+            case "tagged":
+                tagNames.add(xml.getElementText());
+                break;
+            default:
+                skipElement();
+            }
+        }
+
+        if (name == null || phone == null || email == null || address == null) {
+            isAnyRequiredFieldMissing = true;
+        }
+        if (isAnyRequiredFieldMissing || firstIllegalValue != null) {
+            return;
+        }
+        try {
+            final Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            persons.add(new Person(new Name(name),
+                                   new Phone(phone.value, phone.isPrivate),
+                                   new Email(email.value, email.isPrivate),
+                                   new Address(address.value, address.isPrivate),
+                                   tags));
+        } catch (IllegalValueException ive) {
+            firstIllegalValue = ive;
+        }
+    }
+
+    private ContactDetail readContactDetail() throws XMLStreamException {
+        final String isPrivate = xml.getAttributeValue(null, "isPrivate");
+        final String value = xml.getElementText();
+        return new ContactDetail(value, "true".equals(isPrivate) || "1".equals(isPrivate));
+    }
+
+    /**
+     * Moves to the start of the next child element of the current element and returns true, or moves to the end
+     * of the current element and returns false if it has no more child elements. Text between elements is
+     * ignored, as JAXB does.
+     */
+    private boolean nextChildElement() throws XMLStreamException {
+        while (true) {
+            final int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Skips past the end of the current element, including any elements nested in it.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * The value and privacy of a phone, email or address element.
+     */
+    private static class ContactDetail {
+        final String value;
+        final boolean isPrivate;
+
+        ContactDetail(String value, boolean isPrivate) {
+            this.value = value;
+            this.isPrivate = isPrivate;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes an address book in the XML storage format with StAX, streaming each person straight from the address
+ * book instead of first copying it into a JAXB object graph.
+ *
+ * The output is the same as formatted JAXB marshalling of {@code AdaptedAddressBook}, so files written by
+ * either can be read by both loaders.
+ */
+class XmlAddressBookWriter {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static final String XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String PERSON_INDENT = "\n    ";
+    private static final String FIELD_INDENT = "\n        ";
+
+    private final XMLStreamWriter xml;
+
+    private XmlAddressBookWriter(XMLStreamWriter xml) {
+        this.xml = xml;
+    }
+
+    /**
+     * Writes the given address book to the given writer. The writer is flushed but not closed.
+     */
+    static void write(AddressBook addressBook, Writer writer) throws IOException, XMLStreamException {
+        writer.write(XML_DECLARATION);
+        final XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(writer);
+        try {
+            new XmlAddressBookWriter(xml).writeAddressBook(addressBook.getAllPersonsView());
+            xml.writeEndDocument();
+            xml.flush();
+        } finally {
+            xml.close();
+        }
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private void writeAddressBook(List<ReadOnlyPerson> persons) throws XMLStreamException {
+        if (persons.isEmpty()) {
+            xml.writeEmptyElement("AddressBook");
+            return;
+        }
+        xml.writeStartElement("AddressBook");
+        for (ReadOnlyPerson person : persons) {
+            xml.writeCharacters(PERSON_INDENT);
+            writePerson(person);
+        }
+        xml.writeCharacters("\n");
+        xml.writeEndElement();
+    }
+
+    private void writePerson(ReadOnlyPerson person) throws XMLStreamException {
+        xml.writeStartElement("persons");
+        writeField("name", person.getName().fullName);
+        writeContactDetail("phone", person.getPhone().value, person.getPhone().isPrivate());
+        writeContactDetail("email", person.getEmail().value, person.getEmail().isPrivate());
+        writeContactDetail("address", person.getAddress().value, person.getAddress().isPrivate());
+        for (Tag tag : person.getTags()) {
+            writeField("tagged", tag.tagName);
+        }
+        xml.writeCharacters(PERSON_INDENT);
+        xml.writeEndElement();
+    }
+
+    private void writeField(String elementName, String value) throws XMLStreamException {
+        xml.writeCharacters(FIELD_INDENT);
+        xml.writeStartElement(elementName);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private void writeContactDetail(String elementName, String value, boolean isPrivate)
+            throws XMLStreamException {
+        xml.writeCharacters(FIELD_INDENT);
+        xml.writeStartElement(elementName);
+        xml.writeAttribute("isPrivate", Boolean.toString(isPrivate));
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+}
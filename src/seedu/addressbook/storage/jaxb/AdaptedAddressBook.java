@@ -8,7 +8,11 @@ import seedu.addressbook.data.person.UniquePersonList;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
 
 /**
  * JAXB-friendly adapted address book data holder class.
@@ -16,6 +20,23 @@ import java.util.List;
 @XmlRootElement(name = "AddressBook")
 public class AdaptedAddressBook {
 
+    /** Ranges of persons smaller than this are converted without splitting them further. */
+    private static final int MIN_CONVERSION_RANGE = 1024;
+
+    /**
+     * Signals that an adapted person violates some data constraints.
+     */
+    public static class IllegalPersonException extends IllegalValueException {
+        /** The index of the person in the address book. */
+        public final int index;
+
+        public IllegalPersonException(int index, IllegalValueException cause) {
+            super("Person at index " + index + ": " + cause.getMessage());
+            this.index = index;
+            initCause(cause);
+        }
+    }
+
     @XmlElement
     private List<AdaptedPerson> persons = new ArrayList<>();
 
@@ -44,19 +65,95 @@ public class AdaptedAddressBook {
      * so we check for that.
      */
     public boolean isAnyRequiredFieldMissing() {
-        return persons.stream().anyMatch(AdaptedPerson::isAnyRequiredFieldMissing);
+        return indexOfFirstPersonWithMissingField() >= 0;
     }
 
+    /**
+     * Returns the index of the first person with a required field missing, or -1 if there is none.
+     * The persons are checked in parallel.
+     */
+    public int indexOfFirstPersonWithMissingField() {
+        return IntStream.range(0, persons.size())
+                .parallel()
+                .filter(i -> persons.get(i).isAnyRequiredFieldMissing())
+                .findFirst()
+                .orElse(-1);
+    }
 
     /**
      * Converts this jaxb-friendly {@code AdaptedAddressBook} object into the corresponding(@code AddressBook} object.
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public AddressBook toModelType() throws IllegalValueException {
-        final List<Person> personList = new ArrayList<>();
-        for (AdaptedPerson person : persons) {
-            personList.add(person.toModelType());
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts this jaxb-friendly {@code AdaptedAddressBook} object into the corresponding(@code AddressBook} object,
+     * converting the persons in parallel in the given pool. The persons keep their order.
+     *
+     * @throws IllegalPersonException for the first person, in order, that violates any data constraints
+     * @throws IllegalValueException if there are duplicate persons
+     */
+    public AddressBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        final Person[] converted = new Person[persons.size()];
+        final FirstFailure firstFailure = new FirstFailure();
+        pool.invoke(new ConversionTask(converted, 0, converted.length, firstFailure));
+        if (firstFailure.exception != null) {
+            throw new IllegalPersonException(firstFailure.index, firstFailure.exception);
+        }
+        return new AddressBook(new UniquePersonList(Arrays.asList(converted)));
+    }
+
+    /**
+     * The first person, in order, found so far to violate data constraints.
+     */
+    private static class FirstFailure {
+        /** The index of the person, or {@code Integer.MAX_VALUE} if none has been found. */
+        volatile int index = Integer.MAX_VALUE;
+        IllegalValueException exception;
+
+        synchronized void record(int index, IllegalValueException exception) {
+            if (index < this.index) {
+                this.index = index;
+                this.exception = exception;
+            }
+        }
+    }
+
+    /**
+     * Converts a range of the persons, splitting it in half until it is small enough.
+     * Persons after a failure that has already been found are not converted, as the conversion will fail anyway.
+     */
+    private class ConversionTask extends RecursiveAction {
+        private final Person[] converted;
+        private final int from;
+        private final int to;
+        private final FirstFailure firstFailure;
+
+        ConversionTask(Person[] converted, int from, int to, FirstFailure firstFailure) {
+            this.converted = converted;
+            this.from = from;
+            this.to = to;
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MIN_CONVERSION_RANGE) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(converted, from, middle, firstFailure),
+                          new ConversionTask(converted, middle, to, firstFailure));
+                return;
+            }
+            for (int i = from; i < to && i < firstFailure.index; i++) {
+                try {
+                    converted[i] = persons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    firstFailure.record(i, ive);
+                    return;
+                }
+            }
         }
-        return new AddressBook(new UniquePersonList(personList));
     }
 }
@@ -36,17 +36,25 @@ public class Formatter {
 
     /** Formats the given list of persons for displaying to the user. */
     public String format(List<? extends ReadOnlyPerson> persons) {
+        return format(persons, 0 + DISPLAYED_INDEX_OFFSET);
+    }
+
+    /**
+     * Formats the given list of persons for displaying to the user, numbering them from the given index, e.g. for
+     * a page of a longer list.
+     */
+    public String format(List<? extends ReadOnlyPerson> persons, int firstDisplayIndex) {
         final List<String> formattedPersons = new ArrayList<>();
         for (ReadOnlyPerson person : persons) {
             formattedPersons.add(person.getAsTextHidePrivate());
         }
-        return format(asIndexedList(formattedPersons));
+        return format(asIndexedList(formattedPersons, firstDisplayIndex));
     }
 
-    /** Formats a list of strings as an indexed list. */
-    private static String asIndexedList(List<String> listItems) {
+    /** Formats a list of strings as an indexed list, numbered from the given index. */
+    private static String asIndexedList(List<String> listItems, int firstDisplayIndex) {
         final StringBuilder formatted = new StringBuilder();
-        int displayIndex = 0 + DISPLAYED_INDEX_OFFSET;
+        int displayIndex = firstDisplayIndex;
         for (String listItem : listItems) {
             formatted.append(getIndexedListItem(displayIndex, listItem)).append("\n");
             displayIndex++;
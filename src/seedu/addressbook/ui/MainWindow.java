@@ -1,19 +1,23 @@
 package seedu.addressbook.ui;
 
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.NextCommand;
+import seedu.addressbook.commands.PersonCursor;
+import seedu.addressbook.logic.IncrementalSearch;
 import seedu.addressbook.logic.Logic;
 import seedu.addressbook.commands.CommandResult;
-import seedu.addressbook.data.person.ReadOnlyPerson;
 
-import java.util.List;
 import java.util.Optional;
 
 import static seedu.addressbook.common.Messages.*;
+import static seedu.addressbook.ui.Gui.DISPLAYED_INDEX_OFFSET;
 
 /**
  * Main Window of the GUI.
@@ -22,12 +26,19 @@ public class MainWindow {
 
     private Logic logic;
     private Stoppable mainApp;
+    private IncrementalSearch incrementalSearch;
+
+    /** The result of the last executed command, shown again when the results of a find being typed are dropped. */
+    private CommandResult lastResult;
+    private boolean isShowingSearchResult;
 
     public MainWindow(){
     }
 
     public void setLogic(Logic logic){
         this.logic = logic;
+        this.incrementalSearch = new IncrementalSearch(logic, IncrementalSearch.DEFAULT_DEBOUNCE_MILLIS,
+                Platform::runLater, this::displaySearchResult);
     }
 
     public void setMainApp(Stoppable mainApp){
@@ -40,16 +51,52 @@ public class MainWindow {
     @FXML
     private TextField commandInput;
 
+    @FXML
+    void initialize() {
+        commandInput.textProperty().addListener((observable, oldText, newText) -> onCommandInputChanged(newText));
+    }
+
+    /**
+     * Searches a find command in the background while it is being typed, showing its results when they arrive.
+     */
+    private void onCommandInputChanged(String userCommandText) {
+        if (incrementalSearch == null) {
+            return;
+        }
+        if (userCommandText.trim().startsWith(FindCommand.COMMAND_WORD + " ")) {
+            incrementalSearch.update(userCommandText);
+            return;
+        }
+        incrementalSearch.cancel();
+        if (isShowingSearchResult) {
+            isShowingSearchResult = false;
+            if (lastResult == null) {
+                clearOutputConsole();
+            } else {
+                displayResult(lastResult);
+            }
+        }
+    }
+
+    /** Displays the result of the find command being typed, in place of the result of the last command. */
+    private void displaySearchResult(CommandResult result) {
+        displayResult(result);
+        isShowingSearchResult = true;
+    }
 
     @FXML
     void onCommand(ActionEvent event) {
         try {
             String userCommandText = commandInput.getText();
+            incrementalSearch.cancel();
             CommandResult result = logic.execute(userCommandText);
             if(isExitCommand(result)){
+                incrementalSearch.shutdown();
                 exitApp();
                 return;
             }
+            lastResult = result;
+            isShowingSearchResult = false;
             displayResult(result);
             clearCommandInput();
         } catch (Exception e) {
@@ -77,14 +124,17 @@ public class MainWindow {
         outputConsole.clear();
     }
 
-    /** Displays the result of a command execution to the user. */
+    /** Displays the result of a command execution to the user, with only the page of its persons to show. */
     public void displayResult(CommandResult result) {
         clearOutputConsole();
-        final Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
-        if(resultPersons.isPresent()) {
-            display(resultPersons.get());
+        final Optional<PersonCursor> shownPersons = result.getShownPersons();
+        if(shownPersons.isPresent()) {
+            display(shownPersons.get());
         }
         display(result.feedbackToUser);
+        if (shownPersons.isPresent() && shownPersons.get().hasNext()) {
+            display(String.format(MESSAGE_MORE_PERSONS_ON_NEXT_PAGE, NextCommand.COMMAND_WORD));
+        }
     }
 
     public void displayWelcomeMessage(String version, String storageFilePath) {
@@ -93,11 +143,11 @@ public class MainWindow {
     }
 
     /**
-     * Displays the list of persons in the output display area, formatted as an indexed list.
-     * Private contact details are hidden.
+     * Displays the page of persons in the output display area, formatted as an indexed list numbered through all
+     * pages. Private contact details are hidden.
      */
-    private void display(List<? extends ReadOnlyPerson> persons) {
-        display(new Formatter().format(persons));
+    private void display(PersonCursor page) {
+        display(new Formatter().format(page.getPage(), page.getPageStart() + DISPLAYED_INDEX_OFFSET));
     }
 
     /**
@@ -0,0 +1,140 @@
+package seedu.addressbook.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Generates reproducible address book data for the benchmarks in this package, and times their work.
+ *
+ * The benchmarks are plain programs rather than tests, and are not run by the test task.
+ * Run one with its {@code main} method, e.g. from the IDE.
+ */
+public class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Charlie", "David", "Emily", "Fiona", "George", "Hannah", "Ivan", "Julia",
+        "Kevin", "Linda", "Michael", "Nora", "Oscar", "Priya", "Quentin", "Rachel", "Samuel", "Tanya",
+        "Umar", "Violet", "Wei", "Xavier", "Yusuf", "Zoe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Ong", "Smith", "Johnson", "Brown", "Kumar",
+        "Singh", "Garcia", "Martin", "Nguyen", "Sato", "Kim", "Ivanov", "Muller"
+    };
+    private static final String[] TAG_NAMES = {
+        "friends", "family", "colleagues", "neighbours", "client", "supplier", "vip", "school", "gym", "club"
+    };
+
+    /** The number of runs of the work made before timing it, so that it is compiled and its data is cached. */
+    public static final int WARMUP_RUNS = 5;
+    /** The number of timed runs of the work, of which the best is reported. */
+    public static final int MEASURED_RUNS = 20;
+
+    /** Consumed so that the timed work cannot be optimised away. */
+    private static long sink;
+
+    /**
+     * A run of work that times itself, e.g. as the part of it being measured ends on another thread.
+     */
+    public interface TimedRun {
+        /**
+         * Runs the work once, returning the time taken by the part of it being measured in nanoseconds.
+         */
+        long run() throws InterruptedException;
+    }
+
+    private BenchmarkData() {}
+
+    /**
+     * Generates the person with the given seed. Persons with different seeds are never equal.
+     */
+    public static Person generatePerson(int seed) {
+        final Random random = new Random(seed);
+        try {
+            return new Person(
+                    new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Integer.toString(seed, 36)),
+                    new Phone("9" + seed, random.nextBoolean()),
+                    new Email("person" + seed + "@example.com", random.nextBoolean()),
+                    new Address("Blk " + random.nextInt(1000) + ", Example Street " + random.nextInt(100)
+                            + ", #" + random.nextInt(20) + "-" + random.nextInt(200), random.nextBoolean()),
+                    new HashSet<>(Arrays.asList(new Tag(TAG_NAMES[random.nextInt(TAG_NAMES.length)]),
+                                                new Tag(TAG_NAMES[random.nextInt(TAG_NAMES.length)]))));
+        } catch (Exception e) {
+            throw new AssertionError("generated person data is always valid", e);
+        }
+    }
+
+    /**
+     * Generates an address book with persons seeded {@code 0} to {@code size - 1}, in order.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        final AddressBook addressBook = new AddressBook();
+        try {
+            for (int seed = 0; seed < size; seed++) {
+                addressBook.addPerson(generatePerson(seed));
+            }
+        } catch (Exception e) {
+            throw new AssertionError("generated persons are always unique", e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the best time in milliseconds of {@link #MEASURED_RUNS} runs of the work, after {@link #WARMUP_RUNS}
+     * runs to warm it up. The size of each result is consumed, so that the work cannot be optimised away.
+     */
+    public static double bestTimeMillis(Supplier<? extends Collection<?>> work) {
+        return bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS, () -> work.get().size());
+    }
+
+    /**
+     * Returns the best time in milliseconds of the given number of runs of the work, after warming it up. The
+     * result of each run is consumed, so that the work cannot be optimised away.
+     */
+    public static double bestTimeMillis(int warmupRuns, int measuredRuns, IntSupplier work) {
+        for (int i = 0; i < warmupRuns; i++) {
+            sink += work.getAsInt();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRuns; i++) {
+            final long start = System.nanoTime();
+            sink += work.getAsInt();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * Returns the best of the times in milliseconds that {@link #MEASURED_RUNS} runs report, after
+     * {@link #WARMUP_RUNS} runs to warm it up.
+     */
+    public static double bestReportedTimeMillis(TimedRun run) throws InterruptedException {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            best = Math.min(best, run.run());
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * Parses the address book sizes to benchmark from the program arguments, or returns the defaults.
+     */
+    public static int[] getSizes(String[] args, int... defaultSizes) {
+        return args.length == 0 ? defaultSizes : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Compares the time of a {@code find} by scanning every person, as {@code FindCommand} used to, with answering it
+ * from the name index of the address book, for a common keyword, a rare keyword and several keywords.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class FindBenchmark {
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %18s %10s %10s %12s %12s%n", "persons", "keywords", "matches", "index ms",
+                "scan ms", "build ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            long start = System.nanoTime();
+            addressBook.findPersonsWithNameContainingAnyWord(Collections.singleton("Alice"));
+            final long buildTime = System.nanoTime() - start;
+
+            // the last word of a generated name is its seed in base 36
+            final String rareWord = Integer.toString(size / 2, 36);
+            for (Set<String> keywords : Arrays.asList(keywords("Alice"), keywords(rareWord),
+                    keywords("Alice", "Tan", "Zoe"))) {
+                final int matches = addressBook.findPersonsWithNameContainingAnyWord(keywords).size();
+                final double indexTime = BenchmarkData.bestTimeMillis(
+                        () -> addressBook.findPersonsWithNameContainingAnyWord(keywords));
+                final double scanTime = BenchmarkData.bestTimeMillis(() -> scan(addressBook, keywords));
+                System.out.printf("%10d %18s %10d %10.3f %12.3f %12d%n", size, String.join(",", keywords),
+                        matches, indexTime, scanTime, buildTime / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Finds the matching persons the way {@code FindCommand} did before the name index.
+     */
+    private static List<ReadOnlyPerson> scan(AddressBook addressBook, Set<String> keywords) {
+        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
+            final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
+            if (!Collections.disjoint(wordsInName, keywords)) {
+                matchedPersons.add(person);
+            }
+        }
+        return matchedPersons;
+    }
+
+    private static Set<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Measures the time from creating a {@code StorageFile} to the end of its first {@code load()}, for the first
+ * storage file in the JVM and for later ones, loading a small XML file with JAXB.
+ *
+ * Only the first measurement of a JVM is cold, so run this program in a fresh JVM each time.
+ *
+ * Arguments: the number of persons in the file (default: 100).
+ */
+public class FirstLoadBenchmark {
+
+    private static final int LATER_STORAGE_FILES = 200;
+
+    public static void main(String[] args) throws Exception {
+        final int size = BenchmarkData.getSizes(args, 100)[0];
+        final Path file = Files.createTempDirectory("first-load-benchmark").resolve("addressbook.txt");
+        final String data = String.join("\n",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>",
+                "<AddressBook>",
+                generatePersons(size),
+                "</AddressBook>",
+                "");
+        Files.write(file, data.getBytes("UTF-8"));
+
+        long start = System.nanoTime();
+        final StorageFile first = new StorageFile(file.toString());
+        final long firstConstructionTime = System.nanoTime() - start;
+        first.load();
+        final long firstTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < LATER_STORAGE_FILES; i++) {
+            new StorageFile(file.toString()).load();
+        }
+        final long laterTime = (System.nanoTime() - start) / LATER_STORAGE_FILES;
+
+        System.out.printf("persons: %d%n", size);
+        System.out.printf("first StorageFile, construction: %.1f ms%n", firstConstructionTime / 1e6);
+        System.out.printf("first StorageFile, construction to end of load: %.1f ms%n", firstTime / 1e6);
+        System.out.printf("later StorageFiles, mean construction to end of load: %.2f ms%n", laterTime / 1e6);
+    }
+
+    private static String generatePersons(int size) {
+        final StringBuilder persons = new StringBuilder();
+        for (int seed = 0; seed < size; seed++) {
+            persons.append("    <persons><name>Person ").append(seed).append("</name>")
+                    .append("<phone isPrivate=\"false\">9").append(seed).append("</phone>")
+                    .append("<email isPrivate=\"false\">p").append(seed).append("@example.com</email>")
+                    .append("<address isPrivate=\"false\">Street ").append(seed).append("</address>")
+                    .append("<tagged>friends</tagged></persons>\n");
+        }
+        return persons.toString();
+    }
+}
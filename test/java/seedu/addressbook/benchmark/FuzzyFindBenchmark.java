@@ -0,0 +1,84 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Compares the time of a {@code find -f} answered from the BK-tree of the address book with computing the edit
+ * distance to every name word, for a misspelt first name, last name and generated name word, at each maximum
+ * distance.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class FuzzyFindBenchmark {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %10s %9s %10s %12s %12s%n", "persons", "keyword", "distance", "matches",
+                "bk-tree ms", "scan ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            long start = System.nanoTime();
+            addressBook.findPersonsWithNameWordWithinDistance(Collections.singleton("a"), 0);
+            System.out.printf("%10d build %d ms%n", size, (System.nanoTime() - start) / 1_000_000);
+
+            // the last word of a generated name is its seed in base 36
+            final String seedWord = Integer.toString(size / 2, 36);
+            final String misspeltSeedWord = seedWord.substring(1) + "x";
+            for (String keyword : new String[] {"Alise", "Jonson", misspeltSeedWord}) {
+                for (int maxDistance = 1; maxDistance <= 3; maxDistance++) {
+                    final Set<String> keywords = Collections.singleton(keyword);
+                    final int distance = maxDistance;
+                    final int matches = addressBook.findPersonsWithNameWordWithinDistance(keywords, distance).size();
+                    final double treeTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                            () -> addressBook.findPersonsWithNameWordWithinDistance(keywords, distance).size());
+                    final double scanTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                            () -> scan(addressBook, keyword, distance).size());
+                    System.out.printf("%10d %10s %9d %10d %12.3f %12.3f%n", size, keyword, maxDistance, matches,
+                            treeTime, scanTime);
+                }
+            }
+        }
+    }
+
+    private static List<ReadOnlyPerson> scan(AddressBook addressBook, String keyword, int maxDistance) {
+        final String folded = keyword.toLowerCase(Locale.ROOT);
+        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            for (String word : person.getName().getWordsInName()) {
+                if (levenshtein(folded, word.toLowerCase(Locale.ROOT)) <= maxDistance) {
+                    matchedPersons.add(person);
+                    break;
+                }
+            }
+        }
+        return matchedPersons;
+    }
+
+    private static int levenshtein(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                final int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.addressbook.benchmark;
+
+import java.io.File;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.PersonCursor;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.logic.IncrementalSearch;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.logic.LogicTestUtil;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.ui.Formatter;
+
+/**
+ * Measures the time from typing the last character of a {@code find} command to having its first page formatted
+ * for display, with the default debounce delay, and the time to get the result of a search typed while a slow scan
+ * is still running, which is cancelled. Keystrokes are typed faster than the searches finish, and no results are
+ * cached beforehand.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class IncrementalSearchBenchmark {
+
+    private static final long KEYSTROKE_INTERVAL_MILLIS = 1;
+
+    private static final String SLOW_SCAN = "query address:\"no such street\"";
+
+    /** Consumed so that the work cannot be optimised away. */
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        final File saveFile = File.createTempFile("incremental-search-benchmark", ".txt");
+        saveFile.deleteOnExit();
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final Logic logic = LogicTestUtil.createLogic(new StorageFile(saveFile.getPath()), addressBook);
+            final BlockingQueue<Long> renderTimes = new LinkedBlockingQueue<>();
+            final IncrementalSearch search = new IncrementalSearch(logic, IncrementalSearch.DEFAULT_DEBOUNCE_MILLIS,
+                    Runnable::run, result -> renderTimes.add(render(result)));
+
+            System.out.printf("%d persons%n%10s %18s  %s%n", size, "matches", "last key to page ms", "typed");
+            final String[] typed = {"find Alice", "find -p Char", "find Wei Tan", "find -f Hanah"};
+            for (String text : typed) {
+                final double latency = BenchmarkData.bestReportedTimeMillis(() -> {
+                    logic.getQueryCache().clear();
+                    return type(search, renderTimes, text);
+                });
+                System.out.printf("%10d %18.3f  %s%n", logic.search(text, () -> false).getRelevantPersons()
+                        .get().size(), latency, text);
+            }
+            final double afterScan = BenchmarkData.bestReportedTimeMillis(() -> {
+                logic.getQueryCache().clear();
+                search.update(SLOW_SCAN);
+                Thread.sleep(IncrementalSearch.DEFAULT_DEBOUNCE_MILLIS + 10);
+                return type(search, renderTimes, "find Zoe");
+            });
+            System.out.printf("%10s %18.3f  %s, then find Zoe%n", "", afterScan, SLOW_SCAN);
+            search.shutdown();
+        }
+    }
+
+    /**
+     * Types the text a character at a time and returns the time from the last character to its result being
+     * formatted, in nanoseconds.
+     */
+    private static long type(IncrementalSearch search, BlockingQueue<Long> renderTimes, String text)
+            throws InterruptedException {
+        for (int length = 1; length < text.length(); length++) {
+            search.update(text.substring(0, length));
+            Thread.sleep(KEYSTROKE_INTERVAL_MILLIS);
+        }
+        final long start = System.nanoTime();
+        search.update(text);
+        long rendered;
+        do {
+            rendered = renderTimes.take(); // the first search of a warm-up run also builds the indexes it uses
+        } while (rendered < start);
+        search.cancel();
+        Thread.sleep(50); // lets any earlier result arrive before the next measurement
+        renderTimes.clear();
+        return rendered - start;
+    }
+
+    private static long render(CommandResult result) {
+        final PersonCursor page = result.getShownPersons().get();
+        sink += new Formatter().format(page.getPage(), page.getPageStart() + 1).length();
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeLog;
+import seedu.addressbook.storage.JournaledStorageFile;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Compares the bytes written per saved mutation by {@link StorageFile} and {@link JournaledStorageFile}
+ * as the address book grows.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000 10000 100000 1000000).
+ */
+public class JournalBenchmark {
+
+    private static final int MUTATIONS = 1000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %22s %22s %22s%n",
+                "persons", "full rewrite B/save", "journal B/mutation", "journal+compact B/mut");
+        for (int size : BenchmarkData.getSizes(args, 1_000, 10_000, 100_000, 1_000_000)) {
+            final Path folder = Files.createTempDirectory("journal-benchmark");
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+
+            final StorageFile plain = new StorageFile(folder.resolve("plain.txt").toString());
+            plain.save(addressBook);
+            final long fullRewriteBytes = Files.size(plain.path);
+
+            final JournaledStorageFile journaled = new JournaledStorageFile(folder.resolve("journaled.txt").toString());
+            journaled.save(addressBook);
+            final AddressBook tracked = journaled.load();
+            final AddressBookChangeLog changeLog = new AddressBookChangeLog();
+            tracked.addListener(changeLog);
+            long compactionBytes = 0;
+            long journalBytes = 0;
+            long previousJournalSize = Files.size(journaled.journalPath);
+            for (int i = 0; i < MUTATIONS; i++) {
+                if (i % 2 == 0) {
+                    tracked.addPerson(BenchmarkData.generatePerson(size + i));
+                } else {
+                    tracked.removePerson(BenchmarkData.generatePerson(i));
+                }
+                journaled.saveChanges(tracked, changeLog.takeChanges());
+                final long journalSize = Files.size(journaled.journalPath);
+                if (journalSize < previousJournalSize) { // compacted
+                    compactionBytes += Files.size(journaled.path) + journalSize;
+                } else {
+                    journalBytes += journalSize - previousJournalSize;
+                }
+                previousJournalSize = journalSize;
+            }
+
+            System.out.printf("%10d %22d %22.1f %22.1f%n", size, fullRewriteBytes,
+                    (double) journalBytes / MUTATIONS, (double) (journalBytes + compactionBytes) / MUTATIONS);
+        }
+    }
+}
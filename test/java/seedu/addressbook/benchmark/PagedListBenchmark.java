@@ -0,0 +1,49 @@
+package seedu.addressbook.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.PersonCursor;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.ui.Formatter;
+
+/**
+ * Compares the time to run {@code list} and format its result for display when only the first page is shown,
+ * with copying and formatting the whole address book, and measures moving to the next page.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class PagedListBenchmark {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %14s %14s %14s%n", "persons", "whole ms", "first page ms", "next page ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final PersonCursor nothingShown = new PersonCursor(Collections.emptyList(),
+                    PersonCursor.DEFAULT_PAGE_SIZE);
+
+            final double wholeTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS, () -> {
+                final List<ReadOnlyPerson> allPersons = addressBook.getAllPersons().immutableListView();
+                return new Formatter().format(allPersons).length();
+            });
+            final double firstPageTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS, () -> {
+                final Command list = new ListCommand();
+                list.setData(addressBook, nothingShown);
+                final PersonCursor page = list.execute().getShownPersons().get();
+                return new Formatter().format(page.getPage(), page.getPageStart() + 1).length();
+            });
+            final PersonCursor firstPage = new PersonCursor(addressBook, PersonCursor.DEFAULT_PAGE_SIZE);
+            final double nextPageTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS, () -> {
+                final PersonCursor page = firstPage.next();
+                return new Formatter().format(page.getPage(), page.getPageStart() + 1).length();
+            });
+            System.out.printf("%10d %14.1f %14.3f %14.3f%n", size, wholeTime, firstPageTime, nextPageTime);
+        }
+    }
+}
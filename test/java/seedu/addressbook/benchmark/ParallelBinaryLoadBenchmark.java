@@ -0,0 +1,50 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.StorageFile.Format;
+
+/**
+ * Measures how the load time of a binary storage file scales with the number of threads decoding its chunks.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000000).
+ */
+public class ParallelBinaryLoadBenchmark {
+
+    private static final int RUNS = 3;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("available processors: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%10s %8s %14s %10s%n", "persons", "threads", "load time ms", "speedup");
+        for (int size : BenchmarkData.getSizes(args, 1_000_000)) {
+            final Path file = Files.createTempDirectory("parallel-load-benchmark").resolve("addressbook.txt");
+            final StorageFile writer = new StorageFile(file.toString());
+            writer.setFormat(Format.BINARY);
+            writer.save(BenchmarkData.generateAddressBook(size));
+
+            long singleThreadTime = 0;
+            for (int threads : THREAD_COUNTS) {
+                final ForkJoinPool pool = new ForkJoinPool(threads);
+                final StorageFile storage = new StorageFile(file.toString());
+                storage.setBinaryLoadPool(pool);
+                long bestTime = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    System.gc();
+                    final long start = System.nanoTime();
+                    storage.load();
+                    bestTime = Math.min(bestTime, System.nanoTime() - start);
+                }
+                pool.shutdown();
+                if (threads == 1) {
+                    singleThreadTime = bestTime;
+                }
+                System.out.printf("%10d %8d %14d %10.2f%n", size, threads, bestTime / 1_000_000,
+                        (double) singleThreadTime / bestTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.xml.bind.JAXBContext;
+
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
+
+/**
+ * Measures how the time to check and convert an unmarshalled XML address book into the model scales with the
+ * number of threads.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000000).
+ */
+public class ParallelConversionBenchmark {
+
+    private static final int RUNS = 3;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("available processors: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%10s %8s %16s %10s%n", "persons", "threads", "check+convert ms", "speedup");
+        for (int size : BenchmarkData.getSizes(args, 1_000_000)) {
+            final Path file = Files.createTempDirectory("parallel-conversion-benchmark").resolve("addressbook.txt");
+            new StorageFile(file.toString()).save(BenchmarkData.generateAddressBook(size));
+            final AdaptedAddressBook adapted = (AdaptedAddressBook) JAXBContext.newInstance(AdaptedAddressBook.class)
+                    .createUnmarshaller().unmarshal(file.toFile());
+
+            long singleThreadTime = 0;
+            for (int threads : THREAD_COUNTS) {
+                final ForkJoinPool pool = new ForkJoinPool(threads);
+                long bestTime = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    System.gc();
+                    final long start = System.nanoTime();
+                    final boolean isAnyRequiredFieldMissing =
+                            pool.submit(adapted::isAnyRequiredFieldMissing).get();
+                    if (isAnyRequiredFieldMissing) {
+                        throw new AssertionError("generated persons have all fields");
+                    }
+                    adapted.toModelType(pool);
+                    bestTime = Math.min(bestTime, System.nanoTime() - start);
+                }
+                pool.shutdown();
+                if (threads == 1) {
+                    singleThreadTime = bestTime;
+                }
+                System.out.printf("%10d %8d %16d %10.2f%n", size, threads, bestTime / 1_000_000,
+                        (double) singleThreadTime / bestTime);
+            }
+        }
+    }
+}
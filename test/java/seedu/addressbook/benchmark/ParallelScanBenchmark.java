@@ -0,0 +1,65 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Measures the throughput of scanning the address book with a predicate no index can answer, with
+ * {@link AddressBook#findPersons(Predicate)} running in pools of different sizes, against a plain sequential loop.
+ *
+ * Each measurement runs warm-up iterations first and reports the best of several measured iterations, in the
+ * manner of a JMH throughput benchmark with a single fork.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000000).
+ */
+public class ParallelScanBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+        System.out.printf("%10s %12s %10s %12s %16s%n", "persons", "scan", "matches", "ms", "M persons/s");
+        // case-insensitive substring of the address, which none of the name indexes can serve
+        final Predicate<ReadOnlyPerson> predicate =
+                person -> person.getAddress().value.toLowerCase(Locale.ROOT).contains("street 42,");
+        for (int size : BenchmarkData.getSizes(args, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+
+            final int matches = scanSequentially(addressBook, predicate).size();
+            report(size, "sequential", matches, BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                    () -> scanSequentially(addressBook, predicate).size()));
+            for (int threads : THREAD_COUNTS) {
+                final ForkJoinPool pool = new ForkJoinPool(threads);
+                addressBook.setScanPool(pool);
+                report(size, threads + " threads", matches, BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> addressBook.findPersons(predicate).size()));
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static List<ReadOnlyPerson> scanSequentially(AddressBook addressBook,
+                                                         Predicate<ReadOnlyPerson> predicate) {
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+
+    private static void report(int size, String scan, int matches, double bestMillis) {
+        System.out.printf("%10d %12s %10d %12.1f %16.1f%n", size, scan, matches, bestMillis,
+                size / (bestMillis * 1e3));
+    }
+}
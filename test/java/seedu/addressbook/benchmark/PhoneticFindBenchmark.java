@@ -0,0 +1,86 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.index.PhoneticIndex;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Compares the time of a {@code find -s} answered from the phonetic index of the address book with encoding every
+ * name word for each search, for keywords sounding like many and few persons' names, and measures the cost the
+ * index adds to building and changing the address book.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class PhoneticFindBenchmark {
+
+    private static final int CHANGES = 1000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %16s %10s %10s %12s%n", "persons", "keywords", "matches", "index ms", "encode ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final long heapBefore = usedHeap();
+            long start = System.nanoTime();
+            addressBook.findPersonsWithNameWordSoundingLikeAny(Collections.singleton("a"));
+            final long buildTime = System.nanoTime() - start;
+            final long indexHeap = usedHeap() - heapBefore;
+
+            for (Set<String> keywords : Arrays.asList(keywords("Smyth"), keywords("Jonson", "Mikael"),
+                    keywords("Quinton"), keywords("Fyona", "Hana", "Wong"))) {
+                final int matches = addressBook.findPersonsWithNameWordSoundingLikeAny(keywords).size();
+                final double indexTime = BenchmarkData.bestTimeMillis(
+                        () -> addressBook.findPersonsWithNameWordSoundingLikeAny(keywords));
+                final double encodeTime = BenchmarkData.bestTimeMillis(() -> encodeAll(addressBook, keywords));
+                System.out.printf("%10d %16s %10d %10.3f %12.3f%n", size, String.join(",", keywords), matches,
+                        indexTime, encodeTime);
+            }
+
+            start = System.nanoTime();
+            for (int i = 0; i < CHANGES; i++) {
+                final Person person = BenchmarkData.generatePerson(size + i);
+                addressBook.addPerson(person);
+                addressBook.removePerson(person);
+            }
+            final double changeTime = (System.nanoTime() - start) / 1e3 / CHANGES;
+            System.out.printf("%10d build %d ms, about %d MB, add and delete %.1f us%n", size,
+                    buildTime / 1_000_000, indexHeap >> 20, changeTime);
+        }
+    }
+
+    private static List<ReadOnlyPerson> encodeAll(AddressBook addressBook, Set<String> keywords) {
+        final Set<String> codes = new HashSet<>();
+        for (String keyword : keywords) {
+            codes.add(PhoneticIndex.encode(keyword));
+        }
+        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            for (String word : person.getName().getWordsInName()) {
+                if (codes.contains(PhoneticIndex.encode(word))) {
+                    matchedPersons.add(person);
+                    break;
+                }
+            }
+        }
+        return matchedPersons;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Set<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+}
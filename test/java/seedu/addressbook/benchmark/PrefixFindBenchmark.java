@@ -0,0 +1,92 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Compares the time of a {@code find -p} answered from the name trie of the address book with scanning every
+ * name word, for prefixes matching many, some and one person, and measures the cost the trie adds to building
+ * and changing the address book.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class PrefixFindBenchmark {
+
+    private static final int CHANGES = 1000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %10s %10s %10s %12s%n", "persons", "prefixes", "matches", "trie ms", "scan ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final long heapBefore = usedHeap();
+            long start = System.nanoTime();
+            addressBook.findPersonsWithNameWordStartingWithAny(Collections.singleton("a"));
+            final long buildTime = System.nanoTime() - start;
+            final long trieHeap = usedHeap() - heapBefore;
+
+            // the last word of a generated name is its seed in base 36
+            final String rarePrefix = Integer.toString(size / 2, 36);
+            for (Set<String> prefixes : Arrays.asList(prefixes("a"), prefixes("ali"), prefixes("zo", "TA"),
+                    prefixes(rarePrefix))) {
+                final int matches = addressBook.findPersonsWithNameWordStartingWithAny(prefixes).size();
+                final double trieTime = BenchmarkData.bestTimeMillis(
+                        () -> addressBook.findPersonsWithNameWordStartingWithAny(prefixes));
+                final double scanTime = BenchmarkData.bestTimeMillis(() -> scan(addressBook, prefixes));
+                System.out.printf("%10d %10s %10d %10.3f %12.3f%n", size, String.join(",", prefixes), matches,
+                        trieTime, scanTime);
+            }
+
+            start = System.nanoTime();
+            for (int i = 0; i < CHANGES; i++) {
+                final Person person = BenchmarkData.generatePerson(size + i);
+                addressBook.addPerson(person);
+                addressBook.removePerson(person);
+            }
+            final double changeTime = (System.nanoTime() - start) / 1e3 / CHANGES;
+            System.out.printf("%10d build %d ms, about %d MB, add and delete %.1f us%n", size,
+                    buildTime / 1_000_000, trieHeap >> 20, changeTime);
+        }
+    }
+
+    private static List<ReadOnlyPerson> scan(AddressBook addressBook, Set<String> prefixes) {
+        final List<String> foldedPrefixes = new ArrayList<>();
+        for (String prefix : prefixes) {
+            foldedPrefixes.add(prefix.toLowerCase(Locale.ROOT));
+        }
+        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            search:
+            for (String word : person.getName().getWordsInName()) {
+                final String folded = word.toLowerCase(Locale.ROOT);
+                for (String prefix : foldedPrefixes) {
+                    if (folded.startsWith(prefix)) {
+                        matchedPersons.add(person);
+                        break search;
+                    }
+                }
+            }
+        }
+        return matchedPersons;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Set<String> prefixes(String... prefixes) {
+        return new HashSet<>(Arrays.asList(prefixes));
+    }
+}
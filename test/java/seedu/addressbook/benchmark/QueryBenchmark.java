@@ -0,0 +1,64 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.commands.QueryCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.Query;
+import seedu.addressbook.parser.Parser;
+
+/**
+ * Compares the time of a {@code query} run as planned from the name trie and the tag index with testing every
+ * person against it, for queries of different shapes, and prints the plan of each query.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class QueryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            long start = System.nanoTime();
+            addressBook.planQuery(parse("tag:vip"));
+            System.out.printf("%d persons, indexes built in %d ms%n", size, (System.nanoTime() - start) / 1_000_000);
+            System.out.printf("%10s %12s %12s  %s%n", "matches", "planned ms", "brute ms", "query / plan");
+
+            // the last word of a generated name is its seed in base 36
+            final String rareWord = Integer.toString(size / 2, 36);
+            final String[] queries = {
+                "tag:vip AND name:alice",
+                "tag:vip tag:gym NOT tag:friends",
+                "name:wei AND name:tan",
+                "(name:alice OR name:bob) AND tag:client",
+                "name:zoe AND address:\"street 7\"",
+                "name:" + rareWord + " OR name:" + rareWord.substring(0, 2) + "*",
+                "tag:school OR tag:club",
+                "email:person12345",
+            };
+            for (String text : queries) {
+                final Query query = parse(text);
+                final int matches = addressBook.findPersonsMatching(query).size();
+                final double plannedTime = BenchmarkData.bestTimeMillis(() -> addressBook.findPersonsMatching(query));
+                final double bruteTime = BenchmarkData.bestTimeMillis(() -> bruteForce(addressBook, query));
+                System.out.printf("%10d %12.3f %12.3f  %s%n%36s%s%n", matches, plannedTime, bruteTime, text, "",
+                        addressBook.planQuery(query));
+            }
+        }
+    }
+
+    private static Query parse(String query) {
+        return ((QueryCommand) new Parser().parseCommand(QueryCommand.COMMAND_WORD + " " + query)).getQuery();
+    }
+
+    private static List<ReadOnlyPerson> bruteForce(AddressBook addressBook, Query query) {
+        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            if (query.test(person)) {
+                matchedPersons.add(person);
+            }
+        }
+        return matchedPersons;
+    }
+}
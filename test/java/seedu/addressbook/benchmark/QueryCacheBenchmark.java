@@ -0,0 +1,61 @@
+package seedu.addressbook.benchmark;
+
+import java.util.Collections;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.PersonCursor;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.logic.QueryCache;
+import seedu.addressbook.parser.Parser;
+
+/**
+ * Compares the time of parsing and executing repeated read-only queries, as {@code Logic} did before it cached
+ * their results, with parsing them and answering them from a {@link QueryCache}, as it does now.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class QueryCacheBenchmark {
+
+    private static final String[] QUERIES = {"list", "find Alice", "find Alice Tan Zoe", "find -p ali",
+        "find -f alise"};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final PersonCursor NOTHING_SHOWN = new PersonCursor(Collections.emptyList(),
+            PersonCursor.DEFAULT_PAGE_SIZE);
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %22s %14s %14s%n", "persons", "query", "executed us", "cached us");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final QueryCache cache = new QueryCache();
+            for (String query : QUERIES) {
+                final double executedTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> execute(addressBook, query).feedbackToUser.length());
+                final double cachedTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> executeWithCache(addressBook, cache, query).feedbackToUser.length());
+                System.out.printf("%10d %22s %14.1f %14.3f%n", size, query, executedTime * 1e3, cachedTime * 1e3);
+            }
+            System.out.printf("%10d cache hits %d, misses %d%n", size, cache.getHitCount(), cache.getMissCount());
+        }
+    }
+
+    private static CommandResult execute(AddressBook addressBook, String query) {
+        final Command command = new Parser().parseCommand(query);
+        command.setData(addressBook, NOTHING_SHOWN);
+        return command.execute();
+    }
+
+    private static CommandResult executeWithCache(AddressBook addressBook, QueryCache cache, String query) {
+        final Command command = new Parser().parseCommand(query);
+        final CommandResult cached = cache.get(command.getQueryKey(), addressBook);
+        if (cached != null) {
+            return cached;
+        }
+        command.setData(addressBook, NOTHING_SHOWN);
+        final CommandResult result = command.execute();
+        cache.put(command.getQueryKey(), addressBook, result);
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.addressbook.benchmark;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.index.NameMatchRanking;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.ui.Formatter;
+
+/**
+ * Compares the time of a {@code find -r} for the top 10 matches with ranking every match (as if the limit were the
+ * number of matches), and with formatting every match for display as an unranked {@code find -p} has to.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class RankedFindBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %12s %10s %12s %14s %16s%n", "persons", "keywords", "matches", "top 10 ms",
+                "rank all ms", "format all ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            for (Set<String> keywords : Arrays.asList(keywords("a"), keywords("ali", "tan"), keywords("zoe"))) {
+                final List<ReadOnlyPerson> matches = addressBook.findPersonsWithNameWordStartingWithAny(keywords);
+                final double topTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> addressBook.findTopPersonsMatchingName(keywords, LIMIT).size());
+                final double rankAllTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> NameMatchRanking.top(addressBook.findPersonsWithNameWordStartingWithAny(keywords),
+                                keywords, matches.size()).size());
+                final double formatAllTime = BenchmarkData.bestTimeMillis(WARMUP_RUNS, MEASURED_RUNS,
+                        () -> format(addressBook.findPersonsWithNameWordStartingWithAny(keywords)));
+                System.out.printf("%10d %12s %10d %12.3f %14.3f %16.3f%n", size, String.join(",", keywords),
+                        matches.size(), topTime, rankAllTime, formatAllTime);
+            }
+        }
+    }
+
+    /**
+     * Formats the persons the way the text UI displays a list of found persons.
+     */
+    private static int format(List<ReadOnlyPerson> persons) {
+        return new Formatter().format(persons).length()
+                + Command.getMessageForPersonListShownSummary(persons).length();
+    }
+
+    private static Set<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeLog;
+import seedu.addressbook.storage.ShardedStorageFile;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.StorageFile.Format;
+
+/**
+ * Compares the time to save one added person with sharded storage, which only rewrites the segment holding the
+ * added person, and with a binary storage file, which is rewritten in full.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class ShardedStorageBenchmark {
+
+    private static final int ADDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %10s %14s %18s %12s%n", "persons", "storage", "full save ms", "save one add ms",
+                "load ms");
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final Path folder = Files.createTempDirectory("sharded-storage-benchmark");
+
+            final StorageFile binary = new StorageFile(folder.resolve("binary.txt").toString());
+            binary.setFormat(Format.BINARY);
+            run(size, "binary", binary);
+            run(size, "sharded", new ShardedStorageFile(folder.resolve("sharded.txt").toString(),
+                    ShardedStorageFile.DEFAULT_SEGMENT_COUNT));
+        }
+    }
+
+    private static void run(int size, String name, StorageFile storage) throws Exception {
+        long start = System.nanoTime();
+        storage.save(BenchmarkData.generateAddressBook(size));
+        final long fullSaveTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        final AddressBook addressBook = storage.load();
+        final long loadTime = System.nanoTime() - start;
+        final AddressBookChangeLog changeLog = new AddressBookChangeLog();
+        addressBook.addListener(changeLog);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ADDS; i++) {
+            addressBook.addPerson(BenchmarkData.generatePerson(size + i));
+            storage.saveChanges(addressBook, changeLog.takeChanges());
+        }
+        final long addTime = (System.nanoTime() - start) / ADDS;
+
+        System.out.printf("%10d %10s %14d %18.1f %12d%n", size, name, fullSaveTime / 1_000_000, addTime / 1e6,
+                loadTime / 1_000_000);
+    }
+}
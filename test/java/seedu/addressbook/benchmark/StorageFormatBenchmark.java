@@ -0,0 +1,70 @@
+package seedu.addressbook.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.StorageFile.Format;
+
+/**
+ * Compares the file size and the load and save throughput of the XML storage format (with JAXB and with StAX)
+ * and the binary storage format.
+ *
+ * Arguments: address book sizes to benchmark (default: 10000 100000 1000000).
+ */
+public class StorageFormatBenchmark {
+
+    private static final int RUNS = 3;
+
+    private enum Variant {
+        JAXB(Format.XML, false),
+        STAX(Format.XML, true),
+        BINARY(Format.BINARY, false);
+
+        final Format format;
+        final boolean isStreaming;
+
+        Variant(Format format, boolean isStreaming) {
+            this.format = format;
+            this.isStreaming = isStreaming;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %8s %12s %10s %16s %10s %16s%n", "persons", "variant", "file bytes",
+                "save ms", "save persons/s", "load ms", "load persons/s");
+        for (int size : BenchmarkData.getSizes(args, 10_000, 100_000, 1_000_000)) {
+            final Path folder = Files.createTempDirectory("storage-format-benchmark");
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+
+            for (Variant variant : Variant.values()) {
+                final Path file = folder.resolve(variant + ".txt");
+                final StorageFile storage = new StorageFile(file.toString());
+                storage.setFormat(variant.format);
+                storage.setStreamingSaveEnabled(variant.isStreaming);
+                storage.setStreamingLoadEnabled(variant.isStreaming);
+
+                long bestSaveTime = Long.MAX_VALUE;
+                long bestLoadTime = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    storage.save(addressBook);
+                    bestSaveTime = Math.min(bestSaveTime, System.nanoTime() - start);
+
+                    System.gc();
+                    start = System.nanoTime();
+                    storage.load();
+                    bestLoadTime = Math.min(bestLoadTime, System.nanoTime() - start);
+                }
+                System.out.printf("%10d %8s %12d %10d %16d %10d %16d%n", size, variant, Files.size(file),
+                        bestSaveTime / 1_000_000, perSecond(size, bestSaveTime),
+                        bestLoadTime / 1_000_000, perSecond(size, bestLoadTime));
+            }
+        }
+    }
+
+    private static long perSecond(int count, long nanos) {
+        return count * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
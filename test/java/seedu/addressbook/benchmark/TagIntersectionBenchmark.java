@@ -0,0 +1,116 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.commands.QueryCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.Query;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.parser.Parser;
+
+/**
+ * Compares the time of multi-tag queries answered from the compressed bitmaps of the tag index with combining
+ * lists of the persons with each tag through hash sets, and measures the heap taken by the name and tag indexes.
+ *
+ * Arguments: address book sizes to benchmark (default: 100000 1000000).
+ */
+public class TagIntersectionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        for (int size : BenchmarkData.getSizes(args, 100_000, 1_000_000)) {
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+            final long heapBefore = usedHeap();
+            addressBook.planQuery(parse("tag:vip")); // builds the name trie and the tag index
+            final long indexHeap = usedHeap() - heapBefore;
+            System.out.printf("%d persons, name trie and tag index take %d MB%n", size, indexHeap >> 20);
+            System.out.printf("%10s %12s %12s  %s%n", "matches", "bitmap ms", "list ms", "query");
+
+            final Map<String, List<ReadOnlyPerson>> personsByTag = groupByTag(addressBook);
+            final String[][] tagQueries = {
+                {"AND", "vip", "gym"},
+                {"AND", "vip", "gym", "client"},
+                {"AND", "friends", "family", "colleagues", "school"},
+                {"OR", "vip", "gym", "client"},
+                {"NOT", "friends", "family"},
+            };
+            for (String[] tagQuery : tagQueries) {
+                final Query query = parse(toQuery(tagQuery));
+                final int matches = addressBook.findPersonsMatching(query).size();
+                final double bitmapTime = BenchmarkData.bestTimeMillis(() -> addressBook.findPersonsMatching(query));
+                final double listTime = BenchmarkData.bestTimeMillis(() -> combineLists(personsByTag, tagQuery));
+                System.out.printf("%10d %12.3f %12.3f  %s%n", matches, bitmapTime, listTime, query);
+            }
+        }
+    }
+
+    private static Query parse(String query) {
+        return ((QueryCommand) new Parser().parseCommand(QueryCommand.COMMAND_WORD + " " + query)).getQuery();
+    }
+
+    /**
+     * Returns the query for the tags: ANDed, ORed, or the first without the second (NOT).
+     */
+    private static String toQuery(String[] tagQuery) {
+        final StringBuilder query = new StringBuilder("tag:" + tagQuery[1]);
+        for (int i = 2; i < tagQuery.length; i++) {
+            query.append(tagQuery[0].equals("OR") ? " OR " : tagQuery[0].equals("NOT") ? " NOT " : " AND ")
+                    .append("tag:").append(tagQuery[i]);
+        }
+        return query.toString();
+    }
+
+    private static Map<String, List<ReadOnlyPerson>> groupByTag(AddressBook addressBook) {
+        final Map<String, List<ReadOnlyPerson>> personsByTag = new HashMap<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            for (Tag tag : person.getTags()) {
+                personsByTag.computeIfAbsent(tag.tagName, t -> new ArrayList<>()).add(person);
+            }
+        }
+        return personsByTag;
+    }
+
+    /**
+     * Combines the lists of the persons with each tag as the query does, through sets of the persons.
+     */
+    private static Set<ReadOnlyPerson> combineLists(Map<String, List<ReadOnlyPerson>> personsByTag,
+                                                    String[] tagQuery) {
+        final Set<ReadOnlyPerson> result = identitySet(personsByTag.get(tagQuery[1]));
+        for (int i = 2; i < tagQuery.length; i++) {
+            final List<ReadOnlyPerson> tagged = personsByTag.get(tagQuery[i]);
+            switch (tagQuery[0]) {
+            case "AND":
+                result.retainAll(identitySet(tagged));
+                break;
+            case "OR":
+                result.addAll(tagged);
+                break;
+            default:
+                result.removeAll(identitySet(tagged));
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static Set<ReadOnlyPerson> identitySet(List<ReadOnlyPerson> persons) {
+        final Set<ReadOnlyPerson> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 2));
+        set.addAll(persons);
+        return set;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
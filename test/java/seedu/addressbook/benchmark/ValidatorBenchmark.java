@@ -0,0 +1,93 @@
+package seedu.addressbook.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.addressbook.common.Validators;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Compares the time and heap allocation per call of validating person fields with {@link String#matches(String)},
+ * with a precompiled {@link Pattern}, and with {@link Validators}.
+ *
+ * Each measurement runs warm-up iterations first and reports the best of several measured iterations, in the
+ * manner of a JMH average-time benchmark with a single fork.
+ *
+ * Arguments: none.
+ */
+public class ValidatorBenchmark {
+
+    private static final int INPUTS = 10_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final int CALLS_PER_ITERATION = 2_000_000;
+
+    /** Consumed so that the validation calls cannot be optimised away. */
+    private static int sink;
+
+    public static void main(String[] args) {
+        final String[][] inputs = new String[5][INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            final Person person = BenchmarkData.generatePerson(i);
+            inputs[0][i] = person.getName().fullName;
+            inputs[1][i] = person.getPhone().value;
+            inputs[2][i] = person.getEmail().value;
+            inputs[3][i] = person.getAddress().value;
+            inputs[4][i] = person.getTags().iterator().next().tagName;
+        }
+        final String[] fields = {"name", "phone", "email", "address", "tag"};
+        final String[] regexes = {Name.NAME_VALIDATION_REGEX, Phone.PHONE_VALIDATION_REGEX,
+            Email.EMAIL_VALIDATION_REGEX, Address.ADDRESS_VALIDATION_REGEX, Tag.TAG_VALIDATION_REGEX};
+        final List<Predicate<String>> validators = Arrays.asList(Validators::isAlphanumericOrSpaces,
+                Validators::isDigits, Validators::isWordsAtWords, Validators::isSingleLine,
+                Validators::isAlphanumeric);
+
+        System.out.printf("%8s %16s %10s %10s%n", "field", "validator", "ns/call", "B/call");
+        for (int field = 0; field < fields.length; field++) {
+            final String regex = regexes[field];
+            final Pattern pattern = Pattern.compile(regex);
+            measure(fields[field], "String.matches", inputs[field], test -> test.matches(regex));
+            measure(fields[field], "Pattern", inputs[field], test -> pattern.matcher(test).matches());
+            measure(fields[field], "Validators", inputs[field], validators.get(field));
+        }
+        System.out.println("valid results: " + sink);
+    }
+
+    private static void measure(String field, String name, String[] inputs, Predicate<String> validator) {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++) {
+            run(inputs, validator);
+        }
+        double bestTime = Double.MAX_VALUE;
+        double bestAllocated = Double.MAX_VALUE;
+        for (int iteration = 0; iteration < MEASURED_ITERATIONS; iteration++) {
+            final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+            run(inputs, validator);
+            bestTime = Math.min(bestTime, (double) (System.nanoTime() - start) / CALLS_PER_ITERATION);
+            bestAllocated = Math.min(bestAllocated,
+                    (double) (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / CALLS_PER_ITERATION);
+        }
+        System.out.printf("%8s %16s %10.1f %10.1f%n", field, name, bestTime, bestAllocated);
+    }
+
+    private static void run(String[] inputs, Predicate<String> validator) {
+        int valid = 0;
+        for (int call = 0; call < CALLS_PER_ITERATION; call++) {
+            if (validator.test(inputs[call % inputs.length])) {
+                valid++;
+            }
+        }
+        sink += valid;
+    }
+}
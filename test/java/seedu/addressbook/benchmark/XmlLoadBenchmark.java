@@ -0,0 +1,67 @@
+package seedu.addressbook.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Compares the load time and peak heap usage of JAXB and streaming (StAX) loading of the XML storage file.
+ *
+ * Peak heap is the sum of the peak usage of the heap memory pools during the load, so it is only comparable
+ * between loads in the same JVM configuration. For stable numbers, run with {@code -XX:+UseSerialGC}.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000000).
+ */
+public class XmlLoadBenchmark {
+
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%10s %10s %14s %16s%n", "persons", "loader", "load time ms", "peak heap MB");
+        for (int size : BenchmarkData.getSizes(args, 1_000_000)) {
+            final Path file = Files.createTempDirectory("xml-load-benchmark").resolve("addressbook.txt");
+            new StorageFile(file.toString()).save(BenchmarkData.generateAddressBook(size));
+
+            for (boolean isStreaming : new boolean[] {false, true, false, true}) {
+                final StorageFile storage = new StorageFile(file.toString());
+                storage.setStreamingLoadEnabled(isStreaming);
+                long bestTime = Long.MAX_VALUE;
+                long bestPeak = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    System.gc();
+                    resetPeakHeapUsage();
+                    final long start = System.nanoTime();
+                    AddressBook loaded = storage.load();
+                    bestTime = Math.min(bestTime, System.nanoTime() - start);
+                    bestPeak = Math.min(bestPeak, getPeakHeapUsage());
+                    loaded = null;
+                }
+                System.out.printf("%10d %10s %14d %16d%n", size, isStreaming ? "StAX" : "JAXB",
+                        bestTime / 1_000_000, bestPeak / (1024 * 1024));
+            }
+        }
+    }
+
+    private static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
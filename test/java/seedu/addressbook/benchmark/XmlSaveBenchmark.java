@@ -0,0 +1,47 @@
+package seedu.addressbook.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Compares the save time and heap allocation of JAXB marshalling and streaming (StAX) writing of the XML
+ * storage file.
+ *
+ * Arguments: address book sizes to benchmark (default: 1000 10000 100000 1000000).
+ */
+public class XmlSaveBenchmark {
+
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        System.out.printf("%10s %10s %14s %20s%n", "persons", "writer", "save time ms", "allocated B/person");
+        for (int size : BenchmarkData.getSizes(args, 1_000, 10_000, 100_000, 1_000_000)) {
+            final Path folder = Files.createTempDirectory("xml-save-benchmark");
+            final AddressBook addressBook = BenchmarkData.generateAddressBook(size);
+
+            for (boolean isStreaming : new boolean[] {false, true, false, true}) {
+                final StorageFile storage = new StorageFile(folder.resolve("addressbook.txt").toString());
+                storage.setStreamingSaveEnabled(isStreaming);
+                long bestTime = Long.MAX_VALUE;
+                long bestAllocated = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+                    final long start = System.nanoTime();
+                    storage.save(addressBook);
+                    bestTime = Math.min(bestTime, System.nanoTime() - start);
+                    bestAllocated = Math.min(bestAllocated, threads.getThreadAllocatedBytes(threadId) - allocatedBefore);
+                }
+                System.out.printf("%10d %10s %14d %20d%n", size, isStreaming ? "StAX" : "JAXB",
+                        bestTime / 1_000_000, bestAllocated / size);
+            }
+        }
+    }
+}
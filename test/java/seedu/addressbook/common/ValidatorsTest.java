@@ -0,0 +1,98 @@
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Checks that each validator accepts exactly the strings its regex matches: every single character, every string
+ * of up to three characters from an alphabet of interesting characters, and many random longer strings.
+ */
+public class ValidatorsTest {
+
+    /** Characters on both sides of the boundaries of the validated character classes. */
+    private static final char[] ALPHABET = {
+        'a', 'z', 'A', 'Z', '0', '9', '_', '.', '@', ' ', '-', '#', '\t', '\n', '\r', '\u0085', '\u2028',
+        '\u2029', '\u00e9', '\u0661', '\uff10', '\ud83d', '\ude00', '/', '`', '{', '[', ':'
+    };
+    private static final int RANDOM_STRINGS = 200_000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+
+    @Test
+    public void isDigits_sameAsPhoneRegex() {
+        assertSameAsRegex(Phone.PHONE_VALIDATION_REGEX, Validators::isDigits);
+    }
+
+    @Test
+    public void isAlphanumericOrSpaces_sameAsNameRegex() {
+        assertSameAsRegex(Name.NAME_VALIDATION_REGEX, Validators::isAlphanumericOrSpaces);
+    }
+
+    @Test
+    public void isWordsAtWords_sameAsEmailRegex() {
+        assertSameAsRegex(Email.EMAIL_VALIDATION_REGEX, Validators::isWordsAtWords);
+    }
+
+    @Test
+    public void isSingleLine_sameAsAddressRegex() {
+        assertSameAsRegex(Address.ADDRESS_VALIDATION_REGEX, Validators::isSingleLine);
+    }
+
+    @Test
+    public void isAlphanumeric_sameAsTagRegex() {
+        assertSameAsRegex(Tag.TAG_VALIDATION_REGEX, Validators::isAlphanumeric);
+    }
+
+    private void assertSameAsRegex(String regex, Predicate<String> validator) {
+        Pattern pattern = Pattern.compile(regex);
+
+        assertSame(pattern, validator, "");
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            assertSame(pattern, validator, String.valueOf((char) c));
+        }
+        for (char first : ALPHABET) {
+            for (char second : ALPHABET) {
+                assertSame(pattern, validator, "" + first + second);
+                for (char third : ALPHABET) {
+                    assertSame(pattern, validator, "" + first + second + third);
+                }
+            }
+        }
+
+        Random random = new Random(regex.hashCode());
+        StringBuilder test = new StringBuilder();
+        for (int i = 0; i < RANDOM_STRINGS; i++) {
+            test.setLength(0);
+            int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+            // mostly characters the regex accepts, so that matching strings are common too
+            for (int j = 0; j < length; j++) {
+                test.append(random.nextInt(8) == 0
+                        ? ALPHABET[random.nextInt(ALPHABET.length)]
+                        : ALPHABET[random.nextInt(9)]);
+            }
+            assertSame(pattern, validator, test.toString());
+        }
+    }
+
+    private void assertSame(Pattern pattern, Predicate<String> validator, String test) {
+        assertEquals("for \"" + escape(test) + "\"", pattern.matcher(test).matches(), validator.test(test));
+    }
+
+    private static String escape(String test) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : test.toCharArray()) {
+            escaped.append(c >= ' ' && c <= '~' ? String.valueOf(c) : String.format("\\u%04x", (int) c));
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.index.NameBkTree.Distance;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+public class NameBkTreeTest {
+
+    private final UniquePersonList allPersons = new UniquePersonList();
+
+    @Test
+    public void distance_knownPairs() {
+        assertEquals(0, new Distance("alice").to("alice", Integer.MAX_VALUE));
+        assertEquals(1, new Distance("alice").to("alise", Integer.MAX_VALUE));
+        assertEquals(2, new Distance("betsy").to("besty", Integer.MAX_VALUE));
+        assertEquals(3, new Distance("kitten").to("sitting", Integer.MAX_VALUE));
+        assertEquals(5, new Distance("").to("alice", Integer.MAX_VALUE));
+        assertEquals(3, new Distance("abc").to("", Integer.MAX_VALUE));
+        assertEquals(3, new Distance("sitting").to("kitten", 3));
+    }
+
+    @Test
+    public void findPersonsWithWordWithinDistance_misspeltWords_matchedIgnoringCase() throws Exception {
+        NameBkTree tree = new NameBkTree(allPersons);
+        Person alice = createPerson("Alice Tan", 1);
+        Person bob = createPerson("Bob Lee", 2);
+        Person betsy = createPerson("Betsy Crowe", 3);
+        for (Person person : Arrays.asList(alice, bob, betsy)) {
+            add(tree, person);
+        }
+
+        assertEquals(Collections.singletonList(alice), tree.findPersonsWithWordWithinDistance(words("ALISE"), 1));
+        assertEquals(Collections.emptyList(), tree.findPersonsWithWordWithinDistance(words("besty"), 1));
+        assertEquals(Collections.singletonList(betsy), tree.findPersonsWithWordWithinDistance(words("besty"), 2));
+        assertEquals(Arrays.asList(alice, bob, betsy),
+                tree.findPersonsWithWordWithinDistance(words("Ten", "Lea", "Crow"), 1));
+    }
+
+    @Test
+    public void findPersonsWithWordWithinDistance_randomChanges_sameAsScan() throws Exception {
+        Random random = new Random(3);
+        NameBkTree tree = new NameBkTree(allPersons);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(createPerson(randomWord(random) + " " + randomWord(random), i));
+        }
+
+        List<Person> inTree = new ArrayList<>();
+        for (int step = 0; step < 6000; step++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            // mostly adds at first, then mostly removes, so that the tree is rebuilt along the way
+            int removeChance = step < 3000 ? 20 : 80;
+            if (inTree.contains(person) && random.nextInt(100) < removeChance) {
+                remove(tree, person);
+                inTree.remove(person);
+            } else if (!inTree.contains(person)) {
+                add(tree, person);
+                inTree.add(person);
+            }
+
+            if (step % 10 == 0) {
+                Collection<String> words = words(randomWord(random), randomWord(random));
+                int maxDistance = random.nextInt(4);
+                assertEquals(scan(inTree, words, maxDistance),
+                        tree.findPersonsWithWordWithinDistance(words, maxDistance));
+            }
+        }
+        tree.clear();
+        allPersons.clear();
+        assertEquals(Collections.emptyList(), tree.findPersonsWithWordWithinDistance(words("a"), 3));
+    }
+
+    private void add(PersonIndex index, Person person) throws Exception {
+        allPersons.add(person);
+        index.add(person);
+    }
+
+    private void remove(PersonIndex index, Person person) throws Exception {
+        index.remove(person);
+        allPersons.remove(person);
+    }
+
+    private static List<ReadOnlyPerson> scan(List<Person> persons, Collection<String> words, int maxDistance) {
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (hasWordWithinDistance(person, words, maxDistance)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasWordWithinDistance(Person person, Collection<String> words, int maxDistance) {
+        for (String nameWord : person.getName().getWordsInName()) {
+            for (String word : words) {
+                if (levenshtein(nameWord.toLowerCase(Locale.ROOT), word.toLowerCase(Locale.ROOT)) <= maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the edit distance with the full dynamic programming table.
+     */
+    private static int levenshtein(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                    distances[i][j] = Math.min(distances[i - 1][j - 1] + substitution,
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    /**
+     * Returns a random word of up to six letters from a small alphabet, so that many words are close to each other.
+     */
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append("abcAB".charAt(random.nextInt(5)));
+        }
+        return word.toString();
+    }
+
+    private static Collection<String> words(String... words) {
+        return new HashSet<>(Arrays.asList(words));
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false),
+                Collections.emptySet());
+    }
+}
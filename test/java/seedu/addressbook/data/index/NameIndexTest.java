@@ -0,0 +1,125 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+public class NameIndexTest {
+
+    private final UniquePersonList allPersons = new UniquePersonList();
+
+    private static final String[] WORDS = {"Alice", "alice", "Bob", "Tan", "Lee", "Wei", "Ng"};
+
+    @Test
+    public void findPersonsWithAnyWord_severalWords_mergedInOrderWithoutDuplicates() throws Exception {
+        NameIndex index = new NameIndex(allPersons);
+        Person aliceTan = createPerson("Alice Tan", 1);
+        Person bobLee = createPerson("Bob Lee", 2);
+        Person aliceLee = createPerson("Alice Lee", 3);
+        Person weiWei = createPerson("Wei Wei", 4);
+        for (Person person : Arrays.asList(aliceTan, bobLee, aliceLee, weiWei)) {
+            add(index, person);
+        }
+
+        assertEquals(Arrays.asList(aliceTan, bobLee, aliceLee), index.findPersonsWithAnyWord(words("Alice", "Lee")));
+        assertEquals(Arrays.asList(bobLee, aliceLee), index.findPersonsWithWord("Lee"));
+        assertEquals(Collections.singletonList(weiWei), index.findPersonsWithWord("Wei"));
+        assertEquals(Collections.emptyList(), index.findPersonsWithAnyWord(words("alice", "Ng")));
+    }
+
+    @Test
+    public void remove_equivalentPerson_removedFromAllPostings() throws Exception {
+        NameIndex index = new NameIndex(allPersons);
+        Person weiWei = createPerson("Wei Wei Tan", 4);
+        add(index, createPerson("Wei Tan", 1));
+        add(index, weiWei);
+
+        remove(index, createPerson("Wei Wei Tan", 4));
+
+        assertEquals(Collections.singletonList("Wei Tan"), names(index.findPersonsWithAnyWord(words("Wei", "Tan"))));
+    }
+
+    @Test
+    public void findPersonsWithNameContainingAnyWord_randomChanges_sameAsScan() throws Exception {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(createPerson(randomWord(random) + " " + randomWord(random) + " " + randomWord(random), i));
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = random.nextInt(100);
+            if (operation == 0) {
+                addressBook.clear();
+            } else if (addressBook.containsPerson(person) && operation < 40) {
+                addressBook.removePerson(person);
+            } else if (!addressBook.containsPerson(person)) {
+                addressBook.addPerson(person);
+            }
+
+            Collection<String> keywords = words(randomWord(random), randomWord(random));
+            assertEquals(scan(addressBook, keywords), addressBook.findPersonsWithNameContainingAnyWord(keywords));
+        }
+    }
+
+    private void add(PersonIndex index, Person person) throws Exception {
+        allPersons.add(person);
+        index.add(person);
+    }
+
+    private void remove(PersonIndex index, Person person) throws Exception {
+        index.remove(person);
+        allPersons.remove(person);
+    }
+
+    private static List<ReadOnlyPerson> scan(AddressBook addressBook, Collection<String> keywords) {
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            if (!Collections.disjoint(person.getName().getWordsInName(), keywords)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static Collection<String> words(String... words) {
+        return new HashSet<>(Arrays.asList(words));
+    }
+
+    private static List<String> names(List<ReadOnlyPerson> persons) {
+        List<String> names = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            names.add(person.getName().fullName);
+        }
+        return names;
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false),
+                Collections.emptySet());
+    }
+}
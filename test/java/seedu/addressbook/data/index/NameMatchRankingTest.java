@@ -0,0 +1,110 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+public class NameMatchRankingTest {
+
+    private static final String[] WORDS = {"Al", "Ali", "ALICE", "alicia", "Bo", "Bob", "bobby", "Tan", "Tang"};
+
+    @Test
+    public void top_rankedByMatchedThenExactThenLength() throws Exception {
+        Person johnSmith = createPerson("John Smith", 1);
+        Person johnnyDoherty = createPerson("Johnny Doherty", 2);
+        Person johnDoe = createPerson("John Doe", 3);
+        Person jo = createPerson("Jo", 4);
+        Person joDoe = createPerson("jo doe", 5);
+        Person mary = createPerson("Mary", 6);
+        List<Person> candidates = Arrays.asList(johnSmith, johnnyDoherty, johnDoe, jo, joDoe, mary);
+
+        assertEquals(Arrays.asList(johnDoe, johnnyDoherty, johnSmith),
+                NameMatchRanking.top(candidates, keywords("john", "DO"), 3));
+        assertEquals(Arrays.asList(jo, joDoe, johnDoe, johnSmith),
+                NameMatchRanking.top(candidates, keywords("jo"), 4));
+        assertEquals(Collections.emptyList(), NameMatchRanking.top(candidates, keywords("john"), 0));
+        assertEquals(Collections.emptyList(), NameMatchRanking.top(candidates, keywords("x"), 5));
+    }
+
+    @Test
+    public void top_randomCandidates_sameAsSortingAllMatches() throws Exception {
+        Random random = new Random(11);
+        List<Person> candidates = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            candidates.add(createPerson(randomWord(random) + " " + randomWord(random), i));
+        }
+
+        for (int run = 0; run < 200; run++) {
+            Collection<String> keywords = keywords(randomWord(random).substring(0, 2), randomWord(random));
+            int limit = 1 + random.nextInt(50);
+            assertEquals(topBySorting(candidates, keywords, limit), NameMatchRanking.top(candidates, keywords, limit));
+        }
+    }
+
+    /**
+     * Ranks the candidates by sorting all the matching ones, the order being worked out independently.
+     */
+    private static List<ReadOnlyPerson> topBySorting(List<Person> candidates, Collection<String> keywords,
+                                                     int limit) {
+        List<int[]> rankings = new ArrayList<>(); // matched, exactly matched, name length, position
+        for (int position = 0; position < candidates.size(); position++) {
+            List<String> words = new ArrayList<>();
+            for (String word : candidates.get(position).getName().getWordsInName()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+            int matched = 0;
+            int exactlyMatched = 0;
+            for (String keyword : keywords) {
+                String folded = keyword.toLowerCase(Locale.ROOT);
+                if (words.contains(folded)) {
+                    exactlyMatched++;
+                }
+                if (words.stream().anyMatch(word -> word.startsWith(folded))) {
+                    matched++;
+                }
+            }
+            if (matched > 0) {
+                rankings.add(new int[] {-matched, -exactlyMatched,
+                    candidates.get(position).getName().fullName.length(), position});
+            }
+        }
+        rankings.sort(Comparator.<int[]>comparingInt(ranking -> ranking[0]).thenComparingInt(ranking -> ranking[1])
+                .thenComparingInt(ranking -> ranking[2]).thenComparingInt(ranking -> ranking[3]));
+        List<ReadOnlyPerson> top = new ArrayList<>();
+        for (int[] ranking : rankings.subList(0, Math.min(limit, rankings.size()))) {
+            top.add(candidates.get(ranking[3]));
+        }
+        return top;
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static Collection<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false),
+                Collections.emptySet());
+    }
+}
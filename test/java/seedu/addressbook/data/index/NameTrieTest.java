@@ -0,0 +1,147 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+public class NameTrieTest {
+
+    private final UniquePersonList allPersons = new UniquePersonList();
+
+    private static final String[] WORDS = {"Ali", "alice", "ALISON", "Al", "Bob", "bobby", "Tan", "Tang", "T"};
+    private static final String[] PREFIXES = {"a", "AL", "ali", "alis", "alice", "alicex", "b", "BOBB", "t", "tan",
+        "z", ""};
+
+    @Test
+    public void findPersonsWithWordStartingWithAny_overlappingWords_eachPersonOnceInOrder() throws Exception {
+        NameTrie trie = new NameTrie(allPersons);
+        Person aliAlison = createPerson("Ali Alison", 1);
+        Person bob = createPerson("Bob", 2);
+        Person alice = createPerson("alice Tan", 3);
+        for (Person person : Arrays.asList(aliAlison, bob, alice)) {
+            add(trie, person);
+        }
+
+        assertEquals(Arrays.asList(aliAlison, alice), trie.findPersonsWithWordStartingWithAny(prefixes("aLi")));
+        assertEquals(Arrays.asList(aliAlison, bob, alice),
+                trie.findPersonsWithWordStartingWithAny(prefixes("a", "B", "alison")));
+        assertEquals(Collections.singletonList(aliAlison), trie.findPersonsWithWordStartingWithAny(prefixes("ALIS")));
+        assertEquals(Collections.emptyList(), trie.findPersonsWithWordStartingWithAny(prefixes("", "bobby")));
+    }
+
+    @Test
+    public void remove_lastPersonWithPrefix_prefixNoLongerMatches() throws Exception {
+        NameTrie trie = new NameTrie(allPersons);
+        add(trie, createPerson("Ali Alison", 1));
+        add(trie, createPerson("Alice", 2));
+
+        remove(trie, createPerson("Ali Alison", 1));
+
+        assertEquals(Collections.emptyList(), trie.findPersonsWithWordStartingWithAny(prefixes("alis")));
+        assertEquals(Collections.singletonList("Alice"), names(trie.findPersonsWithWordStartingWithAny(prefixes("al"))));
+    }
+
+    @Test
+    public void findPersonsWithWordStartingWithAny_randomChanges_sameAsScan() throws Exception {
+        Random random = new Random(7);
+        NameTrie trie = new NameTrie(allPersons);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(createPerson(randomWord(random) + " " + randomWord(random), i));
+        }
+
+        List<Person> inTrie = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = random.nextInt(100);
+            if (operation == 0) {
+                trie.clear();
+                allPersons.clear();
+                inTrie.clear();
+            } else if (inTrie.contains(person) && operation < 45) {
+                remove(trie, person);
+                inTrie.remove(person);
+            } else if (!inTrie.contains(person)) {
+                add(trie, person);
+                inTrie.add(person);
+            }
+
+            Collection<String> prefixes = prefixes(randomPrefix(random), randomPrefix(random));
+            assertEquals(scan(inTrie, prefixes), trie.findPersonsWithWordStartingWithAny(prefixes));
+        }
+    }
+
+    private void add(PersonIndex index, Person person) throws Exception {
+        allPersons.add(person);
+        index.add(person);
+    }
+
+    private void remove(PersonIndex index, Person person) throws Exception {
+        index.remove(person);
+        allPersons.remove(person);
+    }
+
+    private static List<ReadOnlyPerson> scan(List<Person> persons, Collection<String> prefixes) {
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (hasWordStartingWithAny(person, prefixes)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasWordStartingWithAny(Person person, Collection<String> prefixes) {
+        for (String word : person.getName().getWordsInName()) {
+            for (String prefix : prefixes) {
+                if (!prefix.isEmpty() && word.toLowerCase(Locale.ROOT).startsWith(prefix.toLowerCase(Locale.ROOT))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String randomPrefix(Random random) {
+        return PREFIXES[random.nextInt(PREFIXES.length)];
+    }
+
+    private static Collection<String> prefixes(String... prefixes) {
+        return new HashSet<>(Arrays.asList(prefixes));
+    }
+
+    private static List<String> names(List<ReadOnlyPerson> persons) {
+        List<String> names = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            names.add(person.getName().fullName);
+        }
+        return names;
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false),
+                Collections.emptySet());
+    }
+}
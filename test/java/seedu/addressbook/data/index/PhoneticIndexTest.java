@@ -0,0 +1,151 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+
+public class PhoneticIndexTest {
+
+    private final UniquePersonList allPersons = new UniquePersonList();
+
+    private static final String[] WORDS = {"Robert", "Rupert", "Rubin", "Smith", "Smyth", "Schmidt", "Lee", "Li",
+        "Leigh", "Tan", "Ng", "Wei", "Way", "42"};
+
+    @Test
+    public void encode_knownWords_americanSoundexCodes() {
+        assertEquals("R163", PhoneticIndex.encode("Robert"));
+        assertEquals("R163", PhoneticIndex.encode("rupert"));
+        assertEquals("R150", PhoneticIndex.encode("Rubin"));
+        assertEquals("A261", PhoneticIndex.encode("Ashcraft")); // H does not separate S and C
+        assertEquals("T522", PhoneticIndex.encode("Tymczak")); // vowels separate Z and K
+        assertEquals("P236", PhoneticIndex.encode("Pfister")); // F sounds like the first letter
+        assertEquals("H555", PhoneticIndex.encode("Honeyman"));
+        assertEquals("L000", PhoneticIndex.encode("Lee"));
+        assertEquals("T500", PhoneticIndex.encode("tan3"));
+        assertNull(PhoneticIndex.encode("42"));
+    }
+
+    @Test
+    public void findPersonsWithWordSoundingLikeAny_severalWords_mergedInOrderWithoutDuplicates() throws Exception {
+        PhoneticIndex index = new PhoneticIndex(allPersons);
+        Person robertTan = createPerson("Robert Tan", 1);
+        Person smythLee = createPerson("Smyth Lee", 2);
+        Person rupertRupert = createPerson("Rupert Rupert", 3);
+        Person weiNg = createPerson("Wei Ng", 4);
+        for (Person person : Arrays.asList(robertTan, smythLee, rupertRupert, weiNg)) {
+            add(index, person);
+        }
+
+        assertEquals(Arrays.asList(robertTan, rupertRupert),
+                index.findPersonsWithWordSoundingLikeAny(words("ROBBERT")));
+        assertEquals(Arrays.asList(robertTan, smythLee, rupertRupert),
+                index.findPersonsWithWordSoundingLikeAny(words("rupert", "smith", "Leigh")));
+        assertEquals(Collections.emptyList(), index.findPersonsWithWordSoundingLikeAny(words("Rubin", "42")));
+    }
+
+    @Test
+    public void remove_equivalentPerson_removedFromAllPostings() throws Exception {
+        PhoneticIndex index = new PhoneticIndex(allPersons);
+        add(index, createPerson("Smith Tan", 1));
+        add(index, createPerson("Smyth Smith Tan", 2));
+
+        remove(index, createPerson("Smyth Smith Tan", 2));
+
+        assertEquals(Collections.singletonList("Smith Tan"),
+                names(index.findPersonsWithWordSoundingLikeAny(words("Smith", "Tan"))));
+    }
+
+    @Test
+    public void findPersonsWithNameWordSoundingLikeAny_randomChanges_sameAsEncodingEveryName() throws Exception {
+        Random random = new Random(25);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(createPerson(randomWord(random) + " " + randomWord(random) + " " + randomWord(random), i));
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = random.nextInt(100);
+            if (operation == 0) {
+                addressBook.clear();
+            } else if (addressBook.containsPerson(person) && operation < 40) {
+                addressBook.removePerson(person);
+            } else if (!addressBook.containsPerson(person)) {
+                addressBook.addPerson(person);
+            }
+
+            Collection<String> keywords = words(randomWord(random).toLowerCase(), randomWord(random));
+            assertEquals(scan(addressBook, keywords), addressBook.findPersonsWithNameWordSoundingLikeAny(keywords));
+        }
+    }
+
+    private void add(PersonIndex index, Person person) throws Exception {
+        allPersons.add(person);
+        index.add(person);
+    }
+
+    private void remove(PersonIndex index, Person person) throws Exception {
+        index.remove(person);
+        allPersons.remove(person);
+    }
+
+    private static List<ReadOnlyPerson> scan(AddressBook addressBook, Collection<String> keywords) {
+        Set<String> codes = new HashSet<>();
+        for (String keyword : keywords) {
+            codes.add(PhoneticIndex.encode(keyword));
+        }
+        codes.remove(null);
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (ReadOnlyPerson person : addressBook.getAllPersonsView()) {
+            for (String word : person.getName().getWordsInName()) {
+                if (codes.contains(PhoneticIndex.encode(word))) {
+                    matches.add(person);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static Collection<String> words(String... words) {
+        return new HashSet<>(Arrays.asList(words));
+    }
+
+    private static List<String> names(List<ReadOnlyPerson> persons) {
+        List<String> names = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            names.add(person.getName().fullName);
+        }
+        return names;
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false),
+                Collections.emptySet());
+    }
+}
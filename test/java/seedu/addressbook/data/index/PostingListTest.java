@@ -0,0 +1,126 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class PostingListTest {
+
+    @Test
+    public void addAndRemove_acrossArrayAndBitmapChunks_sameAsSortedSet() {
+        Random random = new Random(24);
+        PostingList postings = new PostingList();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // dense enough for chunks to turn into bitmaps, then sparse enough for them to turn back into arrays
+        for (int step = 0; step < 60000; step++) {
+            int ordinal = random.nextInt(2 * 65536);
+            if (step < 30000 || random.nextInt(4) == 0) {
+                postings.add(ordinal);
+                expected.add(ordinal);
+            } else {
+                assertEquals(expected.remove(ordinal), postings.remove(ordinal));
+            }
+        }
+        assertSame(expected, postings);
+        for (int ordinal : new ArrayList<>(expected)) {
+            assertEquals(true, postings.remove(ordinal));
+        }
+        assertEquals(true, postings.isEmpty());
+        assertEquals(false, postings.remove(7));
+    }
+
+    @Test
+    public void setOperations_randomLists_sameAsSortedSets() {
+        Random random = new Random(42);
+        for (int round = 0; round < 40; round++) {
+            TreeSet<Integer> first = randomSet(random);
+            TreeSet<Integer> second = randomSet(random);
+            TreeSet<Integer> third = randomSet(random);
+            PostingList firstPostings = toPostings(first);
+            PostingList secondPostings = toPostings(second);
+            PostingList thirdPostings = toPostings(third);
+
+            TreeSet<Integer> and = new TreeSet<>(first);
+            and.retainAll(second);
+            assertSame(and, PostingList.intersection(firstPostings, secondPostings));
+
+            TreeSet<Integer> andNot = new TreeSet<>(first);
+            andNot.removeAll(second);
+            assertSame(andNot, PostingList.difference(firstPostings, secondPostings));
+
+            TreeSet<Integer> or = new TreeSet<>(first);
+            or.addAll(second);
+            or.addAll(third);
+            assertSame(or, PostingList.union(Arrays.asList(firstPostings, secondPostings, thirdPostings)));
+
+            // the operands are not changed by the operations
+            assertSame(first, firstPostings);
+            assertSame(second, secondPostings);
+        }
+    }
+
+    @Test
+    public void renumber_compactedOrdinals_keepsOrder() {
+        PostingList postings = toPostings(new TreeSet<>(Arrays.asList(3, 70000, 70001, 200000)));
+        int[] newOrdinals = new int[200001];
+        Arrays.fill(newOrdinals, -1);
+        newOrdinals[3] = 0;
+        newOrdinals[70000] = 1;
+        newOrdinals[70001] = 2;
+        newOrdinals[200000] = 65536;
+
+        postings.renumber(newOrdinals);
+        assertSame(new TreeSet<>(Arrays.asList(0, 1, 2, 65536)), postings);
+    }
+
+    @Test
+    public void renumber_ordinalsOfRemovedPersons_dropped() {
+        PostingList postings = toPostings(new TreeSet<>(Arrays.asList(3, 5, 70000)));
+        int[] newOrdinals = new int[70001];
+        Arrays.fill(newOrdinals, -1);
+        newOrdinals[5] = 0;
+
+        postings.renumber(newOrdinals);
+        assertSame(new TreeSet<>(Collections.singletonList(0)), postings);
+    }
+
+    /**
+     * Returns a set of ordinals whose chunks range from empty to full, so that every pair of chunk kinds meets.
+     */
+    private static TreeSet<Integer> randomSet(Random random) {
+        TreeSet<Integer> ordinals = new TreeSet<>();
+        for (int chunk = 0; chunk < 4; chunk++) {
+            int[] densities = {0, 10, 3000, 6000, 40000};
+            int count = densities[random.nextInt(densities.length)];
+            for (int i = 0; i < count; i++) {
+                ordinals.add(chunk * 65536 + random.nextInt(65536));
+            }
+        }
+        return ordinals;
+    }
+
+    private static PostingList toPostings(TreeSet<Integer> ordinals) {
+        PostingList postings = new PostingList();
+        for (int ordinal : ordinals) {
+            postings.add(ordinal);
+        }
+        return postings;
+    }
+
+    private static void assertSame(TreeSet<Integer> expected, PostingList actual) {
+        List<Integer> ordinals = new ArrayList<>();
+        actual.forEach(ordinals::add);
+        assertEquals(new ArrayList<>(expected), ordinals);
+        assertEquals(expected.size(), actual.size());
+        for (int probe : new int[] {0, 3, 65535, 65536, 131071, 200000}) {
+            assertEquals(expected.contains(probe), actual.contains(probe));
+        }
+    }
+}
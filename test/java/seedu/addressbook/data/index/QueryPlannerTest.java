@@ -0,0 +1,192 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.AndQuery;
+import seedu.addressbook.data.query.FieldQuery;
+import seedu.addressbook.data.query.FieldQuery.Field;
+import seedu.addressbook.data.query.NotQuery;
+import seedu.addressbook.data.query.OrQuery;
+import seedu.addressbook.data.query.Query;
+import seedu.addressbook.data.tag.Tag;
+
+public class QueryPlannerTest {
+
+    private static final String[] WORDS = {"Ali", "alice", "Bob", "Tan", "tang", "Lee", "Wei"};
+    private static final String[] TAGS = {"friends", "Friends", "colleagues", "family", "vip"};
+    private static final String[] DOMAINS = {"example.com", "gmail.com", "u.nus.edu"};
+    private static final String[] STREETS = {"Clementi Ave 3", "Jurong West St 61", "Bedok North Rd"};
+    private static final String[] EMAIL_VALUES = {"gmail", "EXAMPLE.com", "p1", "nus"};
+    private static final String[] ADDRESS_VALUES = {"clementi", "west", "ave 3", "rd"};
+
+    @Test
+    public void planQuery_andWithIndexedOperands_startsFromSmallestPostingList() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 6; i++) {
+            addressBook.addPerson(createPerson(i == 1 || i == 4 ? "Ali Tan" : "Bob Lee", i,
+                    i == 4 ? "p4@gmail.com" : "p" + i + "@example.com", false, tags("friends")));
+        }
+        addressBook.addPerson(createPerson("Ali Wei", 6, "p6@gmail.com", false, tags("blocked")));
+        Query query = new AndQuery(Arrays.asList(field(Field.TAG, "Friends"), field(Field.NAME, "ali"),
+                new NotQuery(field(Field.TAG, "blocked")), field(Field.EMAIL, "gmail")));
+
+        assertEquals("intersect[lookup name:ali (3), lookup tag:friends (6)] minus[lookup tag:blocked (1)]"
+                + " filter[email:gmail]", addressBook.planQuery(query).toString());
+        assertEquals(Collections.singletonList("Ali Tan"), names(addressBook.findPersonsMatching(query)));
+    }
+
+    @Test
+    public void planQuery_orWithUnindexedOperand_scansOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(createPerson("Ali Tan", 1, "p1@gmail.com", false, tags()));
+        addressBook.addPerson(createPerson("Bob Lee", 2, "p2@gmail.com", true, tags()));
+        addressBook.addPerson(createPerson("Wei Lee", 3, "p3@example.com", false, tags()));
+        Query query = new OrQuery(Arrays.asList(field(Field.NAME, "ALI"), field(Field.EMAIL, "gmail")));
+
+        assertEquals("scan (name:ali OR email:gmail)", addressBook.planQuery(query).toString());
+        // private fields do not match
+        assertEquals(Collections.singletonList("Ali Tan"), names(addressBook.findPersonsMatching(query)));
+    }
+
+    @Test
+    public void findPersonsMatching_afterRemovalsCompactOrdinals_sameAsBruteForce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            persons.add(createPerson(i % 2 == 0 ? "Ali Tan" : "Bob Tan", i, "p" + i + "@gmail.com", false,
+                    tags(i % 3 == 0 ? "vip" : "friends")));
+            addressBook.addPerson(persons.get(i));
+        }
+        Query query = new AndQuery(Arrays.asList(field(Field.NAME, "tan"), new NotQuery(field(Field.TAG, "vip"))));
+        addressBook.planQuery(query); // builds the indexes
+
+        for (int i = 0; i < 6; i++) { // the ordinals are compacted once most belong to removed persons
+            addressBook.removePerson(persons.get(i));
+            assertEquals(bruteForce(addressBook, query), addressBook.findPersonsMatching(query));
+        }
+        addressBook.addPerson(persons.get(5));
+        assertEquals(Arrays.asList(persons.get(7), persons.get(5)), addressBook.findPersonsMatching(query));
+    }
+
+    @Test
+    public void findPersonsMatching_randomQueriesAndChanges_sameAsBruteForce() throws Exception {
+        Random random = new Random(21);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int t = random.nextInt(3); t > 0; t--) {
+                tags.add(new Tag(randomOf(random, TAGS)));
+            }
+            persons.add(createPerson(randomOf(random, WORDS) + " " + randomOf(random, WORDS), i,
+                    "p" + i + "@" + randomOf(random, DOMAINS), random.nextInt(5) == 0, tags));
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = random.nextInt(100);
+            if (operation == 0) {
+                addressBook.clear();
+            } else if (addressBook.containsPerson(person) && operation < 35) {
+                addressBook.removePerson(person);
+            } else if (!addressBook.containsPerson(person)) {
+                addressBook.addPerson(person);
+            }
+
+            Query query = randomQuery(random, 3);
+            assertEquals(query.toString(), bruteForce(addressBook, query), addressBook.findPersonsMatching(query));
+        }
+    }
+
+    private static List<ReadOnlyPerson> bruteForce(AddressBook addressBook, Query query) {
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (Person person : addressBook.getAllPersons()) {
+            if (query.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static Query randomQuery(Random random, int depth) {
+        int kind = depth == 0 ? 0 : random.nextInt(5);
+        switch (kind) {
+        case 1:
+        case 2:
+            List<Query> operands = new ArrayList<>();
+            for (int i = 2 + random.nextInt(2); i > 0; i--) {
+                operands.add(randomQuery(random, depth - 1));
+            }
+            return kind == 1 ? new AndQuery(operands) : new OrQuery(operands);
+        case 3:
+            return new NotQuery(randomQuery(random, depth - 1));
+        default:
+            return randomFieldQuery(random);
+        }
+    }
+
+    private static Query randomFieldQuery(Random random) {
+        switch (random.nextInt(6)) {
+        case 0:
+            return field(Field.NAME, randomOf(random, WORDS).toUpperCase());
+        case 1:
+            String word = randomOf(random, WORDS);
+            return new FieldQuery(Field.NAME, word.substring(0, 1 + random.nextInt(word.length())), true);
+        case 2:
+            return field(Field.TAG, randomOf(random, TAGS));
+        case 3:
+            return field(Field.EMAIL, randomOf(random, EMAIL_VALUES));
+        case 4:
+            return field(Field.PHONE, String.valueOf(random.nextInt(30)));
+        default:
+            return field(Field.ADDRESS, randomOf(random, ADDRESS_VALUES));
+        }
+    }
+
+    private static String randomOf(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static FieldQuery field(Field field, String value) {
+        return new FieldQuery(field, value, false);
+    }
+
+    private static Set<Tag> tags(String... tagNames) throws Exception {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    private static List<String> names(List<ReadOnlyPerson> persons) {
+        List<String> names = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            names.add(person.getName().fullName);
+        }
+        return names;
+    }
+
+    private static Person createPerson(String name, int number, String email, boolean isPrivate, Set<Tag> tags)
+            throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), isPrivate),
+                new Email(email, isPrivate), new Address(STREETS[number % STREETS.length], isPrivate), tags);
+    }
+}
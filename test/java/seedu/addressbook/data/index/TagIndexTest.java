@@ -0,0 +1,75 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+
+public class TagIndexTest {
+
+    private final UniquePersonList allPersons = new UniquePersonList();
+
+    @Test
+    public void remove_retaggedPerson_removedFromPostingsOfIndexedTags() throws Exception {
+        TagIndex index = new TagIndex(allPersons);
+        Person retagged = createPerson(1, "friends", "Friends");
+        Person other = createPerson(2, "friends");
+        add(index, retagged);
+        add(index, other);
+
+        retagged.setTags(new HashSet<>(Collections.singletonList(new Tag("colleagues"))));
+        remove(index, retagged);
+
+        assertEquals(Collections.singletonList(other), index.getPostingsForTag("friends").persons(allPersons));
+        assertEquals(Collections.emptyList(), index.getPostingsForTag("colleagues").persons(allPersons));
+    }
+
+    @Test
+    public void renumber_afterRetaggedPersonsRemoved_remainingPersonsFound() throws Exception {
+        TagIndex index = new TagIndex(allPersons);
+        Person[] persons = new Person[6];
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = createPerson(i, "friends");
+            add(index, persons[i]);
+        }
+        for (int i = 0; i < 4; i++) {
+            persons[i].setTags(new HashSet<>(Collections.singletonList(new Tag("colleagues"))));
+            remove(index, persons[i]);
+        }
+        index.renumber(allPersons.compactOrdinals());
+
+        assertEquals(Arrays.asList(persons[4], persons[5]), index.getPostingsForTag("friends").persons(allPersons));
+        remove(index, persons[4]);
+        assertEquals(Collections.singletonList(persons[5]), index.getPostingsForTag("friends").persons(allPersons));
+    }
+
+    private void add(PersonIndex index, Person person) throws Exception {
+        allPersons.add(person);
+        index.add(person);
+    }
+
+    private void remove(PersonIndex index, Person person) throws Exception {
+        index.remove(person);
+        allPersons.remove(person);
+    }
+
+    private static Person createPerson(int number, String... tagNames) throws Exception {
+        HashSet<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return new Person(new Name("Person " + number), new Phone(String.valueOf(number), false),
+                new Email("p" + number + "@example.com", false), new Address("Street " + number, false), tags);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.tag.Tag;
+
+public class PersonKeyTest {
+
+    @Test
+    public void equals_sameDetailsDifferentTags_equal() throws Exception {
+        Person untagged = generatePerson("John Doe", Collections.emptySet());
+        Person tagged = generatePerson("John Doe", tags("friend", "colleague"));
+
+        assertTrue(untagged.isSameStateAs(tagged));
+        assertEquals(untagged.getKey(), tagged.getKey());
+        assertEquals(untagged.getKey().hashCode(), tagged.getKey().hashCode());
+        assertEquals(untagged.hashCode(), tagged.hashCode());
+    }
+
+    @Test
+    public void equals_differentDetails_notEqual() throws Exception {
+        Person john = generatePerson("John Doe", Collections.emptySet());
+        Person jane = generatePerson("Jane Doe", Collections.emptySet());
+        Person privateJohn = new Person(john.getName(),
+                                        new Phone(john.getPhone().value, true),
+                                        john.getEmail(),
+                                        john.getAddress(),
+                                        Collections.emptySet());
+
+        assertNotEquals(john.getKey(), jane.getKey());
+        assertFalse(john.getKey().equals(null));
+        // privacy is not part of a detail's state, so it is not part of the identity either
+        assertEquals(john.getKey(), privateJohn.getKey());
+    }
+
+    @Test
+    public void getKey_readOnlyPerson_matchesPersonKey() throws Exception {
+        Person person = generatePerson("John Doe", tags("friend"));
+        ReadOnlyPerson readOnly = readOnlyViewOf(person);
+
+        assertEquals(person.getKey(), readOnly.getKey());
+        assertEquals(new PersonKey(readOnly), person.getKey());
+    }
+
+    @Test
+    public void hashCollections_personRetagged_lookupsStillSucceed() throws Exception {
+        Person person = generatePerson("John Doe", tags("friend"));
+        Set<Person> personSet = new HashSet<>(Collections.singleton(person));
+        Map<Person, String> personMap = new HashMap<>(Collections.singletonMap(person, "value"));
+        Map<PersonKey, Person> keyMap = new HashMap<>(Collections.singletonMap(person.getKey(), person));
+
+        person.setTags(tags("enemy", "neighbour"));
+
+        assertTrue(personSet.contains(person));
+        assertEquals("value", personMap.get(person));
+        assertSame(person, keyMap.get(person.getKey()));
+
+        // lookups with an equivalent person that carries different tags also succeed
+        Person equivalent = generatePerson("John Doe", Collections.emptySet());
+        assertTrue(personSet.contains(equivalent));
+        assertEquals("value", personMap.get(equivalent));
+        assertSame(person, keyMap.get(equivalent.getKey()));
+    }
+
+    @Test
+    public void uniquePersonList_personRetagged_containsAndRemoveSucceed() throws Exception {
+        Person person = generatePerson("John Doe", tags("friend"));
+        UniquePersonList list = new UniquePersonList(person);
+
+        person.setTags(Collections.emptySet());
+
+        assertTrue(list.contains(person));
+        assertTrue(list.contains(readOnlyViewOf(person)));
+        list.remove(generatePerson("John Doe", tags("other")));
+        assertFalse(list.contains(person));
+    }
+
+    private Person generatePerson(String name, Set<Tag> tags) throws Exception {
+        return new Person(new Name(name),
+                          new Phone("98765432", false),
+                          new Email("johnd@gmail.com", false),
+                          new Address("John street, block 123, #01-01", false),
+                          tags);
+    }
+
+    private Set<Tag> tags(String... tagNames) throws Exception {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : Arrays.asList(tagNames)) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a {@code ReadOnlyPerson} that is not a {@code Person}, so that it uses the default key.
+     */
+    private ReadOnlyPerson readOnlyViewOf(Person person) {
+        return new ReadOnlyPerson() {
+            @Override
+            public Name getName() {
+                return person.getName();
+            }
+
+            @Override
+            public Phone getPhone() {
+                return person.getPhone();
+            }
+
+            @Override
+            public Email getEmail() {
+                return person.getEmail();
+            }
+
+            @Override
+            public Address getAddress() {
+                return person.getAddress();
+            }
+
+            @Override
+            public Set<Tag> getTags() {
+                return person.getTags();
+            }
+        };
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+
+public class UniquePersonListTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void add_equalButDifferentInstance_rejectedAsDuplicate() throws Exception {
+        UniquePersonList persons = generatePersons(100);
+        Person copy = new Person(persons.immutableListView().get(42));
+        assertNotSame(persons.immutableListView().get(42), copy);
+
+        assertEquals(true, persons.contains(copy));
+        try {
+            persons.add(copy);
+            fail("an equal person was added");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(100, persons.size());
+        }
+
+        // a copy of the list detects duplicates too, through an identity index of its own
+        UniquePersonList listCopy = new UniquePersonList(persons);
+        try {
+            listCopy.add(copy);
+            fail("an equal person was added to the copy");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(100, listCopy.size());
+        }
+    }
+
+    @Test
+    public void remove_equalButDifferentInstance_listedPersonRemoved() throws Exception {
+        UniquePersonList persons = generatePersons(5);
+        Person listed = new Person(persons.immutableListView().get(2));
+
+        persons.remove(new Person(listed));
+        assertEquals(false, persons.contains(listed));
+        assertEquals(4, persons.size());
+        try {
+            persons.remove(new Person(listed));
+            fail("a person was removed twice");
+        } catch (PersonNotFoundException pnfe) {
+            assertEquals(4, persons.size());
+        }
+
+        // it can be added again, after the others
+        persons.add(listed);
+        assertEquals(listed, persons.immutableListView().get(4));
+    }
+
+    @Test
+    public void iteration_randomAddsAndRemovals_insertionOrderKept() throws Exception {
+        Random random = new Random(1);
+        List<Person> candidates = new ArrayList<>();
+        generatePersons(200).forEach(candidates::add);
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> expected = new ArrayList<>();
+
+        for (int step = 0; step < 3000; step++) {
+            Person person = candidates.get(random.nextInt(candidates.size()));
+            if (expected.contains(person)) {
+                persons.remove(new Person(person));
+                expected.remove(person);
+            } else {
+                persons.add(person);
+                expected.add(person);
+            }
+            if (step % 7 == 0) {
+                List<Person> iterated = new ArrayList<>();
+                persons.forEach(iterated::add);
+                assertEquals(expected, iterated);
+                assertEquals(expected, persons.immutableListView());
+                assertEquals(expected.size(), persons.size());
+                assertEquals(new UniquePersonList(expected), persons);
+                assertEquals(expected, new ArrayList<>(new UniquePersonList(persons).immutableListView()));
+            }
+        }
+    }
+
+    @Test
+    public void iterator_personRemovedWhileIterating_concurrentModificationDetected() throws Exception {
+        UniquePersonList persons = generatePersons(10);
+        Iterator<Person> iterator = persons.iterator();
+        iterator.next();
+        persons.remove(persons.immutableListView().get(5));
+        try {
+            iterator.next();
+            fail("a removal while iterating was not detected");
+        } catch (ConcurrentModificationException cme) {
+            // expected
+        }
+
+        Iterator<ReadOnlyPerson> viewIterator = persons.immutableListView().iterator();
+        viewIterator.next();
+        persons.remove(persons.immutableListView().get(6));
+        try {
+            viewIterator.next();
+            fail("a removal while iterating the view was not detected");
+        } catch (ConcurrentModificationException cme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void filter_largeList_sameMatchesInOrderAsSequentialScan() throws Exception {
+        UniquePersonList persons = generatePersons(UniquePersonList.MIN_PARALLEL_FILTER_SIZE * 5 + 17);
+
+        assertFilterSameAsScan(persons, person -> person.getPhone().value.endsWith("7"));
+        assertFilterSameAsScan(persons, person -> person.getName().fullName.contains("1234"));
+        assertFilterSameAsScan(persons, person -> true);
+        assertFilterSameAsScan(persons, person -> false);
+    }
+
+    @Test
+    public void filter_smallListOrSingleThread_sameMatchesInOrderAsSequentialScan() throws Exception {
+        UniquePersonList persons = generatePersons(100);
+
+        assertFilterSameAsScan(persons, person -> person.getPhone().value.endsWith("7"));
+        UniquePersonList largePersons = generatePersons(20000);
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            assertEquals(filterByScan(largePersons, person -> person.getPhone().value.endsWith("7")),
+                    largePersons.filter(person -> person.getPhone().value.endsWith("7"), singleThreadPool));
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+
+    @Test
+    public void ordinals_addRemoveAndCompact_increaseInListOrder() throws Exception {
+        UniquePersonList persons = generatePersons(4);
+        Person second = persons.getByOrdinal(1);
+        Person third = persons.getByOrdinal(2);
+        assertEquals(1, persons.getOrdinal(second));
+
+        persons.remove(persons.getByOrdinal(0));
+        persons.remove(second);
+        assertEquals(-1, persons.getOrdinal(second));
+        assertEquals(null, persons.getByOrdinal(1));
+        assertEquals(4, persons.getOrdinalBound());
+        assertEquals(false, persons.hasSparseOrdinals());
+
+        persons.remove(persons.getByOrdinal(3));
+        assertEquals(true, persons.hasSparseOrdinals());
+        assertEquals(Arrays.asList(-1, -1, 0, -1), toList(persons.compactOrdinals()));
+        assertEquals(0, persons.getOrdinal(third));
+        assertEquals(third, persons.getByOrdinal(0));
+        assertEquals(1, persons.getOrdinalBound());
+
+        // ordinals of removed persons are not given out again
+        UniquePersonList copy = new UniquePersonList(generatePersons(3));
+        copy.remove(copy.getByOrdinal(2));
+        Person added = generatePersons(4).getByOrdinal(3);
+        copy.add(added);
+        assertEquals(3, copy.getOrdinal(added));
+    }
+
+    private static void assertFilterSameAsScan(UniquePersonList persons, Predicate<ReadOnlyPerson> predicate) {
+        assertEquals(filterByScan(persons, predicate), persons.filter(predicate, POOL));
+    }
+
+    private static List<ReadOnlyPerson> filterByScan(UniquePersonList persons, Predicate<ReadOnlyPerson> predicate) {
+        List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static UniquePersonList generatePersons(int size) throws Exception {
+        UniquePersonList persons = new UniquePersonList();
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(i), false),
+                    new Email("p" + i + "@example.com", false), new Address("Street " + i, false),
+                    Collections.emptySet()));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.addressbook.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.storage.StorageFile;
+
+public class IncrementalSearchTest {
+
+    /** Long enough for a test to make several updates within it. */
+    private static final long DEBOUNCE_MILLIS = 100;
+    private static final long RESULT_TIMEOUT_MILLIS = 5000;
+    private static final long NO_RESULT_WAIT_MILLIS = 300;
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private AddressBook addressBook;
+    private Person adam;
+    private final BlockingQueue<CommandResult> results = new LinkedBlockingQueue<>();
+    private IncrementalSearch incrementalSearch;
+
+    @Before
+    public void setup() throws Exception {
+        StorageFile saveFile = new StorageFile(saveFolder.newFile("testSaveFile.txt").getPath());
+        addressBook = new AddressBook();
+        adam = createPerson("Adam Brown", 1);
+        addressBook.addPerson(adam);
+        addressBook.addPerson(createPerson("Adele Tan", 2));
+        incrementalSearch = new IncrementalSearch(new Logic(saveFile, addressBook), DEBOUNCE_MILLIS, Runnable::run,
+                results::add);
+    }
+
+    @After
+    public void tearDown() {
+        incrementalSearch.shutdown();
+    }
+
+    @Test
+    public void update_quickChanges_onlyLatestResultDelivered() throws Exception {
+        incrementalSearch.update("find A");
+        incrementalSearch.update("find Ad");
+        incrementalSearch.update("find Adam");
+
+        CommandResult result = results.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertEquals(Collections.singletonList(adam), result.getRelevantPersons().get());
+        assertNull(results.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void update_notQuery_noResultDelivered() throws Exception {
+        incrementalSearch.update("delete 1");
+        incrementalSearch.update("find");
+
+        assertNull(results.poll(DEBOUNCE_MILLIS + NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(2, addressBook.getAllPersonsView().size());
+    }
+
+    @Test
+    public void cancel_beforeSearch_noResultDelivered() throws Exception {
+        incrementalSearch.update("find Adam");
+        incrementalSearch.cancel();
+
+        assertNull(results.poll(DEBOUNCE_MILLIS + NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private static Person createPerson(String name, int number) throws Exception {
+        return new Person(new Name(name), new Phone(String.valueOf(number), false),
+                new Email(number + "@email", false), new Address("House of " + number, false),
+                Collections.emptySet());
+    }
+}
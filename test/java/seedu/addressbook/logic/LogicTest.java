@@ -11,11 +11,21 @@ import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.person.*;
 import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.JournaledStorageFile;
+import seedu.addressbook.storage.ShardedStorageFile;
 import seedu.addressbook.storage.StorageFile;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
 import static seedu.addressbook.common.Messages.*;
 
 
@@ -456,6 +466,457 @@ public class LogicTest {
                                 expectedList);
     }
 
+    @Test
+    public void execute_findPrefix_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPrefixCommand.MESSAGE_USAGE);
+        assertCommandBehavior("find -p ", expectedMessage);
+    }
+
+    @Test
+    public void execute_findPrefix_matchesWordPrefixesIgnoringCase() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person pTarget1 = helper.generatePersonWithName("bla bla KEYKEY bla");
+        Person pTarget2 = helper.generatePersonWithName("bla key bla bceofeia");
+        Person pTarget3 = helper.generatePersonWithName("rAnDoM bla");
+        Person p1 = helper.generatePersonWithName("KE Y");
+        Person p2 = helper.generatePersonWithName("bKEY sduauo");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, pTarget1, p2, pTarget2, pTarget3);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(pTarget1, pTarget2, pTarget3);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        assertCommandBehavior("find -p kEy RAND",
+                                Command.getMessageForPersonListShownSummary(expectedList),
+                                expectedAB,
+                                true,
+                                expectedList);
+    }
+
+    @Test
+    public void execute_findFuzzy_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE);
+        assertCommandBehavior("find -f d/2", expectedMessage);
+    }
+
+    @Test
+    public void execute_findFuzzy_matchesWordsWithinDistanceIgnoringCase() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person pTarget1 = helper.generatePersonWithName("bla bla KEY bla");
+        Person pTarget2 = helper.generatePersonWithName("bla kay bla bceofeia");
+        Person pTarget3 = helper.generatePersonWithName("KEYS sduauo");
+        Person p1 = helper.generatePersonWithName("QQ ZZZ");
+        Person p2 = helper.generatePersonWithName("KEYKEY sduauo");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, pTarget1, p2, pTarget2, pTarget3);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(pTarget1, pTarget2, pTarget3);
+        List<Person> expectedCloseList = helper.generatePersonList(pTarget1, pTarget3);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        assertCommandBehavior("find -f kes",
+                                Command.getMessageForPersonListShownSummary(expectedCloseList),
+                                expectedAB,
+                                true,
+                                expectedCloseList);
+        assertCommandBehavior("find -f kes d/2",
+                                Command.getMessageForPersonListShownSummary(expectedList),
+                                expectedAB,
+                                true,
+                                expectedList);
+    }
+
+    @Test
+    public void execute_findRanked_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRankedCommand.MESSAGE_USAGE);
+        assertCommandBehavior("find -r key k/0", expectedMessage);
+    }
+
+    @Test
+    public void execute_findRanked_bestMatchesFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person pTarget1 = helper.generatePersonWithName("bla KEYS rAnDoM");
+        Person pTarget2 = helper.generatePersonWithName("key random");
+        Person pTarget3 = helper.generatePersonWithName("bla bla KEY bla");
+        Person p1 = helper.generatePersonWithName("KEY bla bla bla bla");
+        Person p2 = helper.generatePersonWithName("KE Y sduauo");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, pTarget1, p2, pTarget2, pTarget3);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(pTarget2, pTarget1, pTarget3);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        assertCommandBehavior("find -r kEy random k/3",
+                                Command.getMessageForPersonListShownSummary(expectedList),
+                                expectedAB,
+                                true,
+                                expectedList);
+    }
+
+    @Test
+    public void execute_query_invalidQuery() throws Exception {
+        assertCommandBehavior("query tag:", "Missing or invalid value in tag:\n" + QueryCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void execute_query_matchesAcrossFields() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePerson(1, false);
+        Person p2 = helper.generatePerson(2, false);
+        Person p3 = helper.generatePerson(3, false);
+        Person pPrivate = helper.generatePerson(4, true);
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, pPrivate);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p2, p3);
+        helper.addToAddressBook(addressBook, fourPersons);
+
+        assertCommandBehavior("query tag:TAG2 OR (address:\"house of\" AND NOT name:1)",
+                                Command.getMessageForPersonListShownSummary(expectedList),
+                                expectedAB,
+                                true,
+                                expectedList);
+    }
+
+    @Test
+    public void execute_pagedList_indexesResolvedAgainstVisiblePage() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Person> fivePersons = helper.generatePersonList(false, false, false, false, false);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        logic.execute("pagesize 2");
+        CommandResult listed = logic.execute("list");
+        assertEquals(fivePersons, listed.getRelevantPersons().get());
+        assertEquals(fivePersons.subList(0, 2), listed.getShownPersons().get().getPage());
+        assertEquals(fivePersons.subList(0, 2), logic.getLastShownList());
+
+        CommandResult next = logic.execute("next");
+        assertEquals(String.format(MESSAGE_PERSONS_PAGE_SHOWN_OVERVIEW, 3, 4, 5), next.feedbackToUser);
+        assertEquals(fivePersons.subList(2, 4), logic.getLastShownList());
+
+        // persons are numbered through all pages, and only the visible ones can be targeted
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, logic.execute("delete 1").feedbackToUser);
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, logic.execute("view 5").feedbackToUser);
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, fivePersons.get(2)),
+                logic.execute("delete 3").feedbackToUser);
+        assertEquals(fivePersons.subList(2, 4), logic.getLastShownList());
+
+        // the listing is outdated once a person is deleted, until the persons are listed again
+        assertEquals(String.format(MESSAGE_LISTING_OUTDATED, ListCommand.COMMAND_WORD),
+                logic.execute("prev").feedbackToUser);
+        assertEquals(fivePersons.subList(2, 4), logic.getLastShownList());
+
+        CommandResult resized = logic.execute("pagesize 3");
+        assertEquals(String.format(MESSAGE_PERSONS_PAGE_SHOWN_OVERVIEW, 1, 3, 4), resized.feedbackToUser);
+        assertEquals(helper.generatePersonList(fivePersons.get(0), fivePersons.get(1), fivePersons.get(3)),
+                logic.getLastShownList());
+        logic.execute("next");
+        assertEquals(fivePersons.subList(4, 5), logic.getLastShownList());
+        assertEquals(NextCommand.MESSAGE_NO_NEXT_PAGE, logic.execute("next").feedbackToUser);
+        logic.execute("prev");
+        assertEquals(PrevCommand.MESSAGE_NO_PREVIOUS_PAGE, logic.execute("prev").feedbackToUser);
+    }
+
+    @Test
+    public void execute_nextAfterDelete_outdatedListingRejected() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Person> fivePersons = helper.generatePersonList(false, false, false, false, false);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        logic.execute("pagesize 2");
+        logic.execute("list");
+        logic.execute("delete 1");
+
+        assertEquals(String.format(MESSAGE_LISTING_OUTDATED, ListCommand.COMMAND_WORD),
+                logic.execute("next").feedbackToUser);
+        assertEquals(fivePersons.subList(0, 2), logic.getLastShownList());
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, logic.execute("delete 4").feedbackToUser);
+
+        logic.execute("list");
+        CommandResult next = logic.execute("next");
+        assertEquals(String.format(MESSAGE_PERSONS_PAGE_SHOWN_OVERVIEW, 3, 4, 4), next.feedbackToUser);
+        assertEquals(fivePersons.subList(3, 5), logic.getLastShownList());
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, fivePersons.get(3)),
+                logic.execute("delete 3").feedbackToUser);
+        assertFalse(addressBook.containsPerson(fivePersons.get(3)));
+        assertTrue(addressBook.containsPerson(fivePersons.get(4)));
+    }
+
+    @Test
+    public void search_query_returnsResultWithoutChangingLastShownList() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithName("Adam Lee");
+        Person p2 = helper.generatePersonWithName("Bob Tan");
+        List<Person> persons = helper.generatePersonList(p1, p2);
+        AddressBook expectedAB = helper.generateAddressBook(persons);
+        helper.addToAddressBook(addressBook, persons);
+        logic.execute("list");
+
+        CommandResult result = logic.search("find Adam", () -> false);
+        assertEquals(Command.getMessageForPersonListShownSummary(helper.generatePersonList(p1)),
+                result.feedbackToUser);
+        assertEquals(helper.generatePersonList(p1), result.getShownPersons().get().getPage());
+        assertEquals(persons, logic.getLastShownList());
+
+        // commands that are not queries, including incomplete ones, are not executed
+        assertEquals(null, logic.search("delete 1", () -> false));
+        assertEquals(null, logic.search("find", () -> false));
+        assertEquals(expectedAB, addressBook);
+        assertEquals(persons, logic.getLastShownList());
+    }
+
+    @Test
+    public void search_cancelledDuringScan_throwsAndCachesNothing() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToAddressBook(addressBook, helper.generatePersonList(false, false, false));
+        int[] checkCount = new int[1];
+
+        try {
+            logic.search("query email:email", () -> ++checkCount[0] > 2);
+            fail("The scan should have been cancelled");
+        } catch (CancellationException ce) {
+            assertEquals(3, checkCount[0]); // checked before the scan, then before each person until cancelled
+        }
+        assertEquals(0, logic.getQueryCache().size());
+
+        CommandResult result = logic.search("query email:email", () -> false);
+        assertEquals(3, result.getRelevantPersons().get().size());
+        assertEquals(1, logic.getQueryCache().size());
+    }
+
+    @Test
+    public void execute_findPhonetic_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneticCommand.MESSAGE_USAGE);
+        assertCommandBehavior("find -s ", expectedMessage);
+    }
+
+    @Test
+    public void execute_findPhonetic_matchesWordsSoundingAlikeIgnoringCase() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person pTarget1 = helper.generatePersonWithName("bla bla Robert bla");
+        Person pTarget2 = helper.generatePersonWithName("bla RUBBERT bla bceofeia");
+        Person pTarget3 = helper.generatePersonWithName("Smyth sduauo");
+        Person p1 = helper.generatePersonWithName("Robin Hood");
+        Person p2 = helper.generatePersonWithName("Bert Snow");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, pTarget1, p2, pTarget2, pTarget3);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(pTarget1, pTarget2, pTarget3);
+        helper.addToAddressBook(addressBook, fivePersons);
+
+        assertCommandBehavior("find -s rupert smith",
+                                Command.getMessageForPersonListShownSummary(expectedList),
+                                expectedAB,
+                                true,
+                                expectedList);
+    }
+
+    @Test
+    public void execute_repeatedQueries_answeredFromCacheUntilAddressBookChanges() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person adam = helper.adam();
+        Person p1 = helper.generatePersonWithName("Adam Lee");
+        helper.addToAddressBook(addressBook, helper.generatePersonList(p1));
+        QueryCache cache = logic.getQueryCache();
+
+        CommandResult first = logic.execute("find Adam Lee");
+        CommandResult repeated = logic.execute("  find   Lee Adam Lee ");
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertSame(first.getRelevantPersons().get(), repeated.getRelevantPersons().get());
+
+        logic.execute("list");
+        logic.execute(helper.generateAddCommand(adam));
+
+        CommandResult afterAdd = logic.execute("find Adam Lee");
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.size()); // the results from before the add were dropped
+        assertEquals(helper.generatePersonList(p1, adam), afterAdd.getRelevantPersons().get());
+
+        logic.execute("view 1"); // depends on the last shown list, so never cached
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void execute_mixedCommands_savesOnlyWhenAddressBookChanges() throws Exception {
+        SaveCountingStorageFile countingSaveFile =
+                new SaveCountingStorageFile(saveFolder.newFile("countingSaveFile.txt").getPath());
+        countingSaveFile.save(addressBook);
+        logic = new Logic(countingSaveFile, addressBook);
+        countingSaveFile.saveCount = 0;
+
+        TestDataHelper helper = new TestDataHelper();
+        String addAdam = helper.generateAddCommand(helper.adam());
+
+        assertSaveCountAfter(countingSaveFile, "list", 0);
+        assertSaveCountAfter(countingSaveFile, addAdam, 1);
+        assertSaveCountAfter(countingSaveFile, addAdam, 1); // duplicate, nothing changed
+        assertSaveCountAfter(countingSaveFile, "find Adam", 1);
+        assertSaveCountAfter(countingSaveFile, "view 1", 1);
+        assertSaveCountAfter(countingSaveFile, "viewall 1", 1);
+        assertSaveCountAfter(countingSaveFile, "help", 1);
+        assertSaveCountAfter(countingSaveFile, "delete 1", 2);
+        assertSaveCountAfter(countingSaveFile, "delete 1", 2); // already deleted, nothing changed
+        assertSaveCountAfter(countingSaveFile, addAdam, 3);
+        assertSaveCountAfter(countingSaveFile, "clear", 4);
+        assertSaveCountAfter(countingSaveFile, "list", 4);
+
+        assertEquals(addressBook, countingSaveFile.load());
+    }
+
+    @Test
+    public void execute_exitWithWriteBehind_flushesPendingSaves() throws Exception {
+        logic.enableWriteBehind(Long.MAX_VALUE); // pending saves are only written when flushed
+        TestDataHelper helper = new TestDataHelper();
+
+        logic.execute(helper.generateAddCommand(helper.adam()));
+        logic.execute(helper.generateAddCommand(helper.generatePerson(1, false)));
+        assertEquals(AddressBook.empty(), saveFile.load());
+
+        logic.execute("exit");
+        assertEquals(addressBook, saveFile.load());
+    }
+
+    @Test
+    public void execute_afterFailedBackgroundWrite_writeRetriedByNextCommand() throws Exception {
+        SaveCountingStorageFile failingSaveFile =
+                new SaveCountingStorageFile(saveFolder.newFile("failingSaveFile.txt").getPath());
+        failingSaveFile.save(addressBook);
+        logic = new Logic(failingSaveFile, addressBook);
+        logic.enableWriteBehind(Long.MAX_VALUE); // pending saves are only written when flushed
+        TestDataHelper helper = new TestDataHelper();
+
+        failingSaveFile.isFailing = true;
+        logic.execute(helper.generateAddCommand(helper.adam()));
+        try {
+            logic.flushStorage();
+            fail("the failed background write was not reported");
+        } catch (StorageFile.StorageOperationException soe) {
+            assertEquals(AddressBook.empty(), failingSaveFile.load());
+        }
+
+        failingSaveFile.isFailing = false;
+        logic.execute("list"); // changes nothing, but the address book is still not saved
+        logic.flushStorage();
+        assertEquals(addressBook, failingSaveFile.load());
+        assertEquals(1, addressBook.getAllPersons().immutableListView().size());
+    }
+
+    @Test
+    public void execute_journaledStorageWithWriteBehind_onlyChangesAppended() throws Exception {
+        JournaledStorageFile journaledFile =
+                new JournaledStorageFile(saveFolder.getRoot().getPath() + "/journaledSaveFile.txt");
+        TestDataHelper helper = new TestDataHelper();
+        journaledFile.save(helper.generateAddressBook(false, true, false));
+        AddressBook loaded = journaledFile.load();
+        logic = new Logic(journaledFile, loaded);
+        logic.enableWriteBehind(0);
+        long snapshotModified = journaledFile.path.toFile().lastModified();
+        long snapshotLength = journaledFile.path.toFile().length();
+
+        long journalLength = journaledFile.journalPath.toFile().length();
+        for (int seed = 4; seed <= 10; seed++) {
+            logic.execute(helper.generateAddCommand(helper.generatePerson(seed, false)));
+            logic.execute("list");
+            logic.execute("delete 1");
+            logic.flushStorage();
+            long grownBy = journaledFile.journalPath.toFile().length() - journalLength;
+            assertTrue("journal grew by " + grownBy + " bytes", grownBy > 0 && grownBy < 400);
+            journalLength += grownBy;
+        }
+
+        assertEquals(snapshotModified, journaledFile.path.toFile().lastModified());
+        assertEquals(snapshotLength, journaledFile.path.toFile().length());
+        assertEquals(loaded, new JournaledStorageFile(journaledFile.getPath()).load());
+        assertEquals(3, loaded.getAllPersons().immutableListView().size());
+    }
+
+    @Test
+    public void execute_shardedStorageWithWriteBehind_onlyChangedSegmentsRewritten() throws Exception {
+        ShardedStorageFile shardedFile = new ShardedStorageFile(
+                saveFolder.getRoot().getPath() + "/shardedSaveFile.txt", ShardedStorageFile.DEFAULT_SEGMENT_COUNT);
+        TestDataHelper helper = new TestDataHelper();
+        shardedFile.save(helper.generateAddressBook(false, true, false));
+        AddressBook loaded = shardedFile.load();
+        logic = new Logic(shardedFile, loaded);
+        logic.enableWriteBehind(0);
+
+        for (int seed = 4; seed <= 10; seed++) {
+            List<Object> segmentFilesBefore = getSegmentFileKeys(shardedFile);
+            logic.execute(helper.generateAddCommand(helper.generatePerson(seed, false)));
+            logic.execute("list");
+            logic.execute("delete 1");
+            logic.flushStorage();
+            List<Object> segmentFilesAfter = getSegmentFileKeys(shardedFile);
+            int rewrittenCount = 0;
+            for (int segment = 0; segment < segmentFilesBefore.size(); segment++) {
+                if (!Objects.equals(segmentFilesBefore.get(segment), segmentFilesAfter.get(segment))) {
+                    rewrittenCount++;
+                }
+            }
+            assertTrue(rewrittenCount + " segments rewritten", rewrittenCount <= 2);
+        }
+
+        assertEquals(loaded, new ShardedStorageFile(shardedFile.getPath(), 1).load());
+        assertEquals(3, loaded.getAllPersonsView().size());
+    }
+
+    /**
+     * Returns the file keys of the segment files, which change whenever a segment file is replaced.
+     */
+    private List<Object> getSegmentFileKeys(ShardedStorageFile shardedFile) throws IOException {
+        List<Object> fileKeys = new ArrayList<>();
+        for (int segment = 0; segment < ShardedStorageFile.DEFAULT_SEGMENT_COUNT; segment++) {
+            fileKeys.add(Files.readAttributes(shardedFile.getSegmentPath(segment), BasicFileAttributes.class)
+                    .fileKey());
+        }
+        return fileKeys;
+    }
+
+    @Test
+    public void createStorage_eachMode_storageOfThatKind() throws Exception {
+        assertEquals(StorageFile.class, Logic.createStorage(Logic.STORAGE_MODE_PLAIN).getClass());
+        assertEquals(JournaledStorageFile.class, Logic.createStorage(Logic.STORAGE_MODE_JOURNALED).getClass());
+        assertEquals(ShardedStorageFile.class, Logic.createStorage(Logic.STORAGE_MODE_SHARDED).getClass());
+        try {
+            Logic.createStorage("unknown");
+            fail("an unknown storage mode was accepted");
+        } catch (IllegalArgumentException iae) {
+            assertTrue(iae.getMessage().contains("unknown"));
+        }
+    }
+
+    /**
+     * Executes the command and confirms that the storage file has been saved {@code expectedSaveCount} times.
+     */
+    private void assertSaveCountAfter(SaveCountingStorageFile storageFile, String inputCommand,
+                                      int expectedSaveCount) throws Exception {
+        logic.execute(inputCommand);
+        assertEquals(expectedSaveCount, storageFile.saveCount);
+    }
+
+    /**
+     * A storage file that counts the number of times it has been saved to, and fails to save while told to.
+     */
+    static class SaveCountingStorageFile extends StorageFile {
+        int saveCount = 0;
+        volatile boolean isFailing;
+
+        SaveCountingStorageFile(String filePath) throws Exception {
+            super(filePath);
+        }
+
+        @Override
+        public void save(AddressBook addressBook) throws StorageOperationException {
+            if (isFailing) {
+                throw new StorageOperationException("Simulated failure");
+            }
+            saveCount++;
+            super.save(addressBook);
+        }
+    }
+
     /**
      * A utility class to generate test data.
      */
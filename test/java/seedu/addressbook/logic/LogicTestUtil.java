@@ -0,0 +1,14 @@
+package seedu.addressbook.logic;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+public class LogicTestUtil {
+    /**
+     * Creates a Logic operating on the given address book, which is assumed to be already in sync with the storage
+     * file, for tests and benchmarks outside this package.
+     */
+    public static Logic createLogic(StorageFile storageFile, AddressBook addressBook) {
+        return new Logic(storageFile, addressBook);
+    }
+}
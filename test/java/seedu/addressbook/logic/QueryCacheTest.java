@@ -0,0 +1,66 @@
+package seedu.addressbook.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+
+public class QueryCacheTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void get_overCapacity_leastRecentlyUsedEvicted() {
+        QueryCache cache = new QueryCache(2);
+        CommandResult first = new CommandResult("first");
+        CommandResult second = new CommandResult("second");
+        cache.put("first", addressBook, first);
+        cache.put("second", addressBook, second);
+
+        assertSame(first, cache.get("first", addressBook)); // now the most recently used
+        cache.put("third", addressBook, new CommandResult("third"));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("second", addressBook));
+        assertSame(first, cache.get("first", addressBook));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_addressBookChanged_staleResultsDropped() throws Exception {
+        QueryCache cache = new QueryCache();
+        cache.put("list", addressBook, new CommandResult("empty"));
+
+        addressBook.addPerson(new Person(new Name("Adam Brown"), new Phone("111111", false),
+                new Email("adam@gmail.com", false), new Address("111, alpha street", false),
+                Collections.emptySet()));
+
+        assertNull(cache.get("list", addressBook));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_otherAddressBook_staleResultsDropped() {
+        QueryCache cache = new QueryCache();
+        cache.put("list", addressBook, new CommandResult("empty"));
+
+        assertNull(cache.get("list", new AddressBook()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroCapacity_exceptionThrown() {
+        new QueryCache(0);
+    }
+}
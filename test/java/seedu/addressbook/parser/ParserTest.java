@@ -58,6 +58,18 @@ public class ParserTest {
         parseAndAssertCommandType(input, ListCommand.class);
     }
 
+    @Test
+    public void nextCommand_parsedCorrectly() {
+        final String input = "next";
+        parseAndAssertCommandType(input, NextCommand.class);
+    }
+
+    @Test
+    public void prevCommand_parsedCorrectly() {
+        final String input = "prev";
+        parseAndAssertCommandType(input, PrevCommand.class);
+    }
+
     @Test
     public void exitCommand_parsedCorrectly() {
         final String input = "exit";
@@ -174,6 +186,131 @@ public class ParserTest {
         assertEquals(keySet, result.getKeywords());
     }
 
+    @Test
+    public void findPrefixCommand_noPrefixes_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPrefixCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "find -p", "find -p  ");
+    }
+
+    @Test
+    public void findPrefixCommand_validArgs_parsedCorrectly() {
+        final Set<String> prefixSet = new HashSet<>(Arrays.asList("ke", "K", "key3"));
+
+        final String input = "find -p " + String.join(" ", prefixSet) + " ke";
+        final FindPrefixCommand result =
+                parseAndAssertCommandType(input, FindPrefixCommand.class);
+        assertEquals(prefixSet, result.getPrefixes());
+    }
+
+    @Test
+    public void findFuzzyCommand_invalidArgs_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage,
+                "find -f", "find -f d/1", "find -f key d/x", "find -f key d/-1", "find -f key d/4");
+    }
+
+    @Test
+    public void findFuzzyCommand_validArgs_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("key1", "key2"));
+
+        FindFuzzyCommand result = parseAndAssertCommandType("find -f key1 key2 key1", FindFuzzyCommand.class);
+        assertEquals(keySet, result.getKeywords());
+        assertEquals(FindFuzzyCommand.DEFAULT_MAX_DISTANCE, result.getMaxDistance());
+
+        result = parseAndAssertCommandType("find -f key1 d/3 key2", FindFuzzyCommand.class);
+        assertEquals(keySet, result.getKeywords());
+        assertEquals(3, result.getMaxDistance());
+    }
+
+    @Test
+    public void findRankedCommand_invalidArgs_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRankedCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage,
+                "find -r", "find -r k/5", "find -r key k/", "find -r key k/0", "find -r key k/1001");
+    }
+
+    @Test
+    public void findRankedCommand_validArgs_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("key1", "key2"));
+
+        FindRankedCommand result = parseAndAssertCommandType("find -r key1 key2", FindRankedCommand.class);
+        assertEquals(keySet, result.getKeywords());
+        assertEquals(FindRankedCommand.DEFAULT_LIMIT, result.getLimit());
+
+        result = parseAndAssertCommandType("find -r k/25 key1 key2 key2", FindRankedCommand.class);
+        assertEquals(keySet, result.getKeywords());
+        assertEquals(25, result.getLimit());
+    }
+
+    @Test
+    public void queryCommand_noArgs_errorMessage() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "query", "query  ");
+    }
+
+    @Test
+    public void queryCommand_invalidQuery_errorMessage() {
+        parseAndAssertIncorrectWithMessage("Unknown query field in nickname:al\n" + QueryCommand.MESSAGE_USAGE,
+                "query nickname:al");
+        parseAndAssertIncorrectWithMessage("Only name values can end with *, in tag:fr*\n" + QueryCommand.MESSAGE_USAGE,
+                "query tag:fr*");
+        parseAndAssertIncorrectWithMessage(
+                "Expected a predicate, NOT or ( but the query ended\n" + QueryCommand.MESSAGE_USAGE,
+                "query name:ali AND", "query NOT");
+        parseAndAssertIncorrectWithMessage("Missing closing parenthesis in query\n" + QueryCommand.MESSAGE_USAGE,
+                "query (name:ali OR tag:x");
+        parseAndAssertIncorrectWithMessage("Unexpected ) in query\n" + QueryCommand.MESSAGE_USAGE,
+                "query name:ali)");
+        parseAndAssertIncorrectWithMessage("Missing closing quote in query\n" + QueryCommand.MESSAGE_USAGE,
+                "query address:\"clementi");
+        parseAndAssertIncorrectWithMessage("Expected a predicate, NOT or ( but found ali\n"
+                + QueryCommand.MESSAGE_USAGE, "query ali");
+    }
+
+    @Test
+    public void queryCommand_validArgs_parsedWithPrecedence() {
+        QueryCommand result = parseAndAssertCommandType(
+                "query Name:Ali* tag:Friends or not (phone:91 AND address:\"Clementi  Ave\")", QueryCommand.class);
+        assertEquals("((name:ali* AND tag:friends) OR NOT (phone:91 AND address:\"clementi  ave\"))",
+                result.getQuery().toString());
+
+        result = parseAndAssertCommandType("query email:gmail OR (name:bo OR name:al*) AND NOT NOT tag:x",
+                QueryCommand.class);
+        assertEquals("(email:gmail OR ((name:bo OR name:al*) AND NOT NOT tag:x))", result.getQuery().toString());
+    }
+
+    @Test
+    public void pageSizeCommand_invalidArgs_errorMessage() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageSizeCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "pagesize", "pagesize ten", "pagesize 0", "pagesize 1001");
+    }
+
+    @Test
+    public void pageSizeCommand_validArgs_parsedCorrectly() {
+        final PageSizeCommand result = parseAndAssertCommandType("pagesize 25", PageSizeCommand.class);
+        assertEquals(25, result.getPageSize());
+    }
+
+    @Test
+    public void findPhoneticCommand_noKeywords_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneticCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "find -s", "find -s  ");
+    }
+
+    @Test
+    public void findPhoneticCommand_validArgs_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("rupert", "Smyth", "key3"));
+
+        final String input = "find -s " + String.join(" ", keySet) + " rupert";
+        final FindPhoneticCommand result =
+                parseAndAssertCommandType(input, FindPhoneticCommand.class);
+        assertEquals(keySet, result.getKeywords());
+    }
+
     /**
      * Test add person command
      */
@@ -0,0 +1,194 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.BinaryAddressBookFormat.CorruptDataException;
+
+public class BinaryAddressBookFormatTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @AfterClass
+    public static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void read_manyChunks_sameAsWrittenInFileOrder() throws Exception {
+        AddressBook ab = createAddressBook(100);
+        Path file = writeToFile(ab, 7);
+
+        assertAllDetailsEqual(ab, BinaryAddressBookFormat.read(file, POOL));
+        assertAllDetailsEqual(ab, BinaryAddressBookFormat.read(file, null));
+        assertAllDetailsEqual(ab, BinaryAddressBookFormat.read(new ByteArrayInputStream(Files.readAllBytes(file))));
+    }
+
+    @Test
+    public void read_emptyAddressBook_emptyAddressBookRead() throws Exception {
+        assertEquals(AddressBook.empty(), BinaryAddressBookFormat.read(writeToFile(AddressBook.empty(), 7), POOL));
+    }
+
+    @Test
+    public void read_duplicatePersonsInDifferentChunks_exceptionThrown() throws Exception {
+        AddressBook ab = createAddressBook(10);
+        List<ReadOnlyPerson> withDuplicate = new ArrayList<>(ab.getAllPersons().immutableListView());
+        withDuplicate.add(withDuplicate.get(0));
+        Path file = writeToFile(createAddressBookView(withDuplicate), 4);
+
+        thrown.expect(DuplicatePersonException.class);
+        BinaryAddressBookFormat.read(file, POOL);
+    }
+
+    @Test
+    public void read_corruptedChunk_exceptionThrown() throws Exception {
+        Path file = writeToFile(createAddressBook(20), 4);
+        byte[] content = Files.readAllBytes(file);
+        content[content.length / 2] ^= 1;
+        Files.write(file, content);
+
+        thrown.expect(CorruptDataException.class);
+        BinaryAddressBookFormat.read(file, POOL);
+    }
+
+    @Test
+    public void read_corruptedFooter_exceptionThrown() throws Exception {
+        Path file = writeToFile(createAddressBook(20), 4);
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 13] ^= 1; // the last byte of the last chunk entry
+        Files.write(file, content);
+
+        thrown.expect(CorruptDataException.class);
+        BinaryAddressBookFormat.read(file, POOL);
+    }
+
+    @Test
+    public void read_version1File_sameAddressBook() throws Exception {
+        AddressBook ab = createAddressBook(3);
+        Path file = testFolder.getRoot().toPath().resolve("version1.txt");
+        Files.write(file, writeVersion1(ab));
+
+        assertAllDetailsEqual(ab, BinaryAddressBookFormat.read(file, POOL));
+        assertAllDetailsEqual(ab, BinaryAddressBookFormat.read(new ByteArrayInputStream(writeVersion1(ab))));
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path file = writeToFile(createAddressBook(3), 4);
+        byte[] content = Files.readAllBytes(file);
+        content[BinaryAddressBookFormat.MAGIC.length + 3] = 99;
+        Files.write(file, content);
+
+        thrown.expect(CorruptDataException.class);
+        thrown.expectMessage("version");
+        BinaryAddressBookFormat.read(file, POOL);
+    }
+
+    private Path writeToFile(AddressBook ab, int chunkSize) throws Exception {
+        Path file = testFolder.newFile().toPath();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            BinaryAddressBookFormat.write(ab, out, chunkSize);
+        }
+        return file;
+    }
+
+    /**
+     * Writes the address book in version 1 of the format, which has no chunk index.
+     */
+    private byte[] writeVersion1(AddressBook ab) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.write(BinaryAddressBookFormat.MAGIC);
+        data.writeInt(BinaryAddressBookFormat.VERSION_WITHOUT_CHUNK_INDEX);
+        data.writeInt(ab.getAllPersons().immutableListView().size());
+        BinaryAddressBookFormat.writeVarint(data, 1);
+        BinaryAddressBookFormat.writeString(data, "friend");
+        for (ReadOnlyPerson person : ab.getAllPersons()) {
+            BinaryAddressBookFormat.writeString(data, person.getName().fullName);
+            BinaryAddressBookFormat.writeString(data, person.getPhone().value);
+            BinaryAddressBookFormat.writeString(data, person.getEmail().value);
+            BinaryAddressBookFormat.writeString(data, person.getAddress().value);
+            data.writeByte(person.getPhone().isPrivate() ? 1 : 0);
+            BinaryAddressBookFormat.writeVarint(data, person.getTags().size());
+            for (int i = 0; i < person.getTags().size(); i++) {
+                BinaryAddressBookFormat.writeVarint(data, 0);
+            }
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        data.writeInt((int) checksum.getValue());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Creates an address book of distinct persons, every other one private and tagged "friend".
+     */
+    private AddressBook createAddressBook(int size) throws IllegalValueException {
+        AddressBook ab = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            boolean isEven = i % 2 == 0;
+            ab.addPerson(new Person(new Name("Person " + i),
+                                    new Phone(Integer.toString(90000000 + i), isEven),
+                                    new Email("person" + i + "@example.com", false),
+                                    new Address(i + " Example Street", false),
+                                    isEven ? Collections.singleton(new Tag("friend")) : Collections.emptySet()));
+        }
+        return ab;
+    }
+
+    /**
+     * Returns an address book that lists the given persons, duplicates included, for writing corrupt files.
+     */
+    private AddressBook createAddressBookView(List<ReadOnlyPerson> persons) {
+        return new AddressBook() {
+            @Override
+            public List<ReadOnlyPerson> getAllPersonsView() {
+                return persons;
+            }
+        };
+    }
+
+    private void assertAllDetailsEqual(AddressBook expected, AddressBook actual) {
+        assertEquals(getAllDetails(expected), getAllDetails(actual));
+    }
+
+    private List<String> getAllDetails(AddressBook ab) {
+        List<String> details = new ArrayList<>();
+        for (ReadOnlyPerson person : ab.getAllPersons()) {
+            details.add(person.getAsTextShowAll());
+        }
+        return details;
+    }
+}
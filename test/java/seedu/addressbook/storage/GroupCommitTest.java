@@ -0,0 +1,103 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class GroupCommitTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void save_noConcurrentSaves_eachSaveWritten() throws Exception {
+        List<AddressBook> written = new ArrayList<>();
+        GroupCommit<AddressBook> groupCommit = new GroupCommit<>(written::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        groupCommit.save(first);
+        groupCommit.save(second);
+
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(second, written.get(1));
+    }
+
+    @Test
+    public void save_concurrentSavesDuringWrite_writtenTogether() throws Exception {
+        List<AddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch finishFirstWrite = new CountDownLatch(1);
+        GroupCommit<AddressBook> groupCommit = new GroupCommit<>(addressBook -> {
+            written.add(addressBook);
+            if (written.size() == 1) {
+                firstWriteStarted.countDown();
+                awaitUninterruptibly(finishFirstWrite);
+            }
+        });
+
+        List<Thread> savers = new ArrayList<>();
+        savers.add(startSaver(groupCommit));
+        firstWriteStarted.await();
+        for (int i = 0; i < 4; i++) {
+            savers.add(startSaver(groupCommit));
+        }
+        // wait until the later savers are all waiting for the first write to finish
+        for (Thread saver : savers.subList(1, savers.size())) {
+            while (saver.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        finishFirstWrite.countDown();
+        for (Thread saver : savers) {
+            saver.join();
+        }
+
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    public void save_writeFails_exceptionThrown() throws Exception {
+        GroupCommit<AddressBook> groupCommit = new GroupCommit<>(addressBook -> {
+            throw new StorageOperationException("disk full");
+        });
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage("disk full");
+        groupCommit.save(new AddressBook());
+    }
+
+    private Thread startSaver(GroupCommit<AddressBook> groupCommit) {
+        Thread saver = new Thread(() -> {
+            try {
+                groupCommit.save(new AddressBook());
+            } catch (StorageOperationException soe) {
+                throw new AssertionError(soe);
+            }
+        });
+        saver.start();
+        return saver;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ie) {
+                // keep waiting
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeLog;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class JournaledStorageFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final AddressBookChangeLog changeLog = new AddressBookChangeLog();
+
+    @Test
+    public void load_missingFile_emptyAddressBookCreated() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        assertEquals(AddressBook.empty(), storage.load());
+        assertTrue(storage.path.toFile().exists());
+        assertTrue(storage.journalPath.toFile().exists());
+    }
+
+    @Test
+    public void saveChanges_changesToLoadedAddressBook_appendedToJournalOnly() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 3));
+        AddressBook addressBook = load(storage);
+        long snapshotModified = storage.path.toFile().lastModified();
+        long snapshotLength = storage.path.toFile().length();
+
+        addressBook.addPerson(generatePerson(4));
+        saveChanges(storage, addressBook);
+        addressBook.removePerson(generatePerson(2));
+        saveChanges(storage, addressBook);
+        addressBook.addPerson(generatePerson(5));
+        addressBook.addPerson(generatePerson(6));
+        saveChanges(storage, addressBook);
+
+        assertEquals(snapshotModified, storage.path.toFile().lastModified());
+        assertEquals(snapshotLength, storage.path.toFile().length());
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_durable_journalForcedAfterAppend() throws Exception {
+        List<Path> forcedJournals = new ArrayList<>();
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath()) {
+            @Override
+            void forceJournal(Path journal) throws StorageOperationException {
+                super.forceJournal(journal);
+                forcedJournals.add(journal);
+            }
+        };
+        storage.save(generateAddressBook(1, 3));
+        AddressBook addressBook = load(storage);
+
+        addressBook.addPerson(generatePerson(4));
+        saveChanges(storage, addressBook);
+        assertEquals(Collections.emptyList(), forcedJournals);
+
+        storage.setDurableSaveEnabled(true);
+        addressBook.removePerson(generatePerson(2));
+        saveChanges(storage, addressBook);
+        assertEquals(Collections.singletonList(storage.journalPath), forcedJournals);
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_clearThenAdd_replayedInOrder() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 3));
+        AddressBook addressBook = load(storage);
+
+        addressBook.clear();
+        addressBook.addPerson(generatePerson(7));
+        saveChanges(storage, addressBook);
+
+        assertEquals(generateAddressBook(7, 7), getTempStorage().load());
+    }
+
+    @Test
+    public void load_tornRecordAtEndOfJournal_ignored() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        AddressBook addressBook = load(storage);
+        addressBook.addPerson(generatePerson(1));
+        saveChanges(storage, addressBook);
+        long lengthBeforeLastRecord = storage.journalPath.toFile().length();
+        addressBook.addPerson(generatePerson(2));
+        saveChanges(storage, addressBook);
+
+        // simulate a crash part way through appending the last record
+        try (RandomAccessFile journal = new RandomAccessFile(storage.journalPath.toFile(), "rw")) {
+            journal.setLength(journal.length() - 3);
+        }
+
+        JournaledStorageFile reopened = getTempStorage();
+        AddressBook reloaded = load(reopened);
+        assertEquals(generateAddressBook(1, 1), reloaded);
+        assertEquals(lengthBeforeLastRecord, reopened.journalPath.toFile().length());
+
+        // records appended after recovery are not lost behind the torn one
+        reloaded.addPerson(generatePerson(3));
+        saveChanges(reopened, reloaded);
+        assertEquals(reloaded, getTempStorage().load());
+    }
+
+    @Test
+    public void load_journalFromEarlierSnapshot_ignored() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        AddressBook addressBook = load(storage);
+        addressBook.addPerson(generatePerson(1));
+        saveChanges(storage, addressBook);
+
+        // simulate a crash after a compaction wrote the snapshot, but before it reset the journal
+        new StorageFile(storage.getPath()).save(addressBook);
+
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_journalLargerThanSnapshot_compacted() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        AddressBook addressBook = load(storage);
+        long emptySnapshotLength = storage.path.toFile().length();
+        int seed = 1;
+        while (storage.path.toFile().length() == emptySnapshotLength) {
+            addressBook.addPerson(generatePerson(seed++));
+            saveChanges(storage, addressBook);
+        }
+
+        // everything is in the snapshot, and the journal is empty again
+        assertTrue(seed > 2);
+        assertEquals(addressBook, new StorageFile(storage.getPath()).load());
+        long compactedJournalLength = storage.journalPath.toFile().length();
+
+        addressBook.addPerson(generatePerson(seed));
+        saveChanges(storage, addressBook);
+        assertTrue(storage.journalPath.toFile().length() > compactedJournalLength);
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_storageNeverLoaded_fullSnapshotWritten() throws Exception {
+        JournaledStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 3));
+        AddressBook addressBook = generateAddressBook(4, 5);
+
+        // the changes are not relative to what the file holds, as it was not loaded through this storage file
+        JournaledStorageFile other = getTempStorage();
+        other.saveChanges(addressBook, Collections.emptyList());
+
+        assertEquals(addressBook, new StorageFile(storage.getPath()).load());
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    /**
+     * Loads the address book from the storage file, recording the changes made to it from then on.
+     */
+    private AddressBook load(JournaledStorageFile storage) throws Exception {
+        AddressBook addressBook = storage.load();
+        addressBook.addListener(changeLog);
+        return addressBook;
+    }
+
+    /**
+     * Saves the changes recorded since the last save.
+     */
+    private void saveChanges(JournaledStorageFile storage, AddressBook addressBook) throws Exception {
+        storage.saveChanges(addressBook, changeLog.takeChanges());
+    }
+
+    private AddressBook generateAddressBook(int firstSeed, int lastSeed) throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int seed = firstSeed; seed <= lastSeed; seed++) {
+            addressBook.addPerson(generatePerson(seed));
+        }
+        return addressBook;
+    }
+
+    private Person generatePerson(int seed) throws Exception {
+        return new Person(new Name("Person " + seed),
+                          new Phone("" + seed, seed % 2 == 0),
+                          new Email(seed + "@email", false),
+                          new Address("House of " + seed, seed % 3 == 0),
+                          new HashSet<>(Arrays.asList(new Tag("tag" + seed), new Tag("common"))));
+    }
+
+    private JournaledStorageFile getTempStorage() throws Exception {
+        return new JournaledStorageFile(getTempFilePath());
+    }
+
+    private String getTempFilePath() {
+        return testFolder.getRoot().getPath() + "/" + "temp.txt";
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeLog;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class ShardedStorageFileTest {
+    private static final int SEGMENT_COUNT = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final AddressBookChangeLog changeLog = new AddressBookChangeLog();
+
+    @Test
+    public void load_missingFile_emptyAddressBookCreated() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        assertEquals(AddressBook.empty(), storage.load());
+        assertTrue(storage.path.toFile().exists());
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            assertTrue(storage.getSegmentPath(segment).toFile().exists());
+        }
+    }
+
+    @Test
+    public void load_savedAddressBook_sameAddressBookInSameOrder() throws Exception {
+        AddressBook addressBook = generateAddressBook(1, 30);
+        getTempStorage().save(addressBook);
+
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_personAddedToLoadedAddressBook_onlyItsSegmentRewritten() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 30));
+        AddressBook addressBook = load(storage);
+        byte[][] segmentsBefore = readSegments(storage);
+
+        addressBook.addPerson(generatePerson(31));
+        saveChanges(storage, addressBook);
+
+        byte[][] segmentsAfter = readSegments(storage);
+        int rewrittenSegments = 0;
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            if (!Arrays.equals(segmentsBefore[segment], segmentsAfter[segment])) {
+                rewrittenSegments++;
+            }
+        }
+        assertEquals(1, rewrittenSegments);
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_noChangesSinceLoad_nothingRewritten() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 10));
+        AddressBook addressBook = load(storage);
+        byte[][] segmentsBefore = readSegments(storage);
+
+        saveChanges(storage, addressBook);
+
+        assertArrayEquals(segmentsBefore, readSegments(storage));
+    }
+
+    @Test
+    public void saveChanges_deletesAndAddsAcrossReloads_orderKept() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 10));
+        AddressBook addressBook = load(storage);
+        addressBook.removePerson(generatePerson(3));
+        addressBook.addPerson(generatePerson(11));
+        saveChanges(storage, addressBook);
+
+        ShardedStorageFile reopened = getTempStorage();
+        AddressBook reloaded = load(reopened);
+        assertEquals(addressBook, reloaded);
+        reloaded.removePerson(generatePerson(1));
+        reloaded.addPerson(generatePerson(3));
+        saveChanges(reopened, reloaded);
+
+        assertEquals(reloaded, getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_clearThenAdd_onlyAddedPersonLoaded() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 10));
+        AddressBook addressBook = load(storage);
+
+        addressBook.clear();
+        addressBook.addPerson(generatePerson(12));
+        saveChanges(storage, addressBook);
+
+        assertEquals(generateAddressBook(12, 12), getTempStorage().load());
+    }
+
+    @Test
+    public void saveChanges_storageNeverLoaded_everySegmentWritten() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        AddressBook addressBook = generateAddressBook(1, 10);
+        addressBook.addListener(changeLog);
+        addressBook.addPerson(generatePerson(11));
+
+        saveChanges(storage, addressBook);
+
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void save_existingFileWithOtherSegmentCount_keepsItsSegmentCount() throws Exception {
+        AddressBook addressBook = generateAddressBook(1, 10);
+        getTempStorage().save(addressBook);
+
+        ShardedStorageFile storage = new ShardedStorageFile(getTempFilePath(), SEGMENT_COUNT * 2);
+        storage.save(addressBook);
+        assertEquals(SEGMENT_COUNT, storage.getSegmentCount());
+        assertEquals(addressBook, getTempStorage().load());
+    }
+
+    @Test
+    public void load_existingFileWithOtherSegmentCount_keepsItsSegmentCount() throws Exception {
+        AddressBook addressBook = generateAddressBook(1, 10);
+        getTempStorage().save(addressBook);
+
+        ShardedStorageFile storage = new ShardedStorageFile(getTempFilePath(), SEGMENT_COUNT * 2);
+        assertEquals(addressBook, storage.load());
+        assertEquals(SEGMENT_COUNT, storage.getSegmentCount());
+    }
+
+    @Test
+    public void load_corruptedSegment_exceptionThrown() throws Exception {
+        ShardedStorageFile storage = getTempStorage();
+        storage.save(generateAddressBook(1, 10));
+        byte[] segment = Files.readAllBytes(storage.getSegmentPath(0));
+        segment[segment.length / 2] ^= 1;
+        Files.write(storage.getSegmentPath(0), segment);
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage(StorageFile.MESSAGE_PARSE_ERROR);
+        getTempStorage().load();
+    }
+
+    /**
+     * Loads the address book from the storage file, recording the changes made to it from then on.
+     */
+    private AddressBook load(ShardedStorageFile storage) throws Exception {
+        AddressBook addressBook = storage.load();
+        addressBook.addListener(changeLog);
+        return addressBook;
+    }
+
+    /**
+     * Saves the changes recorded since the last save.
+     */
+    private void saveChanges(ShardedStorageFile storage, AddressBook addressBook) throws Exception {
+        storage.saveChanges(addressBook, changeLog.takeChanges());
+    }
+
+    private byte[][] readSegments(ShardedStorageFile storage) throws Exception {
+        byte[][] segments = new byte[SEGMENT_COUNT][];
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            segments[segment] = Files.readAllBytes(storage.getSegmentPath(segment));
+        }
+        return segments;
+    }
+
+    private AddressBook generateAddressBook(int firstSeed, int lastSeed) throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int seed = firstSeed; seed <= lastSeed; seed++) {
+            addressBook.addPerson(generatePerson(seed));
+        }
+        return addressBook;
+    }
+
+    private Person generatePerson(int seed) throws Exception {
+        return new Person(new Name("Person " + seed),
+                          new Phone("" + seed, seed % 2 == 0),
+                          new Email(seed + "@email", false),
+                          new Address("House of " + seed, seed % 3 == 0),
+                          new HashSet<>(Arrays.asList(new Tag("tag" + seed), new Tag("common"))));
+    }
+
+    private ShardedStorageFile getTempStorage() throws Exception {
+        return new ShardedStorageFile(getTempFilePath(), SEGMENT_COUNT);
+    }
+
+    private String getTempFilePath() {
+        return testFolder.getRoot().getPath() + "/" + "temp.txt";
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
+
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.storage.StorageFile.Format;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class StorageFileConverterTest {
+    private static final String VALID_DATA_FILE = "test/data/StorageFileTest/ValidData.txt";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXmlFile() throws Exception {
+        String binaryFile = getTempFilePath("binary.txt");
+        String xmlFile = getTempFilePath("xml.txt");
+
+        StorageFileConverter.convert(VALID_DATA_FILE, binaryFile, Format.BINARY);
+        StorageFile binaryStorage = new StorageFile(binaryFile);
+        binaryStorage.load();
+        assertEquals(Format.BINARY, binaryStorage.getFormat());
+
+        StorageFileConverter.convert(binaryFile, xmlFile, Format.XML);
+        assertTextFilesEqual(Paths.get(VALID_DATA_FILE), Paths.get(xmlFile));
+    }
+
+    @Test
+    public void convert_missingSourceFile_exceptionThrown() throws Exception {
+        thrown.expect(StorageOperationException.class);
+        StorageFileConverter.convert(getTempFilePath("missing.txt"), getTempFilePath("target.txt"), Format.BINARY);
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + "/" + fileName;
+    }
+}
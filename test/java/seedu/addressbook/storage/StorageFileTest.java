@@ -1,10 +1,20 @@
 package seedu.addressbook.storage;
 
 import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +28,7 @@ import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
 import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
@@ -61,6 +72,65 @@ public class StorageFileTest {
         assertEquals(actualAB.getAllPersons(), expectedAB.getAllPersons());
     }
 
+    @Test
+    public void load_streamingValidFormat() throws Exception {
+        StorageFile storage = getStorage("ValidData.txt");
+        storage.setStreamingLoadEnabled(true);
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+    }
+
+    @Test
+    public void load_streamingInvalidFormat_exceptionThrown() throws Exception {
+        StorageFile storage = getStorage("InvalidData.txt");
+        storage.setStreamingLoadEnabled(true);
+        thrown.expect(StorageOperationException.class);
+        storage.load();
+    }
+
+    @Test
+    public void load_streaming_sameOutcomeAsJaxb() throws Exception {
+        String validPerson = "<persons><name>John Doe</name><phone isPrivate=\"true\">123</phone>"
+                + "<email isPrivate=\"false\">j@d</email><address>somewhere</address><tagged>tag</tagged></persons>";
+        String missingPhone = "<persons><name>Jane Doe</name><email isPrivate=\"false\">j@d</email>"
+                + "<address isPrivate=\"false\">somewhere</address></persons>";
+        String illegalPhone = "<persons><name>Jim Doe</name><phone isPrivate=\"false\">abc</phone>"
+                + "<email isPrivate=\"false\">j@d</email><address isPrivate=\"false\">somewhere</address></persons>";
+
+        assertSameLoadOutcome("<AddressBook>" + validPerson + "</AddressBook>");
+        assertSameLoadOutcome("<AddressBook><unknown><persons/></unknown>" + validPerson + "text</AddressBook>");
+        assertSameLoadOutcome("<AddressBook>" + validPerson + validPerson + "</AddressBook>");
+        assertSameLoadOutcome("<AddressBook>" + illegalPhone + missingPhone + "</AddressBook>");
+        assertSameLoadOutcome("<AddressBook>" + missingPhone + illegalPhone + "</AddressBook>");
+        assertSameLoadOutcome("<AddressBook>" + illegalPhone + validPerson + "</AddressBook>");
+        assertSameLoadOutcome("<AddressBook>" + illegalPhone + validPerson);
+        assertSameLoadOutcome("<NotAnAddressBook>" + validPerson + "</NotAnAddressBook>");
+        assertSameLoadOutcome("<AddressBook><persons><name>Empty Tag</name><phone>1</phone><email>a@b</email>"
+                + "<address>x</address><tagged/></persons></AddressBook>");
+    }
+
+    /**
+     * Asserts that loading the given storage file content with JAXB and with streaming gives the same address book,
+     * or fails with the same message.
+     */
+    private void assertSameLoadOutcome(String fileContent) throws Exception {
+        Path file = testFolder.newFile().toPath().resolveSibling("outcome" + fileContent.hashCode() + ".txt");
+        Files.write(file, fileContent.getBytes(Charset.defaultCharset()));
+        StorageFile jaxbStorage = new StorageFile(file.toString());
+        StorageFile streamingStorage = new StorageFile(file.toString());
+        streamingStorage.setStreamingLoadEnabled(true);
+
+        String expectedOutcome = getLoadOutcome(jaxbStorage);
+        assertEquals(expectedOutcome, getLoadOutcome(streamingStorage));
+    }
+
+    private String getLoadOutcome(StorageFile storage) {
+        try {
+            return storage.load().getAllPersons().immutableListView().toString();
+        } catch (StorageOperationException soe) {
+            return soe.getMessage();
+        }
+    }
+
     @Test
     public void save_nullAddressBook_exceptionThrown() throws Exception {
         StorageFile storage = getTempStorage();
@@ -77,6 +147,191 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
     }
 
+    @Test
+    public void save_streamingValidAddressBook() throws Exception {
+        AddressBook ab = getTestAddressBook();
+        StorageFile storage = getTempStorage();
+        storage.setStreamingSaveEnabled(true);
+        storage.save(ab);
+
+        assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
+        assertEquals(ab.getAllPersons(), storage.load().getAllPersons());
+    }
+
+    @Test
+    public void save_streaming_sameContentAsJaxb() throws Exception {
+        assertSameSavedContent(AddressBook.empty());
+        assertSameSavedContent(getTestAddressBook());
+
+        AddressBook specialCharacters = new AddressBook();
+        specialCharacters.addPerson(new Person(new Name("Special Characters"),
+                                               new Phone("1", false),
+                                               new Email("a.b@c.d", true),
+                                               new Address("<&> \"quoted\" 'single' ]]> \t tab", false),
+                                               Collections.emptySet()));
+        assertSameSavedContent(specialCharacters);
+    }
+
+    /**
+     * Asserts that saving the given address book with JAXB and with streaming writes exactly the same bytes.
+     */
+    private void assertSameSavedContent(AddressBook ab) throws Exception {
+        StorageFile jaxbStorage = new StorageFile(testFolder.getRoot().getPath() + "/" + "jaxb.txt");
+        StorageFile streamingStorage = getTempStorage();
+        streamingStorage.setStreamingSaveEnabled(true);
+        jaxbStorage.save(ab);
+        streamingStorage.save(ab);
+
+        assertEquals(new String(Files.readAllBytes(jaxbStorage.path), Charset.defaultCharset()),
+                     new String(Files.readAllBytes(streamingStorage.path), Charset.defaultCharset()));
+    }
+
+    @Test
+    public void save_binaryFormat_loadsSameAddressBook() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        AddressBook ab = getTestAddressBook();
+        storage.save(ab);
+
+        StorageFile reloaded = getTempStorage();
+        assertAllDetailsEqual(ab, reloaded.load());
+        assertEquals(StorageFile.Format.BINARY, reloaded.getFormat());
+    }
+
+    @Test
+    public void load_xmlFile_detectsXmlFormat() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        storage.save(getTestAddressBook());
+
+        StorageFile xmlStorage = getStorage("ValidData.txt");
+        xmlStorage.setFormat(StorageFile.Format.BINARY);
+        assertAllDetailsEqual(getTestAddressBook(), xmlStorage.load());
+        assertEquals(StorageFile.Format.XML, xmlStorage.getFormat());
+    }
+
+    @Test
+    public void load_binaryFileLoaded_savesInBinaryFormat() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        storage.save(getTestAddressBook());
+
+        StorageFile reloaded = getTempStorage();
+        AddressBook ab = reloaded.load();
+        ab.addPerson(new Person(new Name("Added Person"),
+                                new Phone("5555", false),
+                                new Email("added@x.y", false),
+                                new Address("Added street", false),
+                                Collections.emptySet()));
+        reloaded.save(ab);
+
+        byte[] saved = Files.readAllBytes(reloaded.path);
+        assertEquals(true, BinaryAddressBookFormat.hasMagic(saved, saved.length));
+        assertAllDetailsEqual(ab, getTempStorage().load());
+    }
+
+    @Test
+    public void load_binaryEmptyAddressBook_loadsEmpty() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        storage.save(AddressBook.empty());
+
+        assertEquals(AddressBook.empty(), getTempStorage().load());
+    }
+
+    @Test
+    public void load_corruptedBinaryFile_exceptionThrown() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        storage.save(getTestAddressBook());
+        byte[] content = Files.readAllBytes(storage.path);
+        content[content.length - 1] ^= 1; // the last byte is part of the checksum
+        Files.write(storage.path, content);
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage(StorageFile.MESSAGE_PARSE_ERROR);
+        storage.load();
+    }
+
+    @Test
+    public void load_truncatedBinaryFile_exceptionThrown() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.setFormat(StorageFile.Format.BINARY);
+        storage.save(getTestAddressBook());
+        byte[] content = Files.readAllBytes(storage.path);
+        Files.write(storage.path, Arrays.copyOf(content, content.length - 1));
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage(StorageFile.MESSAGE_PARSE_ERROR);
+        storage.load();
+    }
+
+    @Test
+    public void save_durable_sameContentAndNoTemporaryFilesLeft() throws Exception {
+        AddressBook ab = getTestAddressBook();
+        StorageFile storage = getTempStorage();
+        storage.setDurableSaveEnabled(true);
+        storage.save(AddressBook.empty());
+        storage.save(ab);
+
+        assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
+        assertEquals(Collections.singletonList(storage.path.getFileName().toString()),
+                     Arrays.asList(testFolder.getRoot().list()));
+    }
+
+    @Test
+    public void save_durableToMissingFolder_exceptionThrown() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/missing/temp.txt");
+        storage.setDurableSaveEnabled(true);
+
+        thrown.expect(StorageOperationException.class);
+        storage.save(getTestAddressBook());
+    }
+
+    @Test
+    public void saveAndLoad_concurrentStorageFiles_eachLoadsWhatItSaved() throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "concurrent" + i + ".txt");
+            AddressBook ab = getTestAddressBook();
+            if (i % 2 == 0) {
+                ab.clear();
+            }
+            tasks.add(() -> {
+                for (int run = 0; run < 20; run++) {
+                    storage.save(ab);
+                    if (!getAllDetails(ab).equals(getAllDetails(storage.load()))) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertEquals(true, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Asserts that both address books hold the same persons in the same order, including privacy and tags.
+     */
+    private void assertAllDetailsEqual(AddressBook expected, AddressBook actual) {
+        assertEquals(getAllDetails(expected), getAllDetails(actual));
+    }
+
+    private List<String> getAllDetails(AddressBook ab) {
+        List<String> details = new ArrayList<>();
+        for (ReadOnlyPerson person : ab.getAllPersons()) {
+            details.add(person.getAsTextShowAll());
+        }
+        return details;
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
     /**
@@ -0,0 +1,148 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.data.AddressBookChangeLog;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+
+public class WriteBehindStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void submit_burstOfChanges_coalescedIntoOneWrite() throws Exception {
+        SaveCountingStorageFile storage = getTempStorage();
+        AddressBook addressBook = generateAddressBook(2);
+        WriteBehindStorage writeBehind = new WriteBehindStorage(storage, addressBook, Long.MAX_VALUE);
+        AddressBookChangeLog changeLog = new AddressBookChangeLog();
+        addressBook.addListener(changeLog);
+
+        for (int i = 3; i <= 5; i++) {
+            addressBook.addPerson(generatePerson(i));
+            writeBehind.submit(changeLog.takeChanges(), addressBook.getGeneration());
+        }
+        addressBook.removePerson(generatePerson(1));
+        writeBehind.submit(changeLog.takeChanges(), addressBook.getGeneration());
+        assertEquals(0, storage.saveCount);
+
+        writeBehind.flush();
+        assertEquals(1, storage.saveCount);
+        assertEquals(4, storage.lastChanges.size());
+        assertEquals(addressBook, storage.load());
+        assertEquals(addressBook.getGeneration(), writeBehind.getSavedGeneration());
+
+        // nothing pending, so nothing more is written
+        writeBehind.close();
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void submit_maxDelayElapsed_writtenWithoutFlush() throws Exception {
+        SaveCountingStorageFile storage = getTempStorage();
+        AddressBook addressBook = new AddressBook();
+        WriteBehindStorage writeBehind = new WriteBehindStorage(storage, addressBook, 10);
+
+        addressBook.addPerson(generatePerson(1));
+        writeBehind.submit(Collections.singletonList(AddressBookChange.added(generatePerson(1))),
+                addressBook.getGeneration());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storage.saveCount == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(storage.saveCount > 0);
+        writeBehind.close();
+        assertEquals(addressBook, storage.load());
+    }
+
+    @Test
+    public void flush_afterFailedWrite_retriedWithoutResubmittingChanges() throws Exception {
+        SaveCountingStorageFile storage = getTempStorage();
+        AddressBook addressBook = generateAddressBook(1);
+        WriteBehindStorage writeBehind = new WriteBehindStorage(storage, addressBook, Long.MAX_VALUE);
+
+        storage.isFailing = true;
+        addressBook.addPerson(generatePerson(2));
+        writeBehind.submit(Collections.singletonList(AddressBookChange.added(generatePerson(2))),
+                addressBook.getGeneration());
+        try {
+            writeBehind.flush();
+            fail("the failed write was not reported");
+        } catch (StorageFile.StorageOperationException soe) {
+            assertEquals(addressBook.getGeneration() - 1, writeBehind.getSavedGeneration());
+        }
+
+        storage.isFailing = false;
+        writeBehind.submit(Collections.emptyList(), addressBook.getGeneration());
+        writeBehind.flush();
+        assertEquals(addressBook, storage.load());
+        assertEquals(addressBook.getGeneration(), writeBehind.getSavedGeneration());
+        writeBehind.close();
+    }
+
+    private AddressBook generateAddressBook(int size) throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 1; i <= size; i++) {
+            addressBook.addPerson(generatePerson(i));
+        }
+        return addressBook;
+    }
+
+    private Person generatePerson(int seed) throws Exception {
+        return new Person(new Name("Person " + seed),
+                          new Phone("" + seed, false),
+                          new Email(seed + "@email", false),
+                          new Address("House of " + seed, false),
+                          Collections.emptySet());
+    }
+
+    private SaveCountingStorageFile getTempStorage() throws Exception {
+        return new SaveCountingStorageFile(testFolder.getRoot().getPath() + "/" + "temp.txt");
+    }
+
+    /**
+     * A storage file that counts the number of times it has been saved to, and fails to save while told to.
+     */
+    private static class SaveCountingStorageFile extends StorageFile {
+        volatile int saveCount = 0;
+        volatile boolean isFailing;
+        volatile List<AddressBookChange> lastChanges;
+
+        SaveCountingStorageFile(String filePath) throws Exception {
+            super(filePath);
+        }
+
+        @Override
+        public void saveChanges(AddressBook addressBook, List<AddressBookChange> changes)
+                throws StorageOperationException {
+            lastChanges = new ArrayList<>(changes);
+            super.saveChanges(addressBook, changes);
+        }
+
+        @Override
+        public void save(AddressBook addressBook) throws StorageOperationException {
+            if (isFailing) {
+                throw new StorageOperationException("Simulated failure");
+            }
+            super.save(addressBook);
+            saveCount++;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.addressbook.storage.jaxb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.xml.bind.JAXBContext;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.jaxb.AdaptedAddressBook.IllegalPersonException;
+
+public class AdaptedAddressBookTest {
+    /** Large enough for the persons to be split across several conversion tasks. */
+    private static final int SIZE = 5000;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void toModelType_validPersons_sameAddressBookInSameOrder() throws Exception {
+        AdaptedAddressBook adapted = unmarshal(generatePersons(SIZE, -1, -1, ""));
+        AddressBook converted = adapted.toModelType(POOL);
+
+        assertEquals(SIZE, converted.getAllPersonsView().size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals("Person " + i, converted.getAllPersonsView().get(i).getName().fullName);
+        }
+        assertEquals(converted, adapted.toModelType(new ForkJoinPool(1)));
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_firstReported() throws Exception {
+        AdaptedAddressBook adapted = unmarshal(generatePersons(SIZE, 4321, 1234, ""));
+        for (int run = 0; run < 10; run++) {
+            try {
+                adapted.toModelType(POOL);
+                fail("expected an IllegalPersonException");
+            } catch (IllegalPersonException ipe) {
+                assertEquals(1234, ipe.index);
+            }
+        }
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void toModelType_commonPool_invalidPersonReported() throws Exception {
+        unmarshal(generatePersons(10, 3, -1, "")).toModelType();
+    }
+
+    @Test(expected = DuplicatePersonException.class)
+    public void toModelType_duplicatePersons_exceptionThrown() throws Exception {
+        unmarshal(generatePersons(SIZE, -1, -1, generatePerson(17, true))).toModelType(POOL);
+    }
+
+    @Test
+    public void indexOfFirstPersonWithMissingField_severalMissing_firstReturned() throws Exception {
+        StringBuilder persons = new StringBuilder(generatePersons(SIZE, -1, -1, ""));
+        persons.append("<persons><name>No Phone</name></persons>");
+        persons.append("<persons><name>No Phone Either</name></persons>");
+        AdaptedAddressBook adapted = unmarshal(persons.toString());
+
+        assertTrue(adapted.isAnyRequiredFieldMissing());
+        assertEquals(SIZE, adapted.indexOfFirstPersonWithMissingField());
+    }
+
+    @Test
+    public void indexOfFirstPersonWithMissingField_noneMissing_minusOne() throws Exception {
+        AdaptedAddressBook adapted = unmarshal(generatePersons(SIZE, -1, -1, ""));
+
+        assertFalse(adapted.isAnyRequiredFieldMissing());
+        assertEquals(-1, adapted.indexOfFirstPersonWithMissingField());
+    }
+
+    /**
+     * Generates the XML of {@code size} distinct persons, with invalid names at the given indices (if not -1),
+     * followed by {@code extra}.
+     */
+    private static String generatePersons(int size, int invalidIndex, int otherInvalidIndex, String extra) {
+        StringBuilder persons = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            persons.append(generatePerson(i, i != invalidIndex && i != otherInvalidIndex));
+        }
+        return persons.append(extra).toString();
+    }
+
+    private static String generatePerson(int index, boolean isValid) {
+        return "<persons><name>" + (isValid ? "Person " + index : "Person #" + index) + "</name>"
+                + "<phone isPrivate=\"false\">" + index + "</phone>"
+                + "<email isPrivate=\"false\">p" + index + "@example.com</email>"
+                + "<address isPrivate=\"true\">Street " + index + "</address>"
+                + "<tagged>friends</tagged></persons>";
+    }
+
+    private static AdaptedAddressBook unmarshal(String persons) throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><AddressBook>" + persons
+                + "</AddressBook>";
+        return (AdaptedAddressBook) JAXBContext.newInstance(AdaptedAddressBook.class).createUnmarshaller()
+                .unmarshal(new StringReader(xml));
+    }
+}